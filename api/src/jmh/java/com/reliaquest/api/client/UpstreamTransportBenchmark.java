@@ -0,0 +1,113 @@
+package com.reliaquest.api.client;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.catalina.Context;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.coyote.http2.Http2Protocol;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fan-out of concurrent upstream reads over h2c against pooled HTTP/1.1.
+ * The upstream is an in-process Tomcat with the same HTTP/2 limits as the server, answering every request with a
+ * fixed payload after a fixed latency, so the difference is the transport alone.
+ *
+ * Run with ./gradlew api:jmh -PjmhIncludes=UpstreamTransportBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UpstreamTransportBenchmark {
+
+    private static final Duration LATENCY = Duration.ofMillis(5);
+
+    @Param({"H2C", "HTTP1"})
+    private UpstreamTransport transport;
+
+    @Param({"1", "16", "64"})
+    private int fanOut;
+
+    @Param({"1024", "262144"})
+    private int payloadBytes;
+
+    private Tomcat tomcat;
+    private RestTemplate restTemplate;
+    private ExecutorService executor;
+    private String url;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        byte[] payload = "x".repeat(payloadBytes).getBytes(StandardCharsets.US_ASCII);
+        tomcat = new Tomcat();
+        tomcat.setBaseDir(Files.createTempDirectory("upstream-transport").toString());
+        tomcat.setPort(0);
+        Http2Protocol http2 = new Http2Protocol();
+        http2.setMaxConcurrentStreams(100);
+        http2.setMaxConcurrentStreamExecution(100);
+        tomcat.getConnector().addUpgradeProtocol(http2);
+        Context context = tomcat.addContext("", null);
+        Tomcat.addServlet(context, "employee", new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                try {
+                    Thread.sleep(LATENCY.toMillis());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                response.setContentType("application/json");
+                response.setContentLength(payload.length);
+                response.getOutputStream().write(payload);
+            }
+        });
+        context.addServletMappingDecoded("/employee", "employee");
+        tomcat.start();
+
+        url = "http://localhost:" + tomcat.getConnector().getLocalPort() + "/employee";
+        restTemplate = new RestTemplate(transport.requestFactory(Duration.ofSeconds(2), Duration.ofSeconds(10)));
+        executor = Executors.newFixedThreadPool(fanOut);
+        // The first request upgrades to h2c, later ones are multiplexed over that connection
+        restTemplate.getForObject(url, byte[].class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        executor.shutdownNow();
+        tomcat.stop();
+        tomcat.destroy();
+    }
+
+    @Benchmark
+    public int fanOut() {
+        List<CompletableFuture<byte[]>> responses = new ArrayList<>(fanOut);
+        for (int i = 0; i < fanOut; i++) {
+            responses.add(CompletableFuture.supplyAsync(() -> restTemplate.getForObject(url, byte[].class), executor));
+        }
+        int bytes = 0;
+        for (CompletableFuture<byte[]> response : responses) {
+            bytes += response.join().length;
+        }
+        return bytes;
+    }
+}
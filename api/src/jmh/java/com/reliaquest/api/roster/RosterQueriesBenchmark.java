@@ -0,0 +1,83 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.dto.EmployeeDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sequential against parallel roster scans over growing rosters, to find the roster size from which the parallel
+ * scan wins on a given machine. Set employee.roster.parallel-threshold.scan and .search to those sizes.
+ *
+ * Run with ./gradlew api:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RosterQueriesBenchmark {
+
+    private static final String[] NAMES = {"John", "Jane", "Andrew", "Zoe", "Bob", "Alice", "Mark", "Sara"};
+
+    @Param({"10000", "50000", "100000", "500000", "1000000", "5000000"})
+    private int size;
+
+    @Param({"false", "true"})
+    private boolean parallel;
+
+    private ForkJoinPool pool;
+    private RosterSnapshot roster;
+    private RosterQueries queries;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        List<EmployeeDTO> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            employees.add(EmployeeDTO.builder()
+                    .id(UUID.randomUUID())
+                    .name(NAMES[random.nextInt(NAMES.length)] + " " + NAMES[random.nextInt(NAMES.length)] + "son")
+                    .salary(30000 + random.nextInt(470000))
+                    .age(16 + random.nextInt(55))
+                    .title("Title " + random.nextInt(200))
+                    .build());
+        }
+        roster = RosterSnapshot.of(employees);
+        pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        int threshold = parallel ? 0 : Integer.MAX_VALUE;
+        queries = new RosterQueries(pool, threshold, threshold);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public int maxSalary() {
+        return queries.maxSalary(roster);
+    }
+
+    @Benchmark
+    public int[] topSalaryRows() {
+        return queries.topSalaryRows(roster, 10);
+    }
+
+    @Benchmark
+    public int[] searchNameRows() {
+        return queries.searchNameRows(roster, "ane");
+    }
+}
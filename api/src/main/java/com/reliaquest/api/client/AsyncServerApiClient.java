@@ -0,0 +1,77 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.dto.CreateEmployeeRequestDTO;
+import com.reliaquest.api.dto.DeleteEmployeeResponseDTO;
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.dto.SingleEmployeeResponseDTO;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * CompletableFuture variant of the ServerApiClient.
+ * Each call runs through the primary ServerApiClient, so bulkheads, circuit breakers, hedging and fallbacks apply
+ * as for synchronous calls, on the executor passed by the caller. Callers isolate their upstream calls by passing
+ * their own pool, and a pool that rejects the call fails the future instead of throwing.
+ */
+@Component
+public class AsyncServerApiClient {
+
+    private final ServerApiClient serverApiClient;
+
+    public AsyncServerApiClient(ServerApiClient serverApiClient) {
+        this.serverApiClient = serverApiClient;
+    }
+
+    /**
+     * Get all employees
+     * @param executor pool running the upstream call
+     * @return future of the list of EmployeeDTO
+     */
+    public CompletableFuture<List<EmployeeDTO>> getAllEmployeeAsync(Executor executor) {
+        return supply(serverApiClient::getAllEmployee, executor);
+    }
+
+    /**
+     * Get employee by id
+     * @param id Employee id
+     * @param executor pool running the upstream call
+     * @return future of the EmployeeDTO of the employee searched by id
+     */
+    public CompletableFuture<EmployeeDTO> getEmployeeByIdAsync(String id, Executor executor) {
+        return supply(() -> serverApiClient.getEmployeeById(id), executor);
+    }
+
+    /**
+     * Create new employee
+     * @param createEmployeeRequestDTO Request DTO to create new employee
+     * @param executor pool running the upstream call
+     * @return future of the SingleEmployeeResponseDTO of the created employee
+     */
+    public CompletableFuture<SingleEmployeeResponseDTO> createEmployeeAsync(
+            CreateEmployeeRequestDTO createEmployeeRequestDTO, Executor executor) {
+        return supply(() -> serverApiClient.createEmployee(createEmployeeRequestDTO), executor);
+    }
+
+    /**
+     * Delete an employee looked up before
+     * @param employee employee to delete, as returned by getEmployeeByIdAsync
+     * @param executor pool running the upstream call
+     * @return future of the DeleteEmployeeResponseDTO of the deleted employee
+     */
+    public CompletableFuture<DeleteEmployeeResponseDTO> deleteEmployeeAsync(EmployeeDTO employee, Executor executor) {
+        return supply(() -> serverApiClient.deleteEmployee(employee), executor);
+    }
+
+    private static <T> CompletableFuture<T> supply(Supplier<T> call, Executor executor) {
+        try {
+            return CompletableFuture.supplyAsync(call, executor);
+        } catch (RejectedExecutionException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+}
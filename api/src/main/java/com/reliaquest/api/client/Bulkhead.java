@@ -0,0 +1,47 @@
+package com.reliaquest.api.client;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits the number of concurrent calls of one kind, so that a slow server can only tie up
+ * as many request threads as the limit allows.
+ */
+public class Bulkhead {
+
+    private final Semaphore permits;
+    private final long maxWaitNanos;
+
+    public Bulkhead(int maxConcurrentCalls, Duration maxWait) {
+        if (maxConcurrentCalls < 1) {
+            throw new IllegalArgumentException("Bulkhead must allow at least one concurrent call");
+        }
+        this.permits = new Semaphore(maxConcurrentCalls);
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    /**
+     * Enter the bulkhead, waiting at most the configured time for a free slot
+     * @return true if entered, in which case exit has to be called once the call completed
+     */
+    public boolean tryEnter() {
+        if (maxWaitNanos <= 0) {
+            return permits.tryAcquire();
+        }
+        try {
+            return permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public void exit() {
+        permits.release();
+    }
+
+    public int getAvailableSlots() {
+        return permits.availablePermits();
+    }
+}
@@ -0,0 +1,164 @@
+package com.reliaquest.api.client;
+
+import java.time.Duration;
+import java.util.function.BiConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Count based circuit breaker.
+ * The outcomes of the last calls are kept in a fixed size window. Once enough calls were recorded and the failure
+ * rate reaches the threshold, the circuit opens and calls are rejected for the open duration. After that a few trial
+ * calls are let through: the circuit closes when all of them succeed and opens again on the first failure.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    /**
+     * Circuit breaker settings
+     * @param windowSize number of most recent calls the failure rate is computed over
+     * @param minimumCalls number of calls to record before the circuit may open
+     * @param failureRateThreshold failure rate in percent at which the circuit opens
+     * @param openDuration time the circuit stays open before trial calls are let through
+     * @param halfOpenCalls number of trial calls that have to succeed to close the circuit again
+     */
+    public record Config(int windowSize, int minimumCalls, int failureRateThreshold, Duration openDuration,
+                         int halfOpenCalls) {
+        public Config {
+            if (windowSize < 1 || minimumCalls < 1 || halfOpenCalls < 1) {
+                throw new IllegalArgumentException("Circuit breaker window, minimum and half-open calls must be positive");
+            }
+            if (failureRateThreshold < 1 || failureRateThreshold > 100) {
+                throw new IllegalArgumentException("Circuit breaker failure rate threshold must be between 1 and 100");
+            }
+        }
+    }
+
+    private final String name;
+    private final Config config;
+    private final BiConsumer<State, State> transitionListener;
+    private final LongSupplier clock;
+
+    private final boolean[] window;
+    private int next;
+    private int recorded;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long openedAtNanos;
+    private int trialsInFlight;
+    private int trialsSucceeded;
+
+    public CircuitBreaker(String name, Config config, BiConsumer<State, State> transitionListener) {
+        this(name, config, transitionListener, System::nanoTime);
+    }
+
+    CircuitBreaker(String name, Config config, BiConsumer<State, State> transitionListener, LongSupplier clock) {
+        this.name = name;
+        this.config = config;
+        this.transitionListener = transitionListener;
+        this.clock = clock;
+        this.window = new boolean[config.windowSize()];
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Ask whether a call may go through. Every permitted call has to be followed by exactly one of
+     * onSuccess, onFailure or releasePermission.
+     * @return true if the call may go through
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.OPEN) {
+            if (clock.getAsLong() - openedAtNanos < config.openDuration().toNanos()) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (trialsInFlight + trialsSucceeded >= config.halfOpenCalls()) {
+            return false;
+        }
+        trialsInFlight++;
+        return true;
+    }
+
+    /**
+     * Record a call that reached the server and got an answer
+     */
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            trialsInFlight = Math.max(0, trialsInFlight - 1);
+            if (++trialsSucceeded >= config.halfOpenCalls()) {
+                transitionTo(State.CLOSED);
+            }
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    /**
+     * Record a call that failed because the server was unavailable, slow or rejected it
+     */
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (recorded >= config.minimumCalls() && failures * 100 >= config.failureRateThreshold() * recorded) {
+                transitionTo(State.OPEN);
+            }
+        }
+    }
+
+    /**
+     * Give back a permission whose call was never made
+     */
+    public synchronized void releasePermission() {
+        if (state == State.HALF_OPEN) {
+            trialsInFlight = Math.max(0, trialsInFlight - 1);
+        }
+    }
+
+    private void record(boolean failed) {
+        if (recorded == window.length) {
+            if (window[next]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        window[next] = failed;
+        if (failed) {
+            failures++;
+        }
+        next = (next + 1) % window.length;
+    }
+
+    private void transitionTo(State newState) {
+        State oldState = state;
+        state = newState;
+        trialsInFlight = 0;
+        trialsSucceeded = 0;
+        if (newState == State.OPEN) {
+            openedAtNanos = clock.getAsLong();
+        } else if (newState == State.CLOSED) {
+            next = 0;
+            recorded = 0;
+            failures = 0;
+        }
+        transitionListener.accept(oldState, newState);
+    }
+}
@@ -0,0 +1,114 @@
+package com.reliaquest.api.client;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Limits hedged requests to a fraction of the regular ones, and keeps them within the rate limit of the server.
+ * Every regular request earns part of a token and every hedge spends a whole one. The requests sent to the server
+ * within its rate limit period are tracked too, and a hedge is only sent while it leaves at least one request of the
+ * limit to regular traffic. The server's limit is configured rather than learned, so requests this budget does not
+ * see, e.g. writes or other clients behind the same address, can still lead to a 429. Once the server answers with
+ * 429 no hedges are sent until its Retry-After, or the cool down without one, has passed.
+ * There is one budget per server, since each server rate limits on its own.
+ */
+public class HedgeBudget {
+
+    private static final double MAX_TOKENS = 10;
+
+    private final double ratio;
+    private final long cooldownNanos;
+    private final boolean upstreamLimited;
+    private final long upstreamPeriodNanos;
+    private final long[] recentSends;
+    private final LongSupplier clock;
+    private double tokens;
+    private long suspendedUntilNanos;
+    private boolean suspended;
+    private int nextSend;
+    private int sends;
+
+    /**
+     * Budget for the hedges to one server
+     * @param ratio hedges allowed per regular request
+     * @param rateLimitCooldown time without hedges after a 429 without Retry-After
+     * @param upstreamLimit requests the server allows per period, 0 when it is unknown
+     * @param upstreamPeriod period of the server's rate limit
+     */
+    public HedgeBudget(double ratio, Duration rateLimitCooldown, int upstreamLimit, Duration upstreamPeriod) {
+        this(ratio, rateLimitCooldown, upstreamLimit, upstreamPeriod, System::nanoTime);
+    }
+
+    HedgeBudget(double ratio, Duration rateLimitCooldown, int upstreamLimit, Duration upstreamPeriod,
+                LongSupplier clock) {
+        this.ratio = ratio;
+        this.cooldownNanos = rateLimitCooldown.toNanos();
+        this.upstreamLimited = upstreamLimit > 0;
+        this.upstreamPeriodNanos = upstreamPeriod.toNanos();
+        // The oldest of the last limit - 1 requests tells whether a hedge still leaves one request of the limit
+        this.recentSends = new long[Math.max(0, upstreamLimit - 1)];
+        this.clock = clock;
+    }
+
+    /**
+     * Account for a regular request sent to the server
+     */
+    public synchronized void onRequest() {
+        tokens = Math.min(MAX_TOKENS, tokens + ratio);
+        recordSend(clock.getAsLong());
+    }
+
+    public synchronized boolean tryAcquire() {
+        long now = clock.getAsLong();
+        if (suspended && now - suspendedUntilNanos < 0) {
+            return false;
+        }
+        suspended = false;
+        if (tokens < 1 || !withinUpstreamLimit(now)) {
+            return false;
+        }
+        tokens -= 1;
+        recordSend(now);
+        return true;
+    }
+
+    /**
+     * Give back a token whose hedge was never sent
+     */
+    public synchronized void refund() {
+        tokens = Math.min(MAX_TOKENS, tokens + 1);
+    }
+
+    public synchronized void onRateLimited() {
+        onRateLimited(Duration.ofNanos(cooldownNanos));
+    }
+
+    /**
+     * Stop hedging for as long as the server asked clients to wait
+     * @param retryAfter delay from the Retry-After header of the 429 answer
+     */
+    public synchronized void onRateLimited(Duration retryAfter) {
+        tokens = 0;
+        suspended = true;
+        suspendedUntilNanos = clock.getAsLong() + retryAfter.toNanos();
+    }
+
+    private boolean withinUpstreamLimit(long now) {
+        if (!upstreamLimited) {
+            return true;
+        }
+        if (recentSends.length == 0) {
+            return false;
+        }
+        return sends < recentSends.length || now - recentSends[nextSend] >= upstreamPeriodNanos;
+    }
+
+    private void recordSend(long now) {
+        if (recentSends.length == 0) {
+            return;
+        }
+        recentSends[nextSend] = now;
+        nextSend = (nextSend + 1) % recentSends.length;
+        sends = Math.min(recentSends.length, sends + 1);
+    }
+}
@@ -0,0 +1,239 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.util.HttpHeaderUtil;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs idempotent reads against the server with hedging and adaptive timeouts.
+ * Latencies are tracked per operation in a rolling histogram. Once the primary request is slower than the hedge
+ * percentile, a second identical request is sent and the first answer wins. The overall timeout is a multiple of the
+ * timeout percentile, kept between the configured bounds. Hedges are paid from a HedgeBudget, so they stay a small
+ * fraction of the traffic, within the configured rate limit of the server, and stop as soon as the server rate limits.
+ * Each server gets its own reader from forUpstream, sharing the latency histograms but not the budget.
+ */
+public class HedgedReader {
+    private final static Logger log = LoggerFactory.getLogger(HedgedReader.class);
+
+    private static final int MIN_SAMPLES = 20;
+    private static final Duration HISTOGRAM_WINDOW = Duration.ofMinutes(1);
+    private static final int HISTOGRAM_SLICES = 6;
+
+    /**
+     * Hedging settings
+     * @param enabled whether reads are hedged and adaptively timed out at all
+     * @param hedgePercentile latency percentile after which a hedge is sent
+     * @param timeoutPercentile latency percentile the timeout is derived from
+     * @param timeoutMultiplier factor applied to the timeout percentile
+     * @param minTimeout lower bound of the adaptive timeout
+     * @param maxTimeout upper bound of the adaptive timeout, also used until enough latencies were recorded
+     * @param budgetRatio hedges allowed per regular request
+     * @param rateLimitCooldown time without hedges after the server answered with 429
+     * @param upstreamLimit requests a server allows per period, 0 when it is unknown
+     * @param upstreamPeriod period of the rate limit of a server
+     */
+    public record Config(boolean enabled, double hedgePercentile, double timeoutPercentile, double timeoutMultiplier,
+                         Duration minTimeout, Duration maxTimeout, double budgetRatio, Duration rateLimitCooldown,
+                         int upstreamLimit, Duration upstreamPeriod) {
+    }
+
+    private final Config config;
+    private final Executor executor;
+    private final MeterRegistry meterRegistry;
+    private final HedgeBudget budget;
+    private final ConcurrentMap<String, LatencyHistogram> histograms;
+
+    public HedgedReader(Config config, Executor executor, MeterRegistry meterRegistry) {
+        this(config, executor, meterRegistry, new ConcurrentHashMap<>());
+    }
+
+    private HedgedReader(Config config, Executor executor, MeterRegistry meterRegistry,
+                         ConcurrentMap<String, LatencyHistogram> histograms) {
+        this.config = config;
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+        this.histograms = histograms;
+        this.budget = new HedgeBudget(config.budgetRatio(), config.rateLimitCooldown(), config.upstreamLimit(),
+                config.upstreamPeriod());
+    }
+
+    /**
+     * Get a reader for one server, with its own hedge budget so that the rate limit of one server does not hold back
+     * the hedges to another
+     * @return HedgedReader sharing the settings and latency histograms of this one
+     */
+    public HedgedReader forUpstream() {
+        return new HedgedReader(config, executor, meterRegistry, histograms);
+    }
+
+    /**
+     * Run an idempotent read
+     * @param operation name of the read, latencies are tracked per operation
+     * @param call the read, it may be run more than once and on another thread
+     * @return the first answer of the server
+     * @throws ResourceAccessException if no answer arrived within the adaptive timeout
+     */
+    public <T> T read(String operation, Supplier<T> call) {
+        if (!config.enabled()) {
+            return call.get();
+        }
+
+        LatencyHistogram histogram = histogram(operation);
+        long timeoutNanos = timeoutNanos(histogram);
+        long deadline = System.nanoTime() + timeoutNanos;
+        budget.onRequest();
+
+        CompletableFuture<T> primary;
+        try {
+            primary = attempt(histogram, call);
+        } catch (RejectedExecutionException ex) {
+            return call.get();
+        }
+
+        try {
+            CompletableFuture<T> response = primary;
+            long hedgeDelayNanos = hedgeDelayNanos(histogram);
+            if (hedgeDelayNanos > 0 && hedgeDelayNanos < timeoutNanos
+                    && !completesWithin(primary, hedgeDelayNanos) && budget.tryAcquire()) {
+                response = hedge(operation, histogram, call, primary);
+            }
+            return response.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            meterRegistry.counter("employee.client.read.timeouts", "operation", operation).increment();
+            throw new ResourceAccessException("Employee Service did not answer within "
+                    + TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + " ms");
+        } catch (ExecutionException ex) {
+            throw unwrap(ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException("Interrupted while waiting for Employee Service");
+        }
+    }
+
+    LatencyHistogram histogram(String operation) {
+        return histograms.computeIfAbsent(operation, name -> {
+            LatencyHistogram histogram = new LatencyHistogram(HISTOGRAM_WINDOW, HISTOGRAM_SLICES);
+            Gauge.builder("employee.client.read.timeout", histogram, h -> timeoutNanos(h) / 1_000_000.0)
+                    .tag("operation", name)
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+            return histogram;
+        });
+    }
+
+    private <T> CompletableFuture<T> hedge(String operation, LatencyHistogram histogram, Supplier<T> call,
+                                           CompletableFuture<T> primary) {
+        CompletableFuture<T> hedge;
+        try {
+            hedge = attempt(histogram, call);
+        } catch (RejectedExecutionException ex) {
+            budget.refund();
+            return primary;
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Sent hedged {} request to Employee Service", operation);
+        }
+        meterRegistry.counter("employee.client.hedges", "operation", operation, "outcome", "sent").increment();
+        hedge.thenRun(() -> {
+            if (!primary.isDone() || primary.isCompletedExceptionally()) {
+                meterRegistry.counter("employee.client.hedges", "operation", operation, "outcome", "won").increment();
+            }
+        });
+        return firstAnswer(primary, hedge);
+    }
+
+    private <T> CompletableFuture<T> attempt(LatencyHistogram histogram, Supplier<T> call) {
+        return CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
+            try {
+                T result = call.get();
+                histogram.record(System.nanoTime() - start);
+                return result;
+            } catch (HttpClientErrorException.TooManyRequests ex) {
+                Optional<Duration> retryAfter = HttpHeaderUtil.getRetryAfter(ex.getResponseHeaders());
+                if (retryAfter.isPresent()) {
+                    budget.onRateLimited(retryAfter.get());
+                } else {
+                    budget.onRateLimited();
+                }
+                throw ex;
+            } catch (HttpStatusCodeException ex) {
+                histogram.record(System.nanoTime() - start);
+                throw ex;
+            }
+        }, executor);
+    }
+
+    private long timeoutNanos(LatencyHistogram histogram) {
+        long maxNanos = config.maxTimeout().toNanos();
+        if (histogram.count() < MIN_SAMPLES) {
+            return maxNanos;
+        }
+        long adaptive = (long) (histogram.percentileNanos(config.timeoutPercentile()) * config.timeoutMultiplier());
+        return Math.min(maxNanos, Math.max(config.minTimeout().toNanos(), adaptive));
+    }
+
+    private long hedgeDelayNanos(LatencyHistogram histogram) {
+        return histogram.count() < MIN_SAMPLES ? 0 : histogram.percentileNanos(config.hedgePercentile());
+    }
+
+    /*
+    * Completes with the first successful answer, or with a client error other than 429 since the other request
+    * would get the same. Other failures only count once both requests failed.
+    */
+    private static <T> CompletableFuture<T> firstAnswer(CompletableFuture<T> primary, CompletableFuture<T> hedge) {
+        CompletableFuture<T> answer = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        for (CompletableFuture<T> request : List.of(primary, hedge)) {
+            request.whenComplete((result, ex) -> {
+                if (ex == null) {
+                    answer.complete(result);
+                } else if (isDefinitive(unwrap(ex)) || failures.incrementAndGet() == 2) {
+                    answer.completeExceptionally(unwrap(ex));
+                }
+            });
+        }
+        return answer;
+    }
+
+    private static boolean completesWithin(CompletableFuture<?> future, long nanos) throws InterruptedException {
+        try {
+            future.get(nanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            return false;
+        } catch (ExecutionException ex) {
+            // reported once the response is awaited
+        }
+        return true;
+    }
+
+    private static boolean isDefinitive(Throwable ex) {
+        return ex instanceof HttpClientErrorException && !(ex instanceof HttpClientErrorException.TooManyRequests);
+    }
+
+    private static RuntimeException unwrap(Throwable ex) {
+        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        return cause instanceof RuntimeException runtime ? runtime : new CompletionException(cause);
+    }
+}
@@ -0,0 +1,108 @@
+package com.reliaquest.api.client;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+/**
+ * Latency histogram over a rolling time window.
+ * Latencies are counted in buckets growing by 10% from 100 microseconds to a minute. The window is split into slices and the
+ * oldest slice is cleared as time moves on, so percentiles follow the recent behaviour of the server.
+ */
+public class LatencyHistogram {
+
+    private static final long[] BUCKET_BOUNDS = bucketBounds();
+
+    private final long[][] slices;
+    private final long sliceNanos;
+    private final LongSupplier clock;
+    private int currentSlice;
+    private long currentSliceStart;
+
+    public LatencyHistogram(Duration window, int sliceCount) {
+        this(window, sliceCount, System::nanoTime);
+    }
+
+    LatencyHistogram(Duration window, int sliceCount, LongSupplier clock) {
+        this.slices = new long[sliceCount][BUCKET_BOUNDS.length + 1];
+        this.sliceNanos = window.toNanos() / sliceCount;
+        this.clock = clock;
+        this.currentSliceStart = clock.getAsLong();
+    }
+
+    /**
+     * Record the latency of one call
+     * @param nanos latency in nanoseconds
+     */
+    public synchronized void record(long nanos) {
+        rotate();
+        int bucket = Arrays.binarySearch(BUCKET_BOUNDS, nanos);
+        slices[currentSlice][bucket >= 0 ? bucket : -bucket - 1]++;
+    }
+
+    /**
+     * Get the number of latencies recorded within the window
+     * @return count of recorded latencies
+     */
+    public synchronized long count() {
+        rotate();
+        long count = 0;
+        for (long[] slice : slices) {
+            for (long bucketCount : slice) {
+                count += bucketCount;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get a percentile of the latencies recorded within the window
+     * @param percentile between 0 and 1
+     * @return upper bound in nanoseconds of the bucket holding the percentile, 0 when nothing was recorded
+     */
+    public synchronized long percentileNanos(double percentile) {
+        long total = count();
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile * total));
+        long seen = 0;
+        for (int bucket = 0; bucket <= BUCKET_BOUNDS.length; bucket++) {
+            for (long[] slice : slices) {
+                seen += slice[bucket];
+            }
+            if (seen >= rank) {
+                return BUCKET_BOUNDS[Math.min(bucket, BUCKET_BOUNDS.length - 1)];
+            }
+        }
+        return BUCKET_BOUNDS[BUCKET_BOUNDS.length - 1];
+    }
+
+    private void rotate() {
+        long elapsed = clock.getAsLong() - currentSliceStart;
+        if (elapsed < sliceNanos) {
+            return;
+        }
+
+        long steps = elapsed / sliceNanos;
+        for (int i = 0; i < Math.min(steps, slices.length); i++) {
+            currentSlice = (currentSlice + 1) % slices.length;
+            Arrays.fill(slices[currentSlice], 0);
+        }
+        currentSliceStart += steps * sliceNanos;
+    }
+
+    private static long[] bucketBounds() {
+        long max = Duration.ofMinutes(1).toNanos();
+        long[] bounds = new long[256];
+        int count = 0;
+        for (double bound = 100_000; count < bounds.length; bound *= 1.1) {
+            bounds[count++] = (long) bound;
+            if (bound >= max) {
+                break;
+            }
+        }
+        return Arrays.copyOf(bounds, count);
+    }
+}
@@ -0,0 +1,117 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.exception.CallRejectedException;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.InvalidRequestException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Circuit breaker and bulkhead guarding one kind of server call, together with their metrics.
+ * Meters are tagged with the operation name:
+ * employee.client.circuit.state (0 closed, 1 open, 2 half-open), employee.client.circuit.transitions,
+ * employee.client.calls.rejected (reason circuit_open or bulkhead_full) and employee.client.bulkhead.available.
+ */
+public class OperationGuard {
+    private final static Logger log = LoggerFactory.getLogger(OperationGuard.class);
+
+    private final String operation;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Counter circuitOpenRejections;
+    private final Counter bulkheadFullRejections;
+
+    public OperationGuard(String operation, CircuitBreaker.Config circuitBreakerConfig, int maxConcurrentCalls,
+                          Duration maxWait, MeterRegistry meterRegistry) {
+        this.operation = operation;
+        this.circuitBreaker = new CircuitBreaker(operation, circuitBreakerConfig,
+                (from, to) -> onTransition(from, to, meterRegistry));
+        this.bulkhead = new Bulkhead(maxConcurrentCalls, maxWait);
+        this.circuitOpenRejections = rejectionCounter(meterRegistry, "circuit_open");
+        this.bulkheadFullRejections = rejectionCounter(meterRegistry, "bulkhead_full");
+
+        Gauge.builder("employee.client.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .tag("operation", operation)
+                .register(meterRegistry);
+        Gauge.builder("employee.client.bulkhead.available", bulkhead, Bulkhead::getAvailableSlots)
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    public CircuitBreaker.State getState() {
+        return circuitBreaker.getState();
+    }
+
+    /**
+     * Run a call that has no fallback
+     * @param call server call
+     * @return result of the call
+     * @throws CallRejectedException if the circuit is open or the bulkhead is full
+     */
+    public <T> T execute(Supplier<T> call) {
+        return execute(call, Optional::empty);
+    }
+
+    /**
+     * Run a call, falling back when it is rejected
+     * @param call server call
+     * @param fallback result to use while the circuit is open or the bulkhead is full, if any
+     * @return result of the call or of the fallback
+     * @throws CallRejectedException if the call is rejected and there is no fallback
+     */
+    public <T> T execute(Supplier<T> call, Supplier<Optional<T>> fallback) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            circuitOpenRejections.increment();
+            return fallback(fallback, "circuit is open");
+        }
+        if (!bulkhead.tryEnter()) {
+            circuitBreaker.releasePermission();
+            bulkheadFullRejections.increment();
+            return fallback(fallback, "too many concurrent calls");
+        }
+
+        try {
+            T result = call.get();
+            circuitBreaker.onSuccess();
+            return result;
+        } catch (EmployeeNotFoundException | InvalidRequestException ex) {
+            // The server answered, the request itself was wrong
+            circuitBreaker.onSuccess();
+            throw ex;
+        } catch (RuntimeException ex) {
+            circuitBreaker.onFailure();
+            throw ex;
+        } finally {
+            bulkhead.exit();
+        }
+    }
+
+    private <T> T fallback(Supplier<Optional<T>> fallback, String reason) {
+        if (log.isDebugEnabled()) {
+            log.debug("Rejected {} call to Employee Service: {}", operation, reason);
+        }
+        return fallback.get().orElseThrow(() -> new CallRejectedException(
+                "Employee Service is unavailable, " + reason + ". Please try again later."));
+    }
+
+    private void onTransition(CircuitBreaker.State from, CircuitBreaker.State to, MeterRegistry meterRegistry) {
+        log.warn("Circuit breaker for {} calls changed from {} to {}", operation, from, to);
+        meterRegistry.counter("employee.client.circuit.transitions",
+                        "operation", operation, "from", from.name(), "to", to.name())
+                .increment();
+    }
+
+    private Counter rejectionCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("employee.client.calls.rejected")
+                .tag("operation", operation)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,118 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.dto.*;
+import com.reliaquest.api.exception.CallRejectedException;
+import com.reliaquest.api.roster.RosterCache;
+import com.reliaquest.api.roster.RosterSnapshot;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * ServerApiClient decorator that isolates each kind of server call behind its own circuit breaker and bulkhead,
+ * so that a slow or rate limiting server cannot tie up every request thread.
+ * While a read is rejected it is answered from the last roster fetched from the server, rejected writes fail fast.
+ */
+public class ResilientServerApiClient implements ServerApiClient {
+
+    private final ServerApiClient delegate;
+    private final RosterCache rosterCache;
+    private final OperationGuard listGuard;
+    private final OperationGuard byIdGuard;
+    private final OperationGuard writeGuard;
+
+    public ResilientServerApiClient(ServerApiClient delegate, RosterCache rosterCache, OperationGuard listGuard,
+                                    OperationGuard byIdGuard, OperationGuard writeGuard) {
+        this.delegate = delegate;
+        this.rosterCache = rosterCache;
+        this.listGuard = listGuard;
+        this.byIdGuard = byIdGuard;
+        this.writeGuard = writeGuard;
+    }
+
+    /**
+     * Get all employees
+     * @return List of EmployeeDTO, the last fetched roster while list calls are rejected
+     */
+    @Override
+    public List<EmployeeDTO> getAllEmployee() {
+        return listGuard.execute(delegate::getAllEmployee,
+                () -> rosterCache.latestSnapshot().map(RosterSnapshot::toEmployees));
+    }
+
+    /**
+     * Get all employees from the server
+     * @return List of EmployeeDTO
+     * @throws CallRejectedException while list calls are rejected
+     */
+    @Override
+    public List<EmployeeDTO> getAllEmployeeWithoutFallback() {
+        return listGuard.execute(delegate::getAllEmployee);
+    }
+
+    /**
+     * Get employee by id
+     * @param id Employee id
+     * @return EmployeeDTO of the employee searched by id, looked up in the last fetched roster while calls are rejected
+     */
+    @Override
+    public EmployeeDTO getEmployeeById(String id) {
+        return byIdGuard.execute(() -> delegate.getEmployeeById(id), () -> cachedEmployee(id));
+    }
+
+    /**
+     * Create new employee
+     * @param createEmployeeRequestDTO Request DTO to create new employee
+     * @return SingleEmployeeResponseDTO of the created employee
+     */
+    @Override
+    public SingleEmployeeResponseDTO createEmployee(CreateEmployeeRequestDTO createEmployeeRequestDTO) {
+        return writeGuard.execute(() -> delegate.createEmployee(createEmployeeRequestDTO));
+    }
+
+    /**
+     * Create several employees in one request
+     * @param createEmployeeRequestDTOs Request DTOs of the employees to create
+     * @param keys key per employee, in request order
+     * @return List of EmployeeDTO of the created employees, in request order
+     */
+    @Override
+    public List<EmployeeDTO> createEmployees(List<CreateEmployeeRequestDTO> createEmployeeRequestDTOs,
+                                            List<String> keys) {
+        return writeGuard.execute(() -> delegate.createEmployees(createEmployeeRequestDTOs, keys));
+    }
+
+    /**
+     * Delete employee by name
+     * @param deleteEmployeeRequestDTO Request DTO to delete employee
+     * @return DeleteEmployeeResponseDTO of the deleted employee
+     */
+    @Override
+    public DeleteEmployeeResponseDTO deleteEmployeeByName(DeleteEmployeeRequestDTO deleteEmployeeRequestDTO) {
+        return writeGuard.execute(() -> delegate.deleteEmployeeByName(deleteEmployeeRequestDTO));
+    }
+
+    /**
+     * Delete an employee looked up before
+     * @param employee employee to delete
+     * @return DeleteEmployeeResponseDTO of the deleted employee
+     */
+    @Override
+    public DeleteEmployeeResponseDTO deleteEmployee(EmployeeDTO employee) {
+        return writeGuard.execute(() -> delegate.deleteEmployee(employee));
+    }
+
+    private Optional<EmployeeDTO> cachedEmployee(String id) {
+        Optional<RosterSnapshot> roster = rosterCache.latestSnapshot();
+        if (roster.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            int row = roster.get().indexOf(UUID.fromString(id));
+            return row < 0 ? Optional.empty() : Optional.of(roster.get().toEmployee(row));
+        } catch (IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+}
@@ -16,6 +16,14 @@ public interface ServerApiClient {
      */
     List<EmployeeDTO> getAllEmployee();
 
+    /**
+     * Get all employees from the server, failing instead of answering from the cached roster while calls are rejected
+     * @return List of EmployeeDTO
+     */
+    default List<EmployeeDTO> getAllEmployeeWithoutFallback() {
+        return getAllEmployee();
+    }
+
     /**
      * Get employee by id
      * @param id Employee id
@@ -30,10 +38,29 @@ public interface ServerApiClient {
      */
     SingleEmployeeResponseDTO createEmployee(CreateEmployeeRequestDTO createEmployeeRequestDTO);
 
+    /**
+     * Create several employees in one request
+     * @param createEmployeeRequestDTOs Request DTOs of the employees to create
+     * @param keys key per employee, in request order, a key sent before gets the employee it created back instead of
+     *             creating another one, so a batch can be retried when it is unknown whether the server processed it
+     * @return List of EmployeeDTO of the created employees, in request order
+     */
+    List<EmployeeDTO> createEmployees(List<CreateEmployeeRequestDTO> createEmployeeRequestDTOs, List<String> keys);
+
     /**
      * Delete employee by id
      * @param deleteEmployeeRequestDTO Request DTO to delete employee
      * @return DeleteEmployeeResponseDTO of the deleted employee
      */
     DeleteEmployeeResponseDTO deleteEmployeeByName(DeleteEmployeeRequestDTO deleteEmployeeRequestDTO);
+
+    /**
+     * Delete an employee looked up before, which the server deletes by name
+     * A client over several servers sends the delete to the server owning the id of the employee
+     * @param employee employee to delete, as returned by getEmployeeById
+     * @return DeleteEmployeeResponseDTO of the deleted employee
+     */
+    default DeleteEmployeeResponseDTO deleteEmployee(EmployeeDTO employee) {
+        return deleteEmployeeByName(DeleteEmployeeRequestDTO.builder().name(employee.getName()).build());
+    }
 }
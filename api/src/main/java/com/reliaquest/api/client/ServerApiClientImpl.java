@@ -9,7 +9,6 @@ import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.*;
-import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestClientException;
@@ -20,13 +19,14 @@ import java.util.List;
 /**
  * Implementation of the ServerApiClient interface for interacting with the Server.
  * This class handles HTTP requests and responses, including error handling.
+ * There is one instance per server, see RestTemplateConfig.
  */
-@Service
 @RequiredArgsConstructor
 public class ServerApiClientImpl implements ServerApiClient {
 
     private static final Logger log = LoggerFactory.getLogger(ServerApiClientImpl.class);
     private final RestTemplate restTemplate;
+    private final HedgedReader hedgedReader;
     private final static String BASE_ENDPOINT = "/employee";
 
     /**
@@ -36,7 +36,8 @@ public class ServerApiClientImpl implements ServerApiClient {
     @Override
     public List<EmployeeDTO> getAllEmployee() {
         try {
-            EmployeeResponseDTO response = restTemplate.getForObject(BASE_ENDPOINT, EmployeeResponseDTO.class);
+            EmployeeResponseDTO response = hedgedReader.read("list",
+                    () -> restTemplate.getForObject(BASE_ENDPOINT, EmployeeResponseDTO.class));
 
             if (response == null || response.getData() == null) {
                 throw new ExternalServiceException("Received null or empty response from Employee Service");
@@ -62,8 +63,8 @@ public class ServerApiClientImpl implements ServerApiClient {
         String endpoint = BASE_ENDPOINT + "/" + id;
 
         try {
-            SingleEmployeeResponseDTO response =
-                    restTemplate.getForObject(endpoint, SingleEmployeeResponseDTO.class);
+            SingleEmployeeResponseDTO response = hedgedReader.read("byId",
+                    () -> restTemplate.getForObject(endpoint, SingleEmployeeResponseDTO.class));
 
             if(log.isDebugEnabled()) {
                 log.debug("Response from getEmployeeById: {}", response);
@@ -76,6 +77,9 @@ public class ServerApiClientImpl implements ServerApiClient {
 
             return response.getData();
 
+        } catch (HttpClientErrorException.TooManyRequests ex) {
+            log.error("Rate limited while fetching employee with id {}: {}", id, ex.getMessage(), ex);
+            throw new ExternalServiceException("Employee Service is rate limiting requests", ex);
         } catch (HttpClientErrorException ex) {
             // If server responds with 404
             log.error("Employee not found with id {}: {}", id, ex.getMessage(), ex);
@@ -109,6 +113,9 @@ public class ServerApiClientImpl implements ServerApiClient {
             }
 
             return response.getBody();
+        } catch (HttpClientErrorException.TooManyRequests e) {
+            log.error("Rate limited while adding new employee: {}", e.getMessage(), e);
+            throw new ExternalServiceException("Employee Service is rate limiting requests", e);
         } catch (HttpClientErrorException e) {
             // Handle 4xx errors
             log.error("Client error while adding new employee: {}", e.getMessage(), e);
@@ -124,6 +131,46 @@ public class ServerApiClientImpl implements ServerApiClient {
     }
 
 
+    /**
+     * Create several employees in one request
+     * @param createEmployeeRequestDTOs Request DTOs of the employees to create
+     * @param keys key per employee, in request order
+     * @return List of EmployeeDTO of the created employees, in request order
+     */
+    @Override
+    public List<EmployeeDTO> createEmployees(List<CreateEmployeeRequestDTO> createEmployeeRequestDTOs,
+                                            List<String> keys) {
+        try {
+            HttpEntity<CreateEmployeesRequestDTO> requestEntity = new HttpEntity<>(
+                    CreateEmployeesRequestDTO.builder().employees(createEmployeeRequestDTOs).keys(keys).build(),
+                    HttpHeaderUtil.getDefaultHeaders());
+
+            EmployeeResponseDTO response = restTemplate.postForObject(
+                    BASE_ENDPOINT + "/batch",
+                    requestEntity,
+                    EmployeeResponseDTO.class
+            );
+
+            if (response == null || response.getData() == null) {
+                throw new ExternalServiceException("Received null or empty response from Employee Service");
+            }
+            return response.getData();
+        } catch (HttpClientErrorException.TooManyRequests e) {
+            log.error("Rate limited while adding {} employees: {}", createEmployeeRequestDTOs.size(), e.getMessage());
+            throw new ExternalServiceException("Employee Service is rate limiting requests", e);
+        } catch (HttpClientErrorException e) {
+            log.error("Client error while adding {} employees: {}", createEmployeeRequestDTOs.size(), e.getMessage(), e);
+            throw new InvalidRequestException("Failed to create employees: " + e.getStatusCode().value());
+        } catch (HttpServerErrorException e) {
+            log.error("Server error while adding {} employees: {}", createEmployeeRequestDTOs.size(), e.getMessage(), e);
+            throw new ExternalServiceException("Failed to create employees due to server error: " + e.getStatusCode().value());
+        } catch (RestClientException e) {
+            log.error("Unexpected error while adding {} employees", createEmployeeRequestDTOs.size(), e);
+            throw new ExternalServiceException("Unable to create employees at the moment. Please try again later.", e);
+        }
+    }
+
+
     /**
      * Delete employee by id
      * @param deleteEmployeeRequestDTO Request DTO to delete employee
@@ -151,6 +198,9 @@ public class ServerApiClientImpl implements ServerApiClient {
         } catch (HttpClientErrorException.NotFound e) {
             log.error("Employee with name '{}' not found.", deleteEmployeeRequestDTO.getName(), e);
             throw new EmployeeNotFoundException("Employee with name '" + deleteEmployeeRequestDTO.getName() + "' not found.");
+        } catch (HttpClientErrorException.TooManyRequests e) {
+            log.error("Rate limited during deleteEmployeeByName: {}", e.getMessage(), e);
+            throw new ExternalServiceException("Employee Service is rate limiting requests", e);
         } catch (HttpClientErrorException e) {
             log.error("Client error during deleteEmployeeByName: {}", e.getResponseBodyAsString(), e);
             throw new InvalidRequestException("Invalid request: " + e.getStatusCode());
@@ -0,0 +1,192 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.dto.*;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ServerApiClient over a roster partitioned across several servers, with one client per shard.
+ * An employee belongs to shard floorMod(id.hashCode(), shards) and every server only generates ids of its own shard,
+ * see mock.shard in the server, so a lookup by id goes to the single shard owning the id. Creates are spread round
+ * robin over the shards, a batch going to one shard as a whole.
+ * The list is gathered from every shard in parallel and concatenated in shard order, so searches, top earners and
+ * aggregates of the cached roster cover every shard. Any shard failing fails the list, as a partial roster would
+ * silently skew every aggregate. Deleting an employee that was looked up goes to the shard owning its id, so a
+ * namesake on another shard is left alone. Deletes by name alone try the shards in order until one deletes,
+ * removing the first match of the gathered roster just as a single server removes its first match.
+ */
+public class ShardedServerApiClient implements ServerApiClient {
+    private final static Logger log = LoggerFactory.getLogger(ShardedServerApiClient.class);
+
+    private final List<ServerApiClient> shards;
+    private final Executor executor;
+    private final AtomicInteger nextCreateShard = new AtomicInteger();
+
+    public ShardedServerApiClient(List<ServerApiClient> shards, Executor executor) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("At least one shard is required");
+        }
+        this.shards = List.copyOf(shards);
+        this.executor = executor;
+    }
+
+    /**
+     * Shard owning an employee, the same function the server generates the ids of its shard with
+     * @param id Employee id
+     * @param shards number of shards
+     * @return index of the shard between 0 and shards - 1
+     */
+    public static int shardOf(UUID id, int shards) {
+        return Math.floorMod(id.hashCode(), shards);
+    }
+
+    /**
+     * Get all employees of every shard
+     * @return List of EmployeeDTO, the employees of each shard in shard order
+     */
+    @Override
+    public List<EmployeeDTO> getAllEmployee() {
+        // The other shards are fetched on the fan-out pool while the first one is fetched on this thread
+        List<CompletableFuture<List<EmployeeDTO>>> fanOut = new ArrayList<>(shards.size() - 1);
+        for (int shard = 1; shard < shards.size(); shard++) {
+            fanOut.add(fetch(shard));
+        }
+
+        List<List<EmployeeDTO>> parts = new ArrayList<>(shards.size());
+        parts.add(fetchNow(0));
+        for (int shard = 1; shard < shards.size(); shard++) {
+            CompletableFuture<List<EmployeeDTO>> part = fanOut.get(shard - 1);
+            parts.add(part != null ? join(part) : fetchNow(shard));
+        }
+
+        int size = parts.stream().mapToInt(List::size).sum();
+        List<EmployeeDTO> employees = new ArrayList<>(size);
+        parts.forEach(employees::addAll);
+        if (log.isDebugEnabled()) {
+            log.debug("Gathered {} employees from {} shards", size, shards.size());
+        }
+        return employees;
+    }
+
+    /**
+     * Get employee by id from the shard owning the id
+     * @param id Employee id
+     * @return EmployeeDTO of the employee searched by id
+     */
+    @Override
+    public EmployeeDTO getEmployeeById(String id) {
+        UUID uuid;
+        try {
+            uuid = UUID.fromString(id);
+        } catch (IllegalArgumentException ex) {
+            // A single server answers 400 to an id that is not a UUID, which the client reports as not found
+            throw new EmployeeNotFoundException("Employee not found with id: " + id);
+        }
+        return shards.get(shardOf(uuid, shards.size())).getEmployeeById(id);
+    }
+
+    /**
+     * Create new employee on the next shard
+     * @param createEmployeeRequestDTO Request DTO to create new employee
+     * @return SingleEmployeeResponseDTO of the created employee
+     */
+    @Override
+    public SingleEmployeeResponseDTO createEmployee(CreateEmployeeRequestDTO createEmployeeRequestDTO) {
+        return shards.get(nextCreateShard()).createEmployee(createEmployeeRequestDTO);
+    }
+
+    /**
+     * Create several employees in one request to one shard, the same one for every retry of the batch
+     * @param createEmployeeRequestDTOs Request DTOs of the employees to create
+     * @param keys key per employee, in request order
+     * @return List of EmployeeDTO of the created employees, in request order
+     */
+    @Override
+    public List<EmployeeDTO> createEmployees(List<CreateEmployeeRequestDTO> createEmployeeRequestDTOs,
+                                            List<String> keys) {
+        // A retry must reach the shard that remembers the keys of the first attempt
+        int shard = keys == null || keys.isEmpty()
+                ? nextCreateShard()
+                : Math.floorMod(keys.get(0).hashCode(), shards.size());
+        return shards.get(shard).createEmployees(createEmployeeRequestDTOs, keys);
+    }
+
+    /**
+     * Delete the first employee with the name, trying the shards in order
+     * @param deleteEmployeeRequestDTO Request DTO to delete employee
+     * @return DeleteEmployeeResponseDTO of the shard that deleted the employee, or of the last shard when none did
+     */
+    @Override
+    public DeleteEmployeeResponseDTO deleteEmployeeByName(DeleteEmployeeRequestDTO deleteEmployeeRequestDTO) {
+        DeleteEmployeeResponseDTO response = null;
+        EmployeeNotFoundException notFound = null;
+        for (ServerApiClient shard : shards) {
+            try {
+                response = shard.deleteEmployeeByName(deleteEmployeeRequestDTO);
+                if (response != null && Boolean.TRUE.equals(response.getData())) {
+                    return response;
+                }
+            } catch (EmployeeNotFoundException ex) {
+                notFound = ex;
+            }
+        }
+        if (response == null && notFound != null) {
+            throw notFound;
+        }
+        return response;
+    }
+
+    /**
+     * Delete an employee on the shard owning its id
+     * Within that shard the server still deletes the first employee with the name, as it deletes by name only.
+     * @param employee employee to delete, as returned by getEmployeeById
+     * @return DeleteEmployeeResponseDTO of the owning shard
+     */
+    @Override
+    public DeleteEmployeeResponseDTO deleteEmployee(EmployeeDTO employee) {
+        if (employee.getId() == null) {
+            return ServerApiClient.super.deleteEmployee(employee);
+        }
+        return shards.get(shardOf(employee.getId(), shards.size())).deleteEmployee(employee);
+    }
+
+    private int nextCreateShard() {
+        return Math.floorMod(nextCreateShard.getAndIncrement(), shards.size());
+    }
+
+    private CompletableFuture<List<EmployeeDTO>> fetch(int shard) {
+        try {
+            return CompletableFuture.supplyAsync(() -> fetchNow(shard), executor);
+        } catch (RejectedExecutionException ex) {
+            // Every fan-out thread is busy, the shard is fetched on this thread instead
+            return null;
+        }
+    }
+
+    private List<EmployeeDTO> fetchNow(int shard) {
+        try {
+            return shards.get(shard).getAllEmployee();
+        } catch (RuntimeException ex) {
+            log.error("Failed to fetch shard {} of {}: {}", shard, shards.size(), ex.getMessage());
+            throw ex;
+        }
+    }
+
+    private static List<EmployeeDTO> join(CompletableFuture<List<EmployeeDTO>> part) {
+        try {
+            return part.join();
+        } catch (CompletionException ex) {
+            throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+        }
+    }
+}
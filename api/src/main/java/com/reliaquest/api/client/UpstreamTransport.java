@@ -0,0 +1,61 @@
+package com.reliaquest.api.client;
+
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Transport of the requests to the server.
+ * H2C multiplexes concurrent requests as streams of one cleartext HTTP/2 connection, negotiated with an HTTP/1.1
+ * upgrade on the first request. HTTP1 keeps a pool of HTTP/1.1 connections, one for every request in flight.
+ */
+public enum UpstreamTransport {
+    H2C(HttpClient.Version.HTTP_2),
+    HTTP1(HttpClient.Version.HTTP_1_1);
+
+    private final HttpClient.Version version;
+
+    UpstreamTransport(HttpClient.Version version) {
+        this.version = version;
+    }
+
+    public static UpstreamTransport of(String name) {
+        return valueOf(name.trim().toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Create a request factory over a JDK HttpClient speaking this transport
+     * @param connectTimeout time to open a connection
+     * @param readTimeout time to wait for a response
+     * @return ClientHttpRequestFactory
+     */
+    public ClientHttpRequestFactory requestFactory(Duration connectTimeout, Duration readTimeout) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(version)
+                .connectTimeout(connectTimeout)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+        return requestFactory;
+    }
+
+    /**
+     * Set the HTTP/2 flow control windows of the JDK HttpClient, which reads them from system properties when it
+     * opens a connection. Values given on the command line win.
+     * @param streamWindow bytes the server may send on one stream before it waits for a window update
+     * @param connectionWindow bytes the server may send on the whole connection before it waits for a window update
+     */
+    public static void configureHttp2Windows(int streamWindow, int connectionWindow) {
+        setIfAbsent("jdk.httpclient.windowsize", streamWindow);
+        setIfAbsent("jdk.httpclient.connectionWindowSize", connectionWindow);
+    }
+
+    private static void setIfAbsent(String property, int value) {
+        if (System.getProperty(property) == null) {
+            System.setProperty(property, Integer.toString(value));
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.service.AsyncEndpoints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dedicated executors, so that work fanned out to the server never competes with servlet threads
+ * or the common fork-join pool.
+ */
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * Bounded pool for concurrent getEmployeeById calls of multi-id lookups.
+     * Work beyond the queue capacity is rejected and reported per id instead of piling up.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService employeeLookupExecutor(@Value("${employee.multiget.parallelism:8}") int parallelism,
+                                                  @Value("${employee.multiget.queue-capacity:256}") int queueCapacity) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(parallelism, parallelism, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("employee-lookup-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * One bounded pool and timeout per asynchronous endpoint.
+     * Each endpoint reads employee.async.endpoints.{endpoint}.threads, queue-capacity and timeout, falling back to
+     * employee.async.defaults.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public AsyncEndpoints asyncEndpoints(Environment environment) {
+        int threads = environment.getProperty("employee.async.defaults.threads", Integer.class, 4);
+        int queueCapacity = environment.getProperty("employee.async.defaults.queue-capacity", Integer.class, 64);
+        Duration timeout = environment.getProperty("employee.async.defaults.timeout", Duration.class,
+                Duration.ofSeconds(5));
+
+        Map<AsyncEndpoints.Endpoint, AsyncEndpoints.Settings> settings = new EnumMap<>(AsyncEndpoints.Endpoint.class);
+        for (AsyncEndpoints.Endpoint endpoint : AsyncEndpoints.Endpoint.values()) {
+            String prefix = "employee.async.endpoints." + endpoint.key() + ".";
+            settings.put(endpoint, new AsyncEndpoints.Settings(
+                    environment.getProperty(prefix + "threads", Integer.class, threads),
+                    environment.getProperty(prefix + "queue-capacity", Integer.class, queueCapacity),
+                    environment.getProperty(prefix + "timeout", Duration.class, timeout)));
+        }
+        return new AsyncEndpoints(settings);
+    }
+
+    /**
+     * Pool running reads to the server, so that a hedge can be sent while the first request is still waiting.
+     * When every thread is busy, reads run on the calling thread without hedging.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService hedgedReadExecutor(@Value("${employee.client.hedging.threads:32}") int threads) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), new CustomizableThreadFactory("employee-read-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Pool fetching the shards of a roster partitioned across several servers in parallel.
+     * When every thread is busy, the remaining shards are fetched on the calling thread.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService shardFanOutExecutor(@Value("${employee.client.shards.fan-out-threads:16}") int threads) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), new CustomizableThreadFactory("employee-shard-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Fork-join pool for CPU bound work over the cached roster, such as aggregating large rosters in parallel.
+     * Sized to the available processors unless configured.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool rosterForkJoinPool(@Value("${employee.roster.parallelism:0}") int parallelism) {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        return new ForkJoinPool(threads, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("roster-worker-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * Single thread that refreshes the roster in the background
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledExecutorService rosterRefreshScheduler() {
+        return Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("roster-refresh-"));
+    }
+
+    /**
+     * Single thread that sends queued creates to the server in batches
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledExecutorService writeBehindScheduler() {
+        return Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("write-behind-"));
+    }
+}
@@ -0,0 +1,36 @@
+package com.reliaquest.api.config;
+
+import org.apache.coyote.UpgradeProtocol;
+import org.apache.coyote.http2.Http2Protocol;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Limits of the cleartext HTTP/2 (h2c) connections clients open to this API, enabled with server.http2.enabled.
+ */
+@Configuration
+public class Http2Config {
+
+    /**
+     * Tomcat runs at most max-concurrent-stream-execution streams of a connection at once, 20 by default, which
+     * would throttle a client multiplexing all its requests over one connection.
+     */
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> http2Customizer(
+            @Value("${employee.http2.max-concurrent-streams:100}") long maxConcurrentStreams,
+            @Value("${employee.http2.max-concurrent-stream-execution:100}") int maxConcurrentStreamExecution,
+            @Value("${employee.http2.initial-window-size:65535}") int initialWindowSize) {
+        return factory -> factory.addConnectorCustomizers(connector -> {
+            for (UpgradeProtocol protocol : connector.findUpgradeProtocols()) {
+                if (protocol instanceof Http2Protocol http2) {
+                    http2.setMaxConcurrentStreams(maxConcurrentStreams);
+                    http2.setMaxConcurrentStreamExecution(maxConcurrentStreamExecution);
+                    http2.setInitialWindowSize(initialWindowSize);
+                }
+            }
+        });
+    }
+}
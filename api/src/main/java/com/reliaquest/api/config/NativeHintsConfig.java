@@ -0,0 +1,74 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.dto.CreateEmployeeRequestDTO;
+import com.reliaquest.api.dto.CreateEmployeesRequestDTO;
+import com.reliaquest.api.dto.CreateTicketDTO;
+import com.reliaquest.api.dto.DeleteEmployeeRequestDTO;
+import com.reliaquest.api.dto.DeleteEmployeeResponseDTO;
+import com.reliaquest.api.dto.EmployeeAggregatesDTO;
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.dto.EmployeeLookupResultDTO;
+import com.reliaquest.api.dto.EmployeePercentilesDTO;
+import com.reliaquest.api.dto.EmployeeResponseDTO;
+import com.reliaquest.api.dto.ErrorResponse;
+import com.reliaquest.api.dto.SingleEmployeeResponseDTO;
+import com.reliaquest.api.exception.GlobalExceptionHandler;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import java.util.List;
+
+/**
+ * Reflection hints for the native image build.
+ * Spring AOT only infers the types bound by controller methods, while the server responses are read by the
+ * RestTemplate and the error bodies are written by the exception handler.
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.DtoHints.class)
+public class NativeHintsConfig {
+
+    static final List<Class<?>> DTOS = List.of(
+            EmployeeDTO.class,
+            EmployeeResponseDTO.class,
+            SingleEmployeeResponseDTO.class,
+            DeleteEmployeeResponseDTO.class,
+            CreateEmployeeRequestDTO.class,
+            CreateEmployeesRequestDTO.class,
+            CreateTicketDTO.class,
+            DeleteEmployeeRequestDTO.class,
+            EmployeeLookupResultDTO.class,
+            EmployeeAggregatesDTO.class,
+            EmployeePercentilesDTO.class,
+            ErrorResponse.class);
+
+    static class DtoHints implements RuntimeHintsRegistrar {
+
+        /**
+         * Register the DTOs with their nested types for Jackson, their Lombok builders and the exception handler
+         * @param hints hints of the native image
+         * @param classLoader class loader of the application
+         */
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), DTOS.toArray(Class[]::new));
+            DTOS.forEach(dto -> registerBuilders(hints, dto));
+            hints.reflection().registerType(GlobalExceptionHandler.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+
+        private static void registerBuilders(RuntimeHints hints, Class<?> type) {
+            for (Class<?> nested : type.getDeclaredClasses()) {
+                if (nested.getSimpleName().endsWith("Builder")) {
+                    hints.reflection().registerType(nested, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                            MemberCategory.INVOKE_PUBLIC_METHODS);
+                } else {
+                    registerBuilders(hints, nested);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.client.CircuitBreaker;
+import com.reliaquest.api.client.HedgedReader;
+import com.reliaquest.api.client.OperationGuard;
+import com.reliaquest.api.client.ResilientServerApiClient;
+import com.reliaquest.api.client.ServerApiClient;
+import com.reliaquest.api.roster.RosterCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Wraps the server client in a circuit breaker and bulkhead per operation.
+ * List, by id and write calls are isolated from each other, so a stall in one does not reject the others.
+ * Reads are additionally hedged and timed out based on the recent latency of the server.
+ */
+@Configuration
+public class ResilienceConfig {
+
+    @Bean
+    public CircuitBreaker.Config circuitBreakerConfig(
+            @Value("${employee.client.circuit-breaker.window-size:20}") int windowSize,
+            @Value("${employee.client.circuit-breaker.minimum-calls:10}") int minimumCalls,
+            @Value("${employee.client.circuit-breaker.failure-rate-threshold:50}") int failureRateThreshold,
+            @Value("${employee.client.circuit-breaker.open-duration:30s}") Duration openDuration,
+            @Value("${employee.client.circuit-breaker.half-open-calls:2}") int halfOpenCalls) {
+        return new CircuitBreaker.Config(windowSize, minimumCalls, failureRateThreshold, openDuration, halfOpenCalls);
+    }
+
+    @Bean
+    @Primary
+    public ServerApiClient resilientServerApiClient(@Qualifier("upstreamServerApiClient") ServerApiClient upstreamServerApiClient,
+                                                    RosterCache rosterCache,
+                                                    MeterRegistry meterRegistry,
+                                                    CircuitBreaker.Config circuitBreakerConfig,
+                                                    @Value("${employee.client.bulkhead.list:4}") int listCalls,
+                                                    @Value("${employee.client.bulkhead.by-id:16}") int byIdCalls,
+                                                    @Value("${employee.client.bulkhead.write:4}") int writeCalls,
+                                                    @Value("${employee.client.bulkhead.max-wait:50ms}") Duration maxWait) {
+        return new ResilientServerApiClient(upstreamServerApiClient, rosterCache,
+                new OperationGuard("list", circuitBreakerConfig, listCalls, maxWait, meterRegistry),
+                new OperationGuard("byId", circuitBreakerConfig, byIdCalls, maxWait, meterRegistry),
+                new OperationGuard("write", circuitBreakerConfig, writeCalls, maxWait, meterRegistry));
+    }
+
+    @Bean
+    public HedgedReader hedgedReader(@Qualifier("hedgedReadExecutor") ExecutorService hedgedReadExecutor,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${employee.client.hedging.enabled:true}") boolean enabled,
+                                     @Value("${employee.client.hedging.hedge-percentile:0.95}") double hedgePercentile,
+                                     @Value("${employee.client.hedging.timeout-percentile:0.99}") double timeoutPercentile,
+                                     @Value("${employee.client.hedging.timeout-multiplier:3}") double timeoutMultiplier,
+                                     @Value("${employee.client.hedging.min-timeout:250ms}") Duration minTimeout,
+                                     @Value("${employee.client.hedging.max-timeout:10s}") Duration maxTimeout,
+                                     @Value("${employee.client.hedging.budget-ratio:0.05}") double budgetRatio,
+                                     @Value("${employee.client.hedging.rate-limit-cooldown:90s}") Duration rateLimitCooldown,
+                                     @Value("${employee.client.hedging.upstream-limit:10}") int upstreamLimit,
+                                     @Value("${employee.client.hedging.upstream-period:10s}") Duration upstreamPeriod) {
+        return new HedgedReader(new HedgedReader.Config(enabled, hedgePercentile, timeoutPercentile,
+                timeoutMultiplier, minTimeout, maxTimeout, budgetRatio, rateLimitCooldown, upstreamLimit,
+                upstreamPeriod),
+                hedgedReadExecutor, meterRegistry);
+    }
+}
@@ -1,5 +1,11 @@
 package com.reliaquest.api.config;
 
+import com.reliaquest.api.client.HedgedReader;
+import com.reliaquest.api.client.ServerApiClient;
+import com.reliaquest.api.client.ServerApiClientImpl;
+import com.reliaquest.api.client.ShardedServerApiClient;
+import com.reliaquest.api.client.UpstreamTransport;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
@@ -7,13 +13,47 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
 @Configuration
 public class RestTemplateConfig {
 
+    /**
+     * Client of the server, or of every shard of the roster when mock.server.url lists several comma separated
+     * servers, see ShardedServerApiClient. Each server gets its own RestTemplate and connection.
+     */
     @Bean
-    public RestTemplate employeeRestTemplate(RestTemplateBuilder restTemplateBuilder, @Value("${mock.server.url}") String BASE_URL) {
+    public ServerApiClient upstreamServerApiClient(RestTemplateBuilder restTemplateBuilder, HedgedReader hedgedReader,
+                                                   @Qualifier("shardFanOutExecutor") ExecutorService shardFanOutExecutor,
+                                                   @Value("${mock.server.url}") String[] urls,
+                                                   @Value("${employee.client.connect-timeout:2s}") Duration connectTimeout,
+                                                   @Value("${employee.client.read-timeout:10s}") Duration readTimeout,
+                                                   @Value("${employee.client.transport:h2c}") String transport,
+                                                   @Value("${employee.client.http2.stream-window:16777216}") int streamWindow,
+                                                   @Value("${employee.client.http2.connection-window:33554432}") int connectionWindow) {
+        UpstreamTransport.configureHttp2Windows(streamWindow, connectionWindow);
+        List<ServerApiClient> shards = Arrays.stream(urls)
+                .map(String::trim)
+                .filter(url -> !url.isEmpty())
+                .<ServerApiClient>map(url -> new ServerApiClientImpl(
+                        employeeRestTemplate(restTemplateBuilder, url, connectTimeout, readTimeout, transport),
+                        hedgedReader.forUpstream()))
+                .toList();
+        if (shards.isEmpty()) {
+            throw new IllegalStateException("mock.server.url must name at least one server");
+        }
+        return shards.size() == 1 ? shards.get(0) : new ShardedServerApiClient(shards, shardFanOutExecutor);
+    }
+
+    private static RestTemplate employeeRestTemplate(RestTemplateBuilder restTemplateBuilder, String baseUrl,
+                                                     Duration connectTimeout, Duration readTimeout, String transport) {
+        // Bounds requests that are no longer awaited, e.g. the slower one of a hedged pair
         return restTemplateBuilder
-                .uriTemplateHandler(new DefaultUriBuilderFactory(BASE_URL))
+                .uriTemplateHandler(new DefaultUriBuilderFactory(baseUrl))
+                .requestFactory(() -> UpstreamTransport.of(transport).requestFactory(connectTimeout, readTimeout))
                 .build();
     }
 }
@@ -0,0 +1,27 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.roster.RosterJsonCache;
+import com.reliaquest.api.roster.RosterJsonHttpMessageConverter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final RosterJsonCache rosterJsonCache;
+
+    public WebConfig(RosterJsonCache rosterJsonCache) {
+        this.rosterJsonCache = rosterJsonCache;
+    }
+
+    /**
+     * Whole rosters are written from their cached bytes, ahead of the Jackson converter
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new RosterJsonHttpMessageConverter(rosterJsonCache));
+    }
+}
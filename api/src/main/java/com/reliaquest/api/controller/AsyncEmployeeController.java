@@ -0,0 +1,155 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.dto.CreateEmployeeRequestDTO;
+import com.reliaquest.api.dto.EmployeeAggregatesDTO;
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.dto.EmployeeLookupResultDTO;
+import com.reliaquest.api.dto.EmployeePercentilesDTO;
+import com.reliaquest.api.service.AsyncEmployeeService;
+import com.reliaquest.api.service.CreateIdempotencyCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous variant of every EmployeeController endpoint, under /async with the same paths and responses.
+ * The servlet thread is released as soon as the request is handed to the AsyncEmployeeService, and the response
+ * is written when the returned future completes.
+ */
+@RestController
+@RequestMapping("/api/v1/employee/async")
+@RequiredArgsConstructor
+public class AsyncEmployeeController {
+
+    private final AsyncEmployeeService asyncEmployeeService;
+    private final CreateIdempotencyCache createIdempotencyCache;
+
+    /**
+     * Get all employees
+     * @return List of EmployeeDTO
+     */
+    @GetMapping()
+    public CompletableFuture<ResponseEntity<List<EmployeeDTO>>> getAllEmployees() {
+        return asyncEmployeeService.getAllEmployee().thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * Get employees by name search
+     * @param searchString String to search for in employee names
+     * @return List of EmployeeDTO with names containing the search string, names starting with it first
+     */
+    @GetMapping("/search/{searchString}")
+    public CompletableFuture<ResponseEntity<List<EmployeeDTO>>> getEmployeesByNameSearch(
+            @PathVariable String searchString) {
+        return asyncEmployeeService.getEmployeesByNameSearch(searchString).thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * Complete employee names as they are typed
+     * @param prefix Start of the name or of a later word of it
+     * @param maxEdits Typos tolerated, up to 2
+     * @param limit Maximum number of employees to return, up to 50
+     * @return List of EmployeeDTO, names starting with the prefix first, then names with a later word starting with it
+     */
+    @GetMapping("/autocomplete")
+    public CompletableFuture<ResponseEntity<List<EmployeeDTO>>> getEmployeesByNamePrefix(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "0") int maxEdits,
+            @RequestParam(defaultValue = "10") int limit) {
+        return asyncEmployeeService.getEmployeesByNamePrefix(prefix, maxEdits, limit).thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * Get employee by id
+     * @param id Employee id
+     * @return EmployeeDTO of the employee searched by id
+     */
+    @GetMapping("/{id}")
+    public CompletableFuture<ResponseEntity<EmployeeDTO>> getEmployeeById(@PathVariable String id) {
+        return asyncEmployeeService.getEmployeeById(id).thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * Get several employees by id in one call
+     * @param ids Employee ids, comma separated or repeated
+     * @return one EmployeeLookupResultDTO per distinct id, with the employee or the reason it could not be returned
+     */
+    @GetMapping(params = "ids")
+    public CompletableFuture<ResponseEntity<List<EmployeeLookupResultDTO>>> getEmployeesByIds(
+            @RequestParam List<String> ids) {
+        return asyncEmployeeService.getEmployeesByIds(ids).thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * Get the highest salary of employees
+     * @return Integer of the highest salary
+     */
+    @GetMapping("/highestSalary")
+    public CompletableFuture<ResponseEntity<Integer>> getHighestSalaryOfEmployees() {
+        return asyncEmployeeService.getHighestSalaryOfEmployees().thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * Get the top ten highest earning employee names
+     * @return List of employee names
+     */
+    @GetMapping("/topTenHighestEarningEmployeeNames")
+    public CompletableFuture<ResponseEntity<List<String>>> getTopTenHighestEarningEmployeeNames() {
+        return asyncEmployeeService.getTopTenHighestEarningEmployeeNames().thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * Get salary and age statistics, overall and per title
+     * @return EmployeeAggregatesDTO with count, sum, min, max, mean, percentiles and histograms
+     */
+    @GetMapping("/aggregates")
+    public CompletableFuture<ResponseEntity<EmployeeAggregatesDTO>> getEmployeeAggregates() {
+        return asyncEmployeeService.getEmployeeAggregates().thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * Get approximate salary and age percentiles
+     * @return EmployeePercentilesDTO with p50, p90 and p99 within the configured relative accuracy
+     */
+    @GetMapping("/percentiles")
+    public CompletableFuture<ResponseEntity<EmployeePercentilesDTO>> getEmployeePercentiles() {
+        return asyncEmployeeService.getEmployeePercentiles().thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * Create a new employee
+     * @param newEmployee Request DTO to create new employee
+     * @param idempotencyKey Optional key, retries with the same key get the employee created by the first request
+     * @return EmployeeDTO of the created employee
+     */
+    @PostMapping()
+    public CompletableFuture<ResponseEntity<EmployeeDTO>> createEmployee(
+            @RequestBody CreateEmployeeRequestDTO newEmployee,
+            @RequestHeader(value = CreateIdempotencyCache.HEADER, required = false) String idempotencyKey) {
+        return createIdempotencyCache.createAsync(idempotencyKey, newEmployee,
+                        () -> asyncEmployeeService.createEmployee(newEmployee))
+                .thenApply(employee -> new ResponseEntity<>(employee, HttpStatus.CREATED));
+    }
+
+    /**
+     * Delete employee by id
+     * @param id Employee id to delete
+     * @return Name string of employee deleted
+     */
+    @DeleteMapping("/{id}")
+    public CompletableFuture<ResponseEntity<String>> deleteEmployeeById(@PathVariable String id) {
+        return asyncEmployeeService.deleteEmployeeById(id).thenApply(ResponseEntity::ok);
+    }
+}
@@ -1,12 +1,20 @@
 package com.reliaquest.api.controller;
 
 import com.reliaquest.api.dto.CreateEmployeeRequestDTO;
+import com.reliaquest.api.dto.EmployeeAggregatesDTO;
 import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.dto.EmployeeLookupResultDTO;
+import com.reliaquest.api.dto.EmployeePercentilesDTO;
+import com.reliaquest.api.service.CreateIdempotencyCache;
+import com.reliaquest.api.service.EmployeeLookupService;
 import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.util.HttpHeaderUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -17,6 +25,8 @@ import java.util.List;
 public class EmployeeController implements IEmployeeController<EmployeeDTO, CreateEmployeeRequestDTO> {
 
     private final EmployeeService employeeService;
+    private final EmployeeLookupService employeeLookupService;
+    private final CreateIdempotencyCache createIdempotencyCache;
 
     /**
      * Get all employees
@@ -43,6 +53,20 @@ public class EmployeeController implements IEmployeeController<EmployeeDTO, Crea
         return new ResponseEntity<>(employeeService.getEmployeesByNameSearch(searchString), HttpStatus.OK);
     }
 
+    /**
+     * Complete employee names as they are typed
+     * @param prefix Start of the name or of a later word of it
+     * @param maxEdits Typos tolerated, up to 2
+     * @param limit Maximum number of employees to return, up to 50
+     * @return List of EmployeeDTO, names starting with the prefix first, then names with a later word starting with it
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<EmployeeDTO>> getEmployeesByNamePrefix(@RequestParam String prefix,
+                                                                      @RequestParam(defaultValue = "0") int maxEdits,
+                                                                      @RequestParam(defaultValue = "10") int limit) {
+        return new ResponseEntity<>(employeeService.getEmployeesByNamePrefix(prefix, maxEdits, limit), HttpStatus.OK);
+    }
+
     /**
      * Get employee by id
      * @param id Employee id
@@ -55,11 +79,19 @@ public class EmployeeController implements IEmployeeController<EmployeeDTO, Crea
 
     }
 
+    /**
+     * Get several employees by id in one call
+     * @param ids Employee ids, comma separated or repeated
+     * @return one EmployeeLookupResultDTO per distinct id, with the employee or the reason it could not be returned
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<EmployeeLookupResultDTO>> getEmployeesByIds(@RequestParam List<String> ids) {
+        return new ResponseEntity<>(employeeLookupService.getEmployeesByIds(ids), HttpStatus.OK);
+    }
+
     /**
      * Get the highest salary of employees
-     * @return Integer of the highest salary
-     *
-     * TODO: Caching can be added in future to store the highest salary as it is not expected to change frequently
+     * @return Integer of the highest salary, computed from the cached roster
      */
     @Override
     public ResponseEntity<Integer> getHighestSalaryOfEmployees() {
@@ -68,23 +100,45 @@ public class EmployeeController implements IEmployeeController<EmployeeDTO, Crea
 
     /**
      * Get the top ten highest earning employee names
-     * @return List of employee names
-     *
-     * TODO: Caching can be added in future to store the highest salary as it is not expected to change frequently
+     * @return List of employee names, computed from the cached roster
      */
     @Override
     public ResponseEntity<List<String>> getTopTenHighestEarningEmployeeNames() {
         return new ResponseEntity<>(employeeService.getTopTenHighestEarningEmployeeNames(), HttpStatus.OK);
     }
 
+    /**
+     * Get salary and age statistics, overall and per title
+     * @return EmployeeAggregatesDTO with count, sum, min, max, mean, percentiles and histograms
+     */
+    @GetMapping("/aggregates")
+    public ResponseEntity<EmployeeAggregatesDTO> getEmployeeAggregates() {
+        return new ResponseEntity<>(employeeService.getEmployeeAggregates(), HttpStatus.OK);
+    }
+
+    /**
+     * Get approximate salary and age percentiles
+     * @return EmployeePercentilesDTO with p50, p90 and p99 within the configured relative accuracy
+     */
+    @GetMapping("/percentiles")
+    public ResponseEntity<EmployeePercentilesDTO> getEmployeePercentiles() {
+        return new ResponseEntity<>(employeeService.getEmployeePercentiles(), HttpStatus.OK);
+    }
+
     /**
      * Create a new employee
      * @param newEmployee Request DTO to create new employee
      * @return EmployeeDTO of the created employee
+     *
+     * Note - Requests with an Idempotency-Key header create the employee once, retries with the same key get the
+     * same employee back, and a retry arriving while the first request is still creating waits for it.
      */
     @Override
     public ResponseEntity<EmployeeDTO> createEmployee(CreateEmployeeRequestDTO newEmployee) {
-        return new ResponseEntity<>(employeeService.createEmployee(newEmployee), HttpStatus.CREATED);
+        String idempotencyKey = HttpHeaderUtil.getRequestHeader(CreateIdempotencyCache.HEADER).orElse(null);
+        EmployeeDTO employee = createIdempotencyCache.create(idempotencyKey, newEmployee,
+                () -> employeeService.createEmployee(newEmployee));
+        return new ResponseEntity<>(employee, HttpStatus.CREATED);
     }
 
     /**
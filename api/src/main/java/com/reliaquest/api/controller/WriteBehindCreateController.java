@@ -0,0 +1,61 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.dto.CreateEmployeeRequestDTO;
+import com.reliaquest.api.dto.CreateTicketDTO;
+import com.reliaquest.api.service.WriteBehindCreateQueue;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.UUID;
+
+/**
+ * Creates accepted right away and written to the server in batches by the WriteBehindCreateQueue.
+ * Answers 404 unless employee.write-behind.enabled.
+ */
+@RestController
+@RequestMapping("/api/v1/employee/creates")
+@RequiredArgsConstructor
+public class WriteBehindCreateController {
+
+    private final WriteBehindCreateQueue writeBehindCreateQueue;
+
+    /**
+     * Queue a new employee to be created
+     * @param newEmployee Request DTO to create new employee
+     * @return CreateTicketDTO with status 202, its Location polls the status of the create
+     */
+    @PostMapping()
+    public ResponseEntity<CreateTicketDTO> createEmployee(@Valid @RequestBody CreateEmployeeRequestDTO newEmployee) {
+        if (!writeBehindCreateQueue.isEnabled()) {
+            return ResponseEntity.notFound().build();
+        }
+        CreateTicketDTO ticket = writeBehindCreateQueue.submit(newEmployee);
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentRequest()
+                        .path("/{id}")
+                        .buildAndExpand(ticket.getId())
+                        .toUri())
+                .body(ticket);
+    }
+
+    /**
+     * Get the status of a queued create
+     * @param id Id of the ticket returned when the create was queued
+     * @return CreateTicketDTO, PENDING until the employee is created or the create failed
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<CreateTicketDTO> getCreateStatus(@PathVariable UUID id) {
+        if (!writeBehindCreateQueue.isEnabled()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.of(writeBehindCreateQueue.status(id));
+    }
+}
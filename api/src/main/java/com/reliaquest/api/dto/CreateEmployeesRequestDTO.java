@@ -0,0 +1,25 @@
+package com.reliaquest.api.dto;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Data
+@Getter
+@Setter
+@Builder
+public class CreateEmployeesRequestDTO {
+    private List<CreateEmployeeRequestDTO> employees;
+    private List<String> keys;
+
+    @Override
+    public String toString() {
+        return "CreateEmployeesRequestDTO{" +
+                "employees=" + employees +
+                ", keys=" + keys +
+                '}';
+    }
+}
@@ -0,0 +1,39 @@
+package com.reliaquest.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.UUID;
+
+@Data
+@Getter
+@Setter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CreateTicketDTO {
+    private UUID id;
+    private Status status;
+    private int attempts;
+    private EmployeeDTO data;
+    private String error;
+
+    public enum Status {
+        PENDING,
+        CREATED,
+        FAILED
+    }
+
+    @Override
+    public String toString() {
+        return "CreateTicketDTO{" +
+                "id=" + id +
+                ", status=" + status +
+                ", attempts=" + attempts +
+                ", data=" + data +
+                ", error='" + error + '\'' +
+                '}';
+    }
+}
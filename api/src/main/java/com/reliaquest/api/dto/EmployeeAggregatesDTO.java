@@ -0,0 +1,56 @@
+package com.reliaquest.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Statistics over the whole roster and per title
+ */
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EmployeeAggregatesDTO {
+    private Statistics overall;
+    private Map<String, Statistics> byTitle;
+
+    @Data
+    @Builder
+    public static class Statistics {
+        private long count;
+        private Column salary;
+        private Column age;
+    }
+
+    @Data
+    @Builder
+    public static class Column {
+        private long sum;
+        private int min;
+        private int max;
+        private double mean;
+        /**
+         * Percentiles keyed p50, p90, p99
+         */
+        private Map<String, Integer> percentiles;
+        /**
+         * Non empty buckets, lowest first
+         */
+        private List<Bucket> histogram;
+    }
+
+    /**
+     * Values from {@code from} inclusive to {@code to} exclusive, the last bucket has no upper bound
+     */
+    @Data
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Bucket {
+        private long from;
+        private Long to;
+        private long count;
+    }
+}
@@ -0,0 +1,37 @@
+package com.reliaquest.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+
+@Data
+@Getter
+@Setter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EmployeeLookupResultDTO {
+    private String id;
+    private Status status;
+    private EmployeeDTO data;
+    private String error;
+
+    public enum Status {
+        FOUND,
+        NOT_FOUND,
+        INVALID_ID,
+        TIMEOUT,
+        ERROR
+    }
+
+    @Override
+    public String toString() {
+        return "EmployeeLookupResultDTO{" +
+                "id='" + id + '\'' +
+                ", status=" + status +
+                ", data=" + data +
+                ", error='" + error + '\'' +
+                '}';
+    }
+}
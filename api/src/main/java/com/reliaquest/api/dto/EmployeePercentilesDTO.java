@@ -0,0 +1,24 @@
+package com.reliaquest.api.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Map;
+
+/**
+ * Approximate salary and age percentiles, each within the relative accuracy of the exact value
+ */
+@Data
+@Builder
+public class EmployeePercentilesDTO {
+    private long count;
+    private double relativeAccuracy;
+    /**
+     * Salary percentiles keyed p50, p90, p99
+     */
+    private Map<String, Integer> salary;
+    /**
+     * Age percentiles keyed p50, p90, p99
+     */
+    private Map<String, Integer> age;
+}
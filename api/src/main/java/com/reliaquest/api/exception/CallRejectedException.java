@@ -0,0 +1,7 @@
+package com.reliaquest.api.exception;
+
+public class CallRejectedException extends ServiceUnavailableException {
+    public CallRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.reliaquest.api.exception;
+
+public class ServiceUnavailableException extends ExternalServiceException {
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
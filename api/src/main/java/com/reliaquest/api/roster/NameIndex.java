@@ -0,0 +1,206 @@
+package com.reliaquest.api.roster;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Autocomplete index over the lowercased employee names of a roster.
+ * Every full name is a key, and so is every suffix that starts a later word, so "smi" finds "Andrew Smith".
+ * The keys are kept in one sorted array that doubles as a trie: the keys below a prefix form a contiguous range,
+ * and the children of a prefix are the runs of equal next characters within that range, found by binary search.
+ * The index therefore costs one array entry per key instead of one node per character.
+ *
+ * Results keep the ranking of the name search: names starting with the query come first, then names with a later
+ * word starting with it, each group alphabetically. Typo tolerant lookups rank fewer edits first.
+ */
+public final class NameIndex {
+
+    private static final Comparator<Entry> KEY_ORDER = Comparator.comparing(Entry::key).thenComparing(Entry::name);
+
+    private final String[] keys;
+    private final int[] rows;
+    private final boolean[] laterWord;
+    private final String[] names;
+
+    private NameIndex(String[] keys, int[] rows, boolean[] laterWord, String[] names) {
+        this.keys = keys;
+        this.rows = rows;
+        this.laterWord = laterWord;
+        this.names = names;
+    }
+
+    static NameIndex of(RosterSnapshot roster) {
+        String[] names = new String[roster.size()];
+        List<Entry> entries = new ArrayList<>(roster.size() * 2);
+        for (int row = 0; row < roster.size(); row++) {
+            String name = roster.name(row);
+            if (name == null) {
+                continue;
+            }
+            String key = name.toLowerCase();
+            names[row] = key;
+            entries.add(new Entry(key, row, false, key));
+            for (int i = 1; i < key.length(); i++) {
+                if (Character.isWhitespace(key.charAt(i - 1)) && !Character.isWhitespace(key.charAt(i))) {
+                    entries.add(new Entry(key.substring(i), row, true, key));
+                }
+            }
+        }
+        entries.sort(KEY_ORDER);
+
+        String[] keys = new String[entries.size()];
+        int[] rows = new int[entries.size()];
+        boolean[] laterWord = new boolean[entries.size()];
+        for (int i = 0; i < keys.length; i++) {
+            Entry entry = entries.get(i);
+            keys[i] = entry.key();
+            rows[i] = entry.row();
+            laterWord[i] = entry.laterWord();
+        }
+        return new NameIndex(keys, rows, laterWord, names);
+    }
+
+    /**
+     * Rows whose name, or a later word of it, starts with the query
+     * @param query lowercased, non blank query
+     * @param maxEdits number of inserted, deleted or substituted characters tolerated, at most one per three
+     *                 characters of the query so that short queries do not match everything
+     * @param limit maximum number of rows to return
+     * @return row indexes, best match first
+     */
+    public int[] complete(String query, int maxEdits, int limit) {
+        maxEdits = Math.min(maxEdits, query.length() / 3);
+        if (maxEdits == 0) {
+            return completePrefix(query, limit);
+        }
+        Map<Integer, Integer> best = new HashMap<>();
+        int[] initial = new int[query.length() + 1];
+        for (int j = 0; j < initial.length; j++) {
+            initial[j] = j;
+        }
+        walk(query, maxEdits, 0, keys.length, 0, initial, best);
+
+        return best.entrySet().stream()
+                .sorted(Comparator.<Map.Entry<Integer, Integer>>comparingInt(Map.Entry::getValue)
+                        .thenComparing(entry -> names[entry.getKey()]))
+                .limit(limit)
+                .mapToInt(Map.Entry::getKey)
+                .toArray();
+    }
+
+    /*
+     * Full names in the range are already in alphabetical order, so the first group needs no sorting and usually
+     * fills the limit after a handful of entries.
+     */
+    private int[] completePrefix(String query, int limit) {
+        int from = lowerBound(query, 0, keys.length);
+        int to = prefixEnd(query, from, keys.length);
+
+        List<Integer> result = new ArrayList<>(Math.min(limit, to - from));
+        for (int i = from; i < to && result.size() < limit; i++) {
+            if (!laterWord[i]) {
+                result.add(rows[i]);
+            }
+        }
+        if (result.size() < limit) {
+            Set<Integer> seen = new HashSet<>(result);
+            List<Integer> laterWordRows = new ArrayList<>();
+            for (int i = from; i < to; i++) {
+                if (laterWord[i] && seen.add(rows[i])) {
+                    laterWordRows.add(rows[i]);
+                }
+            }
+            laterWordRows.sort(Comparator.comparing(row -> names[row]));
+            result.addAll(laterWordRows.subList(0, Math.min(limit - result.size(), laterWordRows.size())));
+        }
+        return result.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Depth first walk of the implicit trie, carrying the Levenshtein row of the query against the current prefix.
+     * A prefix within maxEdits of the whole query matches every key below it. Walking on only pays off while some
+     * longer prefix could still come closer, and stops once no prefix below can come within maxEdits.
+     * Matches are ranked per row by edits, full name matches ahead of later word matches with as many edits.
+     */
+    private void walk(String query, int maxEdits, int from, int to, int depth, int[] distances,
+                      Map<Integer, Integer> best) {
+        int distance = distances[query.length()];
+        int closest = Arrays.stream(distances).min().orElse(distance);
+        if (distance <= maxEdits) {
+            for (int i = from; i < to; i++) {
+                best.merge(rows[i], distance * 2 + (laterWord[i] ? 1 : 0), Math::min);
+            }
+            if (closest == distance) {
+                return;
+            }
+        }
+        if (closest > maxEdits) {
+            return;
+        }
+
+        int i = from;
+        while (i < to && keys[i].length() == depth) {
+            i++;
+        }
+        while (i < to) {
+            char c = keys[i].charAt(depth);
+            int end = childEnd(c, depth, i, to);
+            int[] next = new int[distances.length];
+            next[0] = distances[0] + 1;
+            for (int j = 1; j < distances.length; j++) {
+                int substitution = distances[j - 1] + (query.charAt(j - 1) == c ? 0 : 1);
+                next[j] = Math.min(substitution, Math.min(distances[j] + 1, next[j - 1] + 1));
+            }
+            walk(query, maxEdits, i, end, depth + 1, next, best);
+            i = end;
+        }
+    }
+
+    private int lowerBound(String query, int from, int to) {
+        while (from < to) {
+            int middle = (from + to) >>> 1;
+            if (keys[middle].compareTo(query) < 0) {
+                from = middle + 1;
+            } else {
+                to = middle;
+            }
+        }
+        return from;
+    }
+
+    private int prefixEnd(String query, int from, int to) {
+        while (from < to) {
+            int middle = (from + to) >>> 1;
+            if (keys[middle].startsWith(query)) {
+                from = middle + 1;
+            } else {
+                to = middle;
+            }
+        }
+        return from;
+    }
+
+    /**
+     * End of the run of keys with character c at depth, within a range of keys sharing their first depth characters
+     */
+    private int childEnd(char c, int depth, int from, int to) {
+        while (from < to) {
+            int middle = (from + to) >>> 1;
+            if (keys[middle].charAt(depth) <= c) {
+                from = middle + 1;
+            } else {
+                to = middle;
+            }
+        }
+        return from;
+    }
+
+    private record Entry(String key, int row, boolean laterWord, String name) {
+    }
+}
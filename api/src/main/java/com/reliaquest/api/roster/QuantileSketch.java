@@ -0,0 +1,125 @@
+package com.reliaquest.api.roster;
+
+/**
+ * Quantile sketch with a fixed relative error, in the spirit of DDSketch.
+ * Positive values are counted in logarithmic buckets growing by gamma = (1 + a) / (1 - a), so every quantile is
+ * answered within a relative error of a of the exact value. The buckets cover every positive int, which takes about
+ * 1100 counters at a = 1%, whatever the number of values. Values of zero or below share one bucket answered as 0.
+ *
+ * Bucket counts can be decremented and added up, so values can be removed again and sketches can be merged.
+ */
+public class QuantileSketch {
+
+    private final double relativeAccuracy;
+    private final double logGamma;
+    private final long[] counts;
+    private long nonPositiveCount;
+    private long count;
+
+    public QuantileSketch(double relativeAccuracy) {
+        if (relativeAccuracy <= 0 || relativeAccuracy >= 1) {
+            throw new IllegalArgumentException("Relative accuracy must be between 0 and 1");
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.logGamma = Math.log((1 + relativeAccuracy) / (1 - relativeAccuracy));
+        this.counts = new long[bucket(Integer.MAX_VALUE) + 1];
+    }
+
+    public double relativeAccuracy() {
+        return relativeAccuracy;
+    }
+
+    public synchronized long count() {
+        return count;
+    }
+
+    public synchronized void add(int value) {
+        if (value <= 0) {
+            nonPositiveCount++;
+        } else {
+            counts[bucket(value)]++;
+        }
+        count++;
+    }
+
+    /**
+     * Remove a value that was added before. Removing a value that was never added is ignored.
+     * @param value value to remove
+     */
+    public synchronized void remove(int value) {
+        if (value <= 0) {
+            if (nonPositiveCount == 0) {
+                return;
+            }
+            nonPositiveCount--;
+        } else {
+            int bucket = bucket(value);
+            if (counts[bucket] == 0) {
+                return;
+            }
+            counts[bucket]--;
+        }
+        count--;
+    }
+
+    /**
+     * Add every value of another sketch with the same relative accuracy
+     * @param other sketch to merge into this one
+     */
+    public void merge(QuantileSketch other) {
+        if (other.relativeAccuracy != relativeAccuracy) {
+            throw new IllegalArgumentException("Only sketches with the same relative accuracy can be merged");
+        }
+        long[] otherCounts;
+        long otherNonPositive;
+        long otherCount;
+        synchronized (other) {
+            otherCounts = other.counts.clone();
+            otherNonPositive = other.nonPositiveCount;
+            otherCount = other.count;
+        }
+        synchronized (this) {
+            for (int bucket = 0; bucket < counts.length; bucket++) {
+                counts[bucket] += otherCounts[bucket];
+            }
+            nonPositiveCount += otherNonPositive;
+            count += otherCount;
+        }
+    }
+
+    /**
+     * Get a quantile of the values
+     * @param quantile between 0 and 1
+     * @return value within the relative accuracy of the exact quantile, 0 when the sketch is empty
+     */
+    public synchronized int quantile(double quantile) {
+        if (count == 0) {
+            return 0;
+        }
+        // Nearest rank, like the exact percentiles of the aggregates
+        long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        long seen = nonPositiveCount;
+        if (seen >= rank) {
+            return 0;
+        }
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return value(bucket);
+            }
+        }
+        return value(counts.length - 1);
+    }
+
+    private int bucket(int value) {
+        return (int) Math.ceil(Math.log(value) / logGamma);
+    }
+
+    /**
+     * Value in the middle of a bucket in relative terms, within the relative accuracy of both of its bounds
+     */
+    private int value(int bucket) {
+        double gamma = Math.exp(logGamma);
+        return (int) Math.min(Integer.MAX_VALUE, Math.round(2 * Math.pow(gamma, bucket) / (gamma + 1)));
+    }
+}
@@ -0,0 +1,355 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.dto.EmployeeAggregatesDTO;
+import com.reliaquest.api.dto.EmployeeAggregatesDTO.Bucket;
+import com.reliaquest.api.dto.EmployeeAggregatesDTO.Column;
+import com.reliaquest.api.dto.EmployeeAggregatesDTO.Statistics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Computes salary and age statistics of a roster, overall and per title.
+ * Count, sum, min, max and histograms are collected in a single pass over the salary, age and title columns into
+ * flat per title arrays. Large rosters are split into row ranges that are reduced in parallel on a dedicated
+ * fork-join pool and merged pairwise. Percentiles are exact: each column is sorted once by title and value, after
+ * which every title is a contiguous sorted run. Overall percentiles are searched for in those runs rather than
+ * sorting the column again.
+ *
+ * The statistics of the latest roster are kept, so dashboards polling the endpoint only pay for a new roster.
+ */
+@Component
+public class RosterAggregator {
+
+    private static final int[] PERCENTILES = {50, 90, 99};
+    private static final int LEAF_ROWS = 16 * 1024;
+
+    private final ForkJoinPool pool;
+    private final int parallelThreshold;
+    private final int salaryBucketWidth;
+    private final int ageBucketWidth;
+    private final int maxBuckets;
+    private volatile Aggregated latest;
+
+    public RosterAggregator(@Qualifier("rosterForkJoinPool") ForkJoinPool pool,
+                            @Value("${employee.aggregates.parallel-threshold:100000}") int parallelThreshold,
+                            @Value("${employee.aggregates.salary-bucket-width:25000}") int salaryBucketWidth,
+                            @Value("${employee.aggregates.age-bucket-width:10}") int ageBucketWidth,
+                            @Value("${employee.aggregates.max-buckets:64}") int maxBuckets) {
+        if (salaryBucketWidth <= 0 || ageBucketWidth <= 0) {
+            throw new IllegalArgumentException("Aggregate bucket widths must be positive, were " + salaryBucketWidth
+                    + " for salary and " + ageBucketWidth + " for age");
+        }
+        if (maxBuckets <= 0) {
+            throw new IllegalArgumentException("Aggregate max buckets must be positive, was " + maxBuckets);
+        }
+        this.pool = pool;
+        this.parallelThreshold = parallelThreshold;
+        this.salaryBucketWidth = salaryBucketWidth;
+        this.ageBucketWidth = ageBucketWidth;
+        this.maxBuckets = maxBuckets;
+    }
+
+    /**
+     * Get the statistics of a roster, computed once per roster
+     * @param roster roster to aggregate
+     * @return EmployeeAggregatesDTO
+     */
+    public EmployeeAggregatesDTO aggregate(RosterSnapshot roster) {
+        Aggregated aggregated = latest;
+        if (aggregated != null && aggregated.roster() == roster) {
+            return aggregated.aggregates();
+        }
+        EmployeeAggregatesDTO aggregates = compute(roster);
+        latest = new Aggregated(roster, aggregates);
+        return aggregates;
+    }
+
+    EmployeeAggregatesDTO compute(RosterSnapshot roster) {
+        boolean parallel = roster.size() >= parallelThreshold;
+        Totals totals = parallel
+                ? pool.invoke(new TotalsTask(roster, 0, roster.size()))
+                : totals(roster, 0, roster.size());
+        int[][] salaryRuns = sortedRuns(roster, roster::salary, parallel);
+        int[][] ageRuns = sortedRuns(roster, roster::age, parallel);
+
+        Map<String, Statistics> byTitle = new LinkedHashMap<>();
+        IntStream.range(0, roster.titleCount())
+                .boxed()
+                .sorted(Comparator.comparing(roster::titleForCode, Comparator.nullsFirst(Comparator.naturalOrder())))
+                .forEach(code -> byTitle.put(String.valueOf(roster.titleForCode(code)),
+                        statistics(totals.counts[code], totals.salary.group(code), rank -> salaryRuns[code][rank - 1],
+                                totals.age.group(code), rank -> ageRuns[code][rank - 1])));
+
+        return EmployeeAggregatesDTO.builder()
+                .overall(statistics(roster.size(), totals.salary.overall(), rank -> valueAtRank(salaryRuns, rank),
+                        totals.age.overall(), rank -> valueAtRank(ageRuns, rank)))
+                .byTitle(byTitle)
+                .build();
+    }
+
+    private Totals totals(RosterSnapshot roster, int from, int to) {
+        Totals totals = new Totals(roster.titleCount());
+        for (int row = from; row < to; row++) {
+            int code = roster.titleCode(row);
+            totals.counts[code]++;
+            totals.salary.add(code, roster.salary(row));
+            totals.age.add(code, roster.age(row));
+        }
+        return totals;
+    }
+
+    /**
+     * Values of a column grouped by title code, each group sorted ascending
+     */
+    private int[][] sortedRuns(RosterSnapshot roster, IntUnaryOperator column, boolean parallel) {
+        int size = roster.size();
+        long[] keys = new long[size];
+        for (int row = 0; row < size; row++) {
+            // Flipping the sign bit orders negative values first when compared as unsigned
+            keys[row] = (long) roster.titleCode(row) << 32 | (column.applyAsInt(row) ^ Integer.MIN_VALUE) & 0xffffffffL;
+        }
+        sort(keys, parallel);
+
+        int[][] runs = new int[roster.titleCount()][];
+        int start = 0;
+        while (start < size) {
+            int code = (int) (keys[start] >>> 32);
+            int end = start;
+            while (end < size && (int) (keys[end] >>> 32) == code) {
+                end++;
+            }
+            int[] run = new int[end - start];
+            for (int i = start; i < end; i++) {
+                run[i - start] = (int) keys[i] ^ Integer.MIN_VALUE;
+            }
+            runs[code] = run;
+            start = end;
+        }
+        return runs;
+    }
+
+    /**
+     * Value at a rank of all runs taken together, as if they were merged into one sorted column.
+     * Bisects the value range for the smallest value that at least rank values are less than or equal to, counting
+     * them in every run by binary search, so each percentile costs 32 searches per title.
+     * @param runs sorted runs, null for titles without employees
+     * @param rank rank from 1 to the total length of the runs
+     * @return value at the rank
+     */
+    static int valueAtRank(int[][] runs, int rank) {
+        long low = Integer.MIN_VALUE;
+        long high = Integer.MAX_VALUE;
+        while (low < high) {
+            long middle = (low + high) >> 1;
+            long atMost = 0;
+            for (int[] run : runs) {
+                if (run != null) {
+                    atMost += countAtMost(run, (int) middle);
+                }
+            }
+            if (atMost >= rank) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return (int) low;
+    }
+
+    private static int countAtMost(int[] run, int value) {
+        int low = 0;
+        int high = run.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (run[middle] <= value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private void sort(long[] keys, boolean parallel) {
+        if (parallel) {
+            // Invoked from inside the pool, so the sort forks onto its workers instead of the common pool
+            pool.invoke(ForkJoinTask.adapt(() -> Arrays.parallelSort(keys)));
+        } else {
+            Arrays.sort(keys);
+        }
+    }
+
+    private static Statistics statistics(long count, ColumnGroup salary, IntUnaryOperator salaryAtRank,
+                                         ColumnGroup age, IntUnaryOperator ageAtRank) {
+        return Statistics.builder()
+                .count(count)
+                .salary(column(count, salary, salaryAtRank))
+                .age(column(count, age, ageAtRank))
+                .build();
+    }
+
+    /**
+     * Statistics of one column
+     * @param valueAtRank value at a rank from 1 to count of the column in ascending order
+     */
+    private static Column column(long count, ColumnGroup group, IntUnaryOperator valueAtRank) {
+        if (count == 0) {
+            return Column.builder().percentiles(Map.of()).histogram(List.of()).build();
+        }
+        Map<String, Integer> percentiles = new LinkedHashMap<>();
+        for (int percentile : PERCENTILES) {
+            // Nearest rank
+            int rank = (int) Math.ceil(percentile / 100.0 * count);
+            percentiles.put("p" + percentile, valueAtRank.applyAsInt(Math.max(1, rank)));
+        }
+        List<Bucket> histogram = new ArrayList<>();
+        for (int bucket = 0; bucket < group.histogram().length; bucket++) {
+            long bucketCount = group.histogram()[bucket];
+            if (bucketCount > 0) {
+                boolean last = bucket == group.histogram().length - 1;
+                histogram.add(Bucket.builder()
+                        .from((long) bucket * group.bucketWidth())
+                        .to(last ? null : (long) (bucket + 1) * group.bucketWidth())
+                        .count(bucketCount)
+                        .build());
+            }
+        }
+        return Column.builder()
+                .sum(group.sum())
+                .min(group.min())
+                .max(group.max())
+                .mean((double) group.sum() / count)
+                .percentiles(percentiles)
+                .histogram(histogram)
+                .build();
+    }
+
+    private final class TotalsTask extends RecursiveTask<Totals> {
+        private final RosterSnapshot roster;
+        private final int from;
+        private final int to;
+
+        private TotalsTask(RosterSnapshot roster, int from, int to) {
+            this.roster = roster;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Totals compute() {
+            if (to - from <= LEAF_ROWS) {
+                return totals(roster, from, to);
+            }
+            int middle = (from + to) >>> 1;
+            TotalsTask left = new TotalsTask(roster, from, middle);
+            left.fork();
+            Totals totals = new TotalsTask(roster, middle, to).compute();
+            totals.merge(left.join());
+            return totals;
+        }
+    }
+
+    /**
+     * Per title accumulators of one row range
+     */
+    private final class Totals {
+        private final long[] counts;
+        private final ColumnTotals salary;
+        private final ColumnTotals age;
+
+        private Totals(int titles) {
+            this.counts = new long[titles];
+            this.salary = new ColumnTotals(titles, salaryBucketWidth, maxBuckets);
+            this.age = new ColumnTotals(titles, ageBucketWidth, maxBuckets);
+        }
+
+        private void merge(Totals other) {
+            for (int code = 0; code < counts.length; code++) {
+                counts[code] += other.counts[code];
+            }
+            salary.merge(other.salary);
+            age.merge(other.age);
+        }
+    }
+
+    private static final class ColumnTotals {
+        private final int bucketWidth;
+        private final int buckets;
+        private final long[] sums;
+        private final int[] mins;
+        private final int[] maxs;
+        /*
+         * buckets consecutive counters per title
+         */
+        private final long[] histograms;
+
+        private ColumnTotals(int titles, int bucketWidth, int buckets) {
+            this.bucketWidth = bucketWidth;
+            this.buckets = buckets;
+            this.sums = new long[titles];
+            this.mins = new int[titles];
+            this.maxs = new int[titles];
+            this.histograms = new long[titles * buckets];
+            Arrays.fill(mins, Integer.MAX_VALUE);
+            Arrays.fill(maxs, Integer.MIN_VALUE);
+        }
+
+        private void add(int code, int value) {
+            sums[code] += value;
+            mins[code] = Math.min(mins[code], value);
+            maxs[code] = Math.max(maxs[code], value);
+            histograms[code * buckets + Math.min(buckets - 1, Math.max(0, value / bucketWidth))]++;
+        }
+
+        private void merge(ColumnTotals other) {
+            for (int code = 0; code < sums.length; code++) {
+                sums[code] += other.sums[code];
+                mins[code] = Math.min(mins[code], other.mins[code]);
+                maxs[code] = Math.max(maxs[code], other.maxs[code]);
+            }
+            for (int i = 0; i < histograms.length; i++) {
+                histograms[i] += other.histograms[i];
+            }
+        }
+
+        private ColumnGroup group(int code) {
+            return new ColumnGroup(sums[code], mins[code], maxs[code], bucketWidth,
+                    Arrays.copyOfRange(histograms, code * buckets, (code + 1) * buckets));
+        }
+
+        private ColumnGroup overall() {
+            long sum = 0;
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            long[] histogram = new long[buckets];
+            for (int code = 0; code < sums.length; code++) {
+                sum += sums[code];
+                min = Math.min(min, mins[code]);
+                max = Math.max(max, maxs[code]);
+                for (int bucket = 0; bucket < buckets; bucket++) {
+                    histogram[bucket] += histograms[code * buckets + bucket];
+                }
+            }
+            return new ColumnGroup(sum, min, max, bucketWidth, histogram);
+        }
+    }
+
+    private record ColumnGroup(long sum, int min, int max, int bucketWidth, long[] histogram) {
+    }
+
+    private record Aggregated(RosterSnapshot roster, EmployeeAggregatesDTO aggregates) {
+    }
+}
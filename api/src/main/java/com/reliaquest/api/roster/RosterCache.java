@@ -0,0 +1,200 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.dto.EmployeeDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Holds the most recent roster fetched from the server.
+ * A roster is considered warm while it is younger than the configured time to live, and is served at all
+ * while it is younger than the hard max staleness.
+ *
+ * The snapshot instance only changes when the roster does, so it serves as the roster version: everything
+ * derived from a snapshot can be kept for as long as the same instance comes back.
+ *
+ * Employees created and deleted through this API are applied to the cached roster right away, so reads see them
+ * before the next refresh. A write is also applied to every roster fetched afterwards until the server's roster
+ * reflects it, as a fetch that started before the write would otherwise undo it, or until it is older than the max
+ * staleness.
+ */
+@Component
+public class RosterCache {
+
+    private final long ttlNanos;
+    private final long maxStalenessNanos;
+    private final LongSupplier clock;
+    private final Object loadLock = new Object();
+    private volatile CachedRoster current;
+    private final Map<UUID, LocalWrite> localWrites = new LinkedHashMap<>();
+
+    @Autowired
+    public RosterCache(@Value("${employee.roster.cache.ttl:30s}") Duration ttl,
+                       @Value("${employee.roster.max-staleness:5m}") Duration maxStaleness) {
+        this(ttl, maxStaleness, System::nanoTime);
+    }
+
+    RosterCache(Duration ttl, Duration maxStaleness, LongSupplier clock) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxStalenessNanos = maxStaleness.toNanos();
+        this.clock = clock;
+    }
+
+    /**
+     * Replace the cached roster with a freshly fetched one.
+     * Caching the roster that is already cached, e.g. when it came back as a fallback answer, does not make it fresher.
+     * A fetched roster with the same rows as the cached one refreshes it but keeps the cached instance.
+     * @param snapshot roster fetched from the server
+     * @return the cached snapshot
+     */
+    public synchronized RosterSnapshot update(RosterSnapshot snapshot) {
+        CachedRoster roster = current;
+        if (roster != null && roster.snapshot() == snapshot) {
+            return snapshot;
+        }
+        snapshot = withLocalWrites(snapshot);
+        RosterSnapshot cached = roster != null && roster.snapshot().hasSameRows(snapshot) ? roster.snapshot() : snapshot;
+        current = new CachedRoster(cached, clock.getAsLong());
+        return cached;
+    }
+
+    /**
+     * Add an employee created through this API to the cached roster
+     * @param employee created employee
+     * @return the cached roster before and after the write
+     */
+    public synchronized Patch onCreated(EmployeeDTO employee) {
+        return apply(employee.getId(), new LocalWrite(employee, clock.getAsLong()));
+    }
+
+    /**
+     * Remove an employee deleted through this API from the cached roster
+     * @param employee deleted employee
+     * @return the cached roster before and after the write
+     */
+    public synchronized Patch onDeleted(EmployeeDTO employee) {
+        return apply(employee.getId(), new LocalWrite(null, clock.getAsLong()));
+    }
+
+    private Patch apply(UUID id, LocalWrite write) {
+        if (id == null) {
+            return new Patch(null, null);
+        }
+        localWrites.remove(id);
+        localWrites.put(id, write);
+        CachedRoster roster = current;
+        if (roster == null) {
+            return new Patch(null, null);
+        }
+        RosterSnapshot patched = write.created() != null
+                ? roster.snapshot().patched(List.of(write.created()), Set.of(id))
+                : roster.snapshot().patched(List.of(), Set.of(id));
+        // Keeps the fetch time, the write does not make the rest of the roster any fresher
+        current = new CachedRoster(patched, roster.fetchedAtNanos());
+        return new Patch(roster.snapshot(), patched);
+    }
+
+    /**
+     * Apply the local writes the fetched roster does not reflect yet, forgetting those it does
+     */
+    private RosterSnapshot withLocalWrites(RosterSnapshot snapshot) {
+        if (localWrites.isEmpty()) {
+            return snapshot;
+        }
+        long now = clock.getAsLong();
+        List<EmployeeDTO> added = new ArrayList<>();
+        Set<UUID> removed = new HashSet<>();
+        Iterator<Map.Entry<UUID, LocalWrite>> writes = localWrites.entrySet().iterator();
+        while (writes.hasNext()) {
+            Map.Entry<UUID, LocalWrite> write = writes.next();
+            boolean present = snapshot.indexOf(write.getKey()) >= 0;
+            EmployeeDTO created = write.getValue().created();
+            if (now - write.getValue().appliedAtNanos() >= maxStalenessNanos || present == (created != null)) {
+                writes.remove();
+            } else if (created != null) {
+                added.add(created);
+            } else {
+                removed.add(write.getKey());
+            }
+        }
+        return snapshot.patched(added, removed);
+    }
+
+    /**
+     * Get the cached roster if it is still warm
+     * @return RosterSnapshot, empty when nothing was fetched yet or the roster is older than the time to live
+     */
+    public Optional<RosterSnapshot> warmSnapshot() {
+        return snapshotYoungerThan(ttlNanos);
+    }
+
+    /**
+     * Get the cached roster as long as it is not older than the hard max staleness
+     * @return RosterSnapshot, empty when nothing was fetched yet or the roster is too stale to be served
+     */
+    public Optional<RosterSnapshot> latestSnapshot() {
+        return snapshotYoungerThan(maxStalenessNanos);
+    }
+
+    /**
+     * Get the latest roster, loading it when there is none that can be served.
+     * Concurrent callers wait for a single load instead of each fetching the roster.
+     * @param loader fetches the roster from the server
+     * @return RosterSnapshot
+     */
+    public RosterSnapshot getOrLoad(Supplier<RosterSnapshot> loader) {
+        Optional<RosterSnapshot> latest = latestSnapshot();
+        if (latest.isPresent()) {
+            return latest.get();
+        }
+        synchronized (loadLock) {
+            latest = latestSnapshot();
+            if (latest.isPresent()) {
+                return latest.get();
+            }
+            return update(loader.get());
+        }
+    }
+
+    /**
+     * Get the age of the cached roster
+     * @return seconds since the roster was fetched, NaN when nothing was fetched yet
+     */
+    public double ageSeconds() {
+        CachedRoster roster = current;
+        return roster == null ? Double.NaN : (clock.getAsLong() - roster.fetchedAtNanos()) / 1e9;
+    }
+
+    private Optional<RosterSnapshot> snapshotYoungerThan(long maxAgeNanos) {
+        CachedRoster roster = current;
+        if (roster == null || clock.getAsLong() - roster.fetchedAtNanos() >= maxAgeNanos) {
+            return Optional.empty();
+        }
+        return Optional.of(roster.snapshot());
+    }
+
+    private record CachedRoster(RosterSnapshot snapshot, long fetchedAtNanos) {
+    }
+
+    private record LocalWrite(EmployeeDTO created, long appliedAtNanos) {
+    }
+
+    /**
+     * Cached roster before and after a local write, both null when no roster was cached
+     */
+    public record Patch(RosterSnapshot before, RosterSnapshot after) {
+    }
+}
@@ -0,0 +1,71 @@
+package com.reliaquest.api.roster;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The roster serialized as the JSON list of all employees, and optionally gzipped, kept for as long as the same
+ * snapshot is cached, so hot list reads write bytes instead of running Jackson over every employee.
+ */
+@Component
+public class RosterJsonCache {
+
+    private final ObjectMapper objectMapper;
+    private final boolean gzip;
+    private volatile Payload current;
+
+    public RosterJsonCache(ObjectMapper objectMapper, @Value("${employee.roster.json.gzip:false}") boolean gzip) {
+        this.objectMapper = objectMapper;
+        this.gzip = gzip;
+    }
+
+    /**
+     * Get the serialized roster
+     * @param roster latest roster
+     * @return Payload holding the JSON bytes, and the gzipped bytes when compression is enabled
+     */
+    public Payload payload(RosterSnapshot roster) {
+        Payload payload = current;
+        if (payload != null && payload.roster() == roster) {
+            return payload;
+        }
+        synchronized (this) {
+            payload = current;
+            if (payload != null && payload.roster() == roster) {
+                return payload;
+            }
+            byte[] json = serialize(roster);
+            payload = new Payload(roster, json, gzip ? gzip(json) : null);
+            current = payload;
+            return payload;
+        }
+    }
+
+    private byte[] serialize(RosterSnapshot roster) {
+        try {
+            return objectMapper.writeValueAsBytes(roster.toEmployees());
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("Failed to serialize the roster", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compress the roster", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public record Payload(RosterSnapshot roster, byte[] json, byte[] gzipped) {
+    }
+}
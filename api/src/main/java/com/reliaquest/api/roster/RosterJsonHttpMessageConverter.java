@@ -0,0 +1,67 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.util.HttpHeaderUtil;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes a whole roster, as returned by RosterSnapshot.toEmployees(), from the bytes RosterJsonCache keeps for its
+ * snapshot. The body is the same the Jackson converter would write, which still handles every other list.
+ */
+public class RosterJsonHttpMessageConverter implements HttpMessageConverter<List<EmployeeDTO>> {
+
+    private final RosterJsonCache rosterJsonCache;
+
+    public RosterJsonHttpMessageConverter(RosterJsonCache rosterJsonCache) {
+        this.rosterJsonCache = rosterJsonCache;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return RosterSnapshot.SnapshotEmployees.class == clazz
+                && (mediaType == null || MediaType.APPLICATION_JSON.isCompatibleWith(mediaType));
+    }
+
+    @Override
+    public List<MediaType> getSupportedMediaTypes() {
+        return List.of(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    public List<EmployeeDTO> read(Class<? extends List<EmployeeDTO>> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Rosters are only written", inputMessage);
+    }
+
+    @Override
+    public void write(List<EmployeeDTO> employees, MediaType contentType, HttpOutputMessage outputMessage)
+            throws IOException {
+        RosterJsonCache.Payload payload =
+                rosterJsonCache.payload(((RosterSnapshot.SnapshotEmployees) employees).snapshot());
+        HttpHeaders headers = outputMessage.getHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        byte[] body = payload.json();
+        if (payload.gzipped() != null) {
+            headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            String acceptEncoding = HttpHeaderUtil.getRequestHeader(HttpHeaders.ACCEPT_ENCODING).orElse(null);
+            if (HttpHeaderUtil.acceptsGzip(acceptEncoding)) {
+                headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+                body = payload.gzipped();
+            }
+        }
+        headers.setContentLength(body.length);
+        outputMessage.getBody().write(body);
+    }
+}
@@ -0,0 +1,113 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.roster.RosterSnapshot.NameMatch;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+
+/**
+ * Runs the roster scans behind the highest salary, top earners and name search, choosing by roster size how.
+ * Rosters below the parallel threshold are scanned sequentially, where splitting costs more than it saves.
+ * The salary scans cost well under a nanosecond per row while the name search lowercases every name, so each has
+ * its own threshold; see RosterQueriesBenchmark for the crossover on a given machine. Larger rosters are split
+ * into row ranges scanned on the dedicated roster fork-join pool, never the common pool, and the partial results
+ * merged pairwise: maxima by comparison, top rows and sorted name matches by a linear merge that keeps the order
+ * of a sequential scan.
+ */
+@Component
+public class RosterQueries {
+
+    private static final int MIN_LEAF_ROWS = 8 * 1024;
+
+    private final ForkJoinPool pool;
+    private final int scanThreshold;
+    private final int searchThreshold;
+
+    public RosterQueries(@Qualifier("rosterForkJoinPool") ForkJoinPool pool,
+                         @Value("${employee.roster.parallel-threshold.scan:1000000}") int scanThreshold,
+                         @Value("${employee.roster.parallel-threshold.search:20000}") int searchThreshold) {
+        this.pool = pool;
+        this.scanThreshold = scanThreshold;
+        this.searchThreshold = searchThreshold;
+    }
+
+    /**
+     * Highest salary of the roster
+     * @return highest salary, 0 when the roster is empty
+     */
+    public int maxSalary(RosterSnapshot roster) {
+        if (roster.size() < scanThreshold) {
+            return roster.maxSalary();
+        }
+        return reduce(roster, roster::maxSalary, Math::max);
+    }
+
+    /**
+     * Rows of the k highest salaries, highest first. Rows with equal salaries keep roster order.
+     */
+    public int[] topSalaryRows(RosterSnapshot roster, int k) {
+        if (roster.size() < scanThreshold) {
+            return roster.topSalaryRows(k);
+        }
+        return reduce(roster, (from, to) -> roster.topSalaryRows(k, from, to),
+                (first, second) -> roster.mergeTopSalaryRows(first, second, k));
+    }
+
+    /**
+     * Rows whose lowercased name contains the lowercased search string, ranked as
+     * {@link RosterSnapshot#searchNameRows}
+     */
+    public int[] searchNameRows(RosterSnapshot roster, String searchString) {
+        if (roster.size() < searchThreshold) {
+            return roster.searchNameRows(searchString);
+        }
+        String needle = searchString.toLowerCase();
+        NameMatch[] matches = reduce(roster, (from, to) -> roster.nameMatches(needle, from, to),
+                RosterSnapshot::mergeNameMatches);
+        return RosterSnapshot.rowsOf(matches);
+    }
+
+    private <T> T reduce(RosterSnapshot roster, RangeScan<T> scan, BinaryOperator<T> merge) {
+        // A few ranges per worker, so that uneven ranges even out through work stealing
+        int leafRows = Math.max(MIN_LEAF_ROWS, roster.size() / (pool.getParallelism() * 4));
+        return pool.invoke(new RangeTask<>(0, roster.size(), leafRows, scan, merge));
+    }
+
+    @FunctionalInterface
+    private interface RangeScan<T> {
+        T scan(int from, int to);
+    }
+
+    private static final class RangeTask<T> extends RecursiveTask<T> {
+        private final int from;
+        private final int to;
+        private final int leafRows;
+        private final RangeScan<T> scan;
+        private final BinaryOperator<T> merge;
+
+        private RangeTask(int from, int to, int leafRows, RangeScan<T> scan, BinaryOperator<T> merge) {
+            this.from = from;
+            this.to = to;
+            this.leafRows = leafRows;
+            this.scan = scan;
+            this.merge = merge;
+        }
+
+        @Override
+        protected T compute() {
+            if (to - from <= leafRows) {
+                return scan.scan(from, to);
+            }
+            int middle = (from + to) >>> 1;
+            RangeTask<T> lower = new RangeTask<>(from, middle, leafRows, scan, merge);
+            lower.fork();
+            T upper = new RangeTask<>(middle, to, leafRows, scan, merge).compute();
+            // Lower range first, merges rely on it for ties
+            return merge.apply(lower.join(), upper);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.client.ServerApiClient;
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.exception.CallRejectedException;
+import com.reliaquest.api.util.HttpHeaderUtil;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the cached roster warm by fetching it from the server on a fixed cadence, so that requests read the latest
+ * roster immediately and upstream traffic stays constant whatever the inbound load.
+ * Every delay is jittered. Failures back off exponentially up to the max backoff, and a 429 from the server waits
+ * as long as its Retry-After header asks, or at least the rate limit backoff without one.
+ * The roster is fetched without the cached fallback, so a refresh rejected while the list circuit is open is counted
+ * as rejected and keeps the current backoff, since it never reached the server.
+ * The age of the cached roster is exposed as employee.roster.staleness.
+ */
+@Component
+public class RosterRefresher implements SmartLifecycle {
+    private final static Logger log = LoggerFactory.getLogger(RosterRefresher.class);
+
+    private final ServerApiClient serverApiClient;
+    private final RosterCache rosterCache;
+    private final ScheduledExecutorService scheduler;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final long intervalNanos;
+    private final double jitter;
+    private final long maxBackoffNanos;
+    private final long rateLimitBackoffNanos;
+
+    private volatile ScheduledFuture<?> nextRefresh;
+    private volatile boolean running;
+    private int consecutiveFailures;
+
+    public RosterRefresher(ServerApiClient serverApiClient,
+                           RosterCache rosterCache,
+                           @Qualifier("rosterRefreshScheduler") ScheduledExecutorService scheduler,
+                           MeterRegistry meterRegistry,
+                           @Value("${employee.roster.refresh.enabled:true}") boolean enabled,
+                           @Value("${employee.roster.refresh.interval:10s}") Duration interval,
+                           @Value("${employee.roster.refresh.jitter:0.2}") double jitter,
+                           @Value("${employee.roster.refresh.max-backoff:5m}") Duration maxBackoff,
+                           @Value("${employee.roster.refresh.rate-limit-backoff:60s}") Duration rateLimitBackoff) {
+        this.serverApiClient = serverApiClient;
+        this.rosterCache = rosterCache;
+        this.scheduler = scheduler;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.intervalNanos = interval.toNanos();
+        this.jitter = jitter;
+        this.maxBackoffNanos = maxBackoff.toNanos();
+        this.rateLimitBackoffNanos = rateLimitBackoff.toNanos();
+
+        Gauge.builder("employee.roster.staleness", rosterCache, RosterCache::ageSeconds)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        if (enabled) {
+            schedule(0);
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        ScheduledFuture<?> refresh = nextRefresh;
+        if (refresh != null) {
+            refresh.cancel(false);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Fetch the roster once and cache it
+     * @return delay in nanoseconds before the next refresh, without jitter
+     */
+    long refresh() {
+        try {
+            List<EmployeeDTO> employees = serverApiClient.getAllEmployeeWithoutFallback();
+            RosterSnapshot snapshot = RosterSnapshot.of(employees);
+            rosterCache.update(snapshot);
+            consecutiveFailures = 0;
+            meterRegistry.counter("employee.roster.refreshes", "outcome", "success").increment();
+            if (log.isDebugEnabled()) {
+                log.debug("Refreshed roster with {} employees", snapshot.size());
+            }
+            return intervalNanos;
+        } catch (CallRejectedException ex) {
+            meterRegistry.counter("employee.roster.refreshes", "outcome", "rejected").increment();
+            long backoff = backoffNanos();
+            log.warn("Roster refresh was rejected ({} failures in a row), retrying in {} ms: {}", consecutiveFailures,
+                    TimeUnit.NANOSECONDS.toMillis(backoff), ex.getMessage());
+            return backoff;
+        } catch (RuntimeException ex) {
+            consecutiveFailures++;
+            HttpClientErrorException.TooManyRequests rateLimit = rateLimitCause(ex);
+            meterRegistry.counter("employee.roster.refreshes", "outcome", rateLimit != null ? "rate_limited" : "failure")
+                    .increment();
+
+            long backoff = backoffNanos();
+            if (rateLimit != null) {
+                // The server tells exactly when to retry, the configured backoff is for when it does not
+                long fallback = Math.max(backoff, rateLimitBackoffNanos);
+                backoff = HttpHeaderUtil.getRetryAfter(rateLimit.getResponseHeaders())
+                        .map(Duration::toNanos)
+                        .orElse(fallback);
+            }
+            log.warn("Failed to refresh roster ({} in a row), retrying in {} ms: {}", consecutiveFailures,
+                    TimeUnit.NANOSECONDS.toMillis(backoff), ex.getMessage());
+            return backoff;
+        }
+    }
+
+    private long backoffNanos() {
+        return Math.min(maxBackoffNanos, intervalNanos << Math.min(consecutiveFailures, 20));
+    }
+
+    private void schedule(long delayNanos) {
+        if (!running) {
+            return;
+        }
+        long jittered = (long) (delayNanos * (1 + jitter * ThreadLocalRandom.current().nextDouble(-1, 1)));
+        nextRefresh = scheduler.schedule(() -> schedule(refresh()), Math.max(0, jittered), TimeUnit.NANOSECONDS);
+    }
+
+    private static HttpClientErrorException.TooManyRequests rateLimitCause(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof HttpClientErrorException.TooManyRequests tooManyRequests) {
+                return tooManyRequests;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,104 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.dto.EmployeeDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+/**
+ * Salary and age quantile sketches of the roster.
+ * The sketches are rebuilt once for every roster fetched from the server, and adjusted for employees created or
+ * deleted through this API in the meantime, so percentiles reflect local writes without waiting for a refresh and
+ * without rebuilding them from the roster the write was applied to.
+ */
+@Component
+public class RosterSketches {
+
+    private final double relativeAccuracy;
+    private volatile Sketches current;
+
+    public RosterSketches(@Value("${employee.sketches.relative-accuracy:0.01}") double relativeAccuracy) {
+        this.relativeAccuracy = relativeAccuracy;
+    }
+
+    /**
+     * Get the salary sketch of a roster
+     * @param roster latest roster
+     * @return QuantileSketch of salaries
+     */
+    public QuantileSketch salaries(RosterSnapshot roster) {
+        return sketchesOf(roster).salaries();
+    }
+
+    /**
+     * Get the age sketch of a roster
+     * @param roster latest roster
+     * @return QuantileSketch of ages
+     */
+    public QuantileSketch ages(RosterSnapshot roster) {
+        return sketchesOf(roster).ages();
+    }
+
+    /**
+     * Count an employee created since the roster was fetched
+     * @param patch the cached roster before and after the employee was added, see RosterCache.onCreated
+     */
+    public void onCreated(RosterCache.Patch patch, EmployeeDTO employee) {
+        adjust(patch, sketches -> {
+            sketches.salaries().add(employee.getSalary());
+            sketches.ages().add(employee.getAge());
+        });
+    }
+
+    /**
+     * Stop counting an employee deleted since the roster was fetched
+     * @param patch the cached roster before and after the employee was removed, see RosterCache.onDeleted
+     */
+    public void onDeleted(RosterCache.Patch patch, EmployeeDTO employee) {
+        adjust(patch, sketches -> {
+            sketches.salaries().remove(employee.getSalary());
+            sketches.ages().remove(employee.getAge());
+        });
+    }
+
+    /*
+    * Sketches of the roster before the write are adjusted and carried over to the patched roster, instead of being
+    * rebuilt from it. Sketches already built from the patched roster count the write already.
+    */
+    private synchronized void adjust(RosterCache.Patch patch, Consumer<Sketches> write) {
+        Sketches sketches = current;
+        if (sketches == null || sketches.roster() == patch.after()) {
+            return;
+        }
+        write.accept(sketches);
+        if (patch.before() != null && sketches.roster() == patch.before()) {
+            current = new Sketches(patch.after(), sketches.salaries(), sketches.ages());
+        }
+    }
+
+    private Sketches sketchesOf(RosterSnapshot roster) {
+        Sketches sketches = current;
+        if (sketches != null && sketches.roster() == roster) {
+            return sketches;
+        }
+        synchronized (this) {
+            sketches = current;
+            if (sketches != null && sketches.roster() == roster) {
+                return sketches;
+            }
+            QuantileSketch salaries = new QuantileSketch(relativeAccuracy);
+            QuantileSketch ages = new QuantileSketch(relativeAccuracy);
+            for (int row = 0; row < roster.size(); row++) {
+                salaries.add(roster.salary(row));
+                ages.add(roster.age(row));
+            }
+            sketches = new Sketches(roster, salaries, ages);
+            current = sketches;
+            return sketches;
+        }
+    }
+
+    private record Sketches(RosterSnapshot roster, QuantileSketch salaries, QuantileSketch ages) {
+    }
+}
@@ -0,0 +1,591 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.dto.EmployeeDTO;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Immutable, column oriented copy of the employee roster.
+ * Every attribute is kept in its own array indexed by row, so scans over salaries or ages walk a single
+ * contiguous primitive array instead of chasing one EmployeeDTO (and its boxed UUID) per employee.
+ * Titles repeat heavily across the roster and are dictionary encoded.
+ *
+ * EmployeeDTO instances are only materialized for the rows that are actually returned to a caller.
+ */
+public final class RosterSnapshot {
+
+    private static final RosterSnapshot EMPTY = new RosterSnapshot(0, new long[0], new long[0], new int[0],
+            new int[0], new int[0], new String[0], new String[0], new String[0]);
+
+    private final int size;
+    private final long[] idHigh;
+    private final long[] idLow;
+    private final int[] salaries;
+    private final int[] ages;
+    private final int[] titleCodes;
+    private final String[] titleDictionary;
+    private final String[] names;
+    private final String[] emails;
+
+    /*
+     * Open addressing table of row + 1 keyed by id, 0 marks an empty slot. Built on first lookup.
+     */
+    private volatile int[] idIndex;
+
+    /*
+     * Built on first autocomplete.
+     */
+    private volatile NameIndex nameIndex;
+
+    private RosterSnapshot(int size, long[] idHigh, long[] idLow, int[] salaries, int[] ages, int[] titleCodes,
+                           String[] titleDictionary, String[] names, String[] emails) {
+        this.size = size;
+        this.idHigh = idHigh;
+        this.idLow = idLow;
+        this.salaries = salaries;
+        this.ages = ages;
+        this.titleCodes = titleCodes;
+        this.titleDictionary = titleDictionary;
+        this.names = names;
+        this.emails = emails;
+    }
+
+    public static RosterSnapshot empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Build a snapshot from the employees returned by the server
+     * @param employees employees in server order
+     * @return RosterSnapshot holding the same rows in the same order
+     */
+    public static RosterSnapshot of(List<EmployeeDTO> employees) {
+        if (employees == null || employees.isEmpty()) {
+            return EMPTY;
+        }
+        if (employees instanceof SnapshotEmployees materialized) {
+            return materialized.snapshot;
+        }
+
+        int size = employees.size();
+        long[] idHigh = new long[size];
+        long[] idLow = new long[size];
+        int[] salaries = new int[size];
+        int[] ages = new int[size];
+        int[] titleCodes = new int[size];
+        String[] names = new String[size];
+        String[] emails = new String[size];
+
+        Map<String, Integer> titleCodeByTitle = new HashMap<>();
+        List<String> titleDictionary = new ArrayList<>();
+
+        int row = 0;
+        for (EmployeeDTO employee : employees) {
+            UUID id = employee.getId();
+            // A missing id is stored as the nil UUID, which UUID.randomUUID() never produces
+            if (id != null) {
+                idHigh[row] = id.getMostSignificantBits();
+                idLow[row] = id.getLeastSignificantBits();
+            }
+            salaries[row] = employee.getSalary();
+            ages[row] = employee.getAge();
+            titleCodes[row] = titleCodeByTitle.computeIfAbsent(employee.getTitle(), title -> {
+                titleDictionary.add(title);
+                return titleDictionary.size() - 1;
+            });
+            names[row] = employee.getName();
+            emails[row] = employee.getEmail();
+            row++;
+        }
+
+        return new RosterSnapshot(size, idHigh, idLow, salaries, ages, titleCodes,
+                titleDictionary.toArray(new String[0]), names, emails);
+    }
+
+    /**
+     * Copy of this snapshot without the rows of the removed ids and with the added employees appended, in order.
+     * The columns are copied row by row and the title dictionary re-encoded to the titles still in use, so applying
+     * a write costs one pass over the primitive arrays without materializing any EmployeeDTO.
+     * @param added employees to append
+     * @param removed ids of the rows to drop
+     * @return RosterSnapshot, this one when nothing changes
+     */
+    public RosterSnapshot patched(List<EmployeeDTO> added, Set<UUID> removed) {
+        boolean[] dropped = new boolean[size];
+        int droppedRows = 0;
+        for (UUID id : removed) {
+            int row = indexOf(id);
+            if (row >= 0 && !dropped[row]) {
+                dropped[row] = true;
+                droppedRows++;
+            }
+        }
+        if (droppedRows == 0 && added.isEmpty()) {
+            return this;
+        }
+
+        int patchedSize = size - droppedRows + added.size();
+        if (patchedSize == 0) {
+            return EMPTY;
+        }
+        long[] patchedIdHigh = new long[patchedSize];
+        long[] patchedIdLow = new long[patchedSize];
+        int[] patchedSalaries = new int[patchedSize];
+        int[] patchedAges = new int[patchedSize];
+        int[] patchedTitleCodes = new int[patchedSize];
+        String[] patchedNames = new String[patchedSize];
+        String[] patchedEmails = new String[patchedSize];
+
+        Map<String, Integer> titleCodeByTitle = new HashMap<>();
+        List<String> patchedTitleDictionary = new ArrayList<>();
+        int[] recoded = new int[titleDictionary.length];
+        Arrays.fill(recoded, -1);
+
+        int target = 0;
+        for (int row = 0; row < size; row++) {
+            if (dropped[row]) {
+                continue;
+            }
+            int code = titleCodes[row];
+            if (recoded[code] < 0) {
+                patchedTitleDictionary.add(titleDictionary[code]);
+                recoded[code] = patchedTitleDictionary.size() - 1;
+                titleCodeByTitle.put(titleDictionary[code], recoded[code]);
+            }
+            patchedIdHigh[target] = idHigh[row];
+            patchedIdLow[target] = idLow[row];
+            patchedSalaries[target] = salaries[row];
+            patchedAges[target] = ages[row];
+            patchedTitleCodes[target] = recoded[code];
+            patchedNames[target] = names[row];
+            patchedEmails[target] = emails[row];
+            target++;
+        }
+        for (EmployeeDTO employee : added) {
+            UUID id = employee.getId();
+            if (id != null) {
+                patchedIdHigh[target] = id.getMostSignificantBits();
+                patchedIdLow[target] = id.getLeastSignificantBits();
+            }
+            patchedSalaries[target] = employee.getSalary();
+            patchedAges[target] = employee.getAge();
+            patchedTitleCodes[target] = titleCodeByTitle.computeIfAbsent(employee.getTitle(), title -> {
+                patchedTitleDictionary.add(title);
+                return patchedTitleDictionary.size() - 1;
+            });
+            patchedNames[target] = employee.getName();
+            patchedEmails[target] = employee.getEmail();
+            target++;
+        }
+
+        return new RosterSnapshot(patchedSize, patchedIdHigh, patchedIdLow, patchedSalaries, patchedAges,
+                patchedTitleCodes, patchedTitleDictionary.toArray(new String[0]), patchedNames, patchedEmails);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Whether another snapshot holds exactly the same rows in the same order
+     * @param other snapshot to compare with
+     * @return true when every column is equal
+     */
+    public boolean hasSameRows(RosterSnapshot other) {
+        return other == this || (other != null
+                && size == other.size
+                && Arrays.equals(idHigh, other.idHigh)
+                && Arrays.equals(idLow, other.idLow)
+                && Arrays.equals(salaries, other.salaries)
+                && Arrays.equals(ages, other.ages)
+                && Arrays.equals(titleCodes, other.titleCodes)
+                && Arrays.equals(titleDictionary, other.titleDictionary)
+                && Arrays.equals(names, other.names)
+                && Arrays.equals(emails, other.emails));
+    }
+
+    public UUID id(int row) {
+        long high = idHigh[row];
+        long low = idLow[row];
+        return high == 0L && low == 0L ? null : new UUID(high, low);
+    }
+
+    /**
+     * Row of the employee with the given id
+     * @param id employee id
+     * @return row index, -1 when the id is not part of the roster
+     */
+    public int indexOf(UUID id) {
+        if (id == null || size == 0) {
+            return -1;
+        }
+        int[] slots = idIndex;
+        if (slots == null) {
+            slots = buildIdIndex();
+            idIndex = slots;
+        }
+
+        long high = id.getMostSignificantBits();
+        long low = id.getLeastSignificantBits();
+        int mask = slots.length - 1;
+        int slot = hash(high, low) & mask;
+        while (slots[slot] != 0) {
+            int row = slots[slot] - 1;
+            if (idHigh[row] == high && idLow[row] == low) {
+                return row;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int[] buildIdIndex() {
+        // Power of two table at most half full, so probe sequences stay short
+        int[] slots = new int[Integer.highestOneBit(Math.max(size, 8) * 2 - 1) << 1];
+        int mask = slots.length - 1;
+        for (int row = 0; row < size; row++) {
+            if (idHigh[row] == 0L && idLow[row] == 0L) {
+                continue;
+            }
+            int slot = hash(idHigh[row], idLow[row]) & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = row + 1;
+        }
+        return slots;
+    }
+
+    private static int hash(long high, long low) {
+        long hash = high * 31 + low;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return (int) hash;
+    }
+
+    public long idHigh(int row) {
+        return idHigh[row];
+    }
+
+    public long idLow(int row) {
+        return idLow[row];
+    }
+
+    public int salary(int row) {
+        return salaries[row];
+    }
+
+    public int age(int row) {
+        return ages[row];
+    }
+
+    public String name(int row) {
+        return names[row];
+    }
+
+    public String email(int row) {
+        return emails[row];
+    }
+
+    public String title(int row) {
+        return titleDictionary[titleCodes[row]];
+    }
+
+    /**
+     * Dictionary code of the title of a row, between 0 and {@link #titleCount()} - 1
+     */
+    public int titleCode(int row) {
+        return titleCodes[row];
+    }
+
+    public int titleCount() {
+        return titleDictionary.length;
+    }
+
+    public String titleForCode(int titleCode) {
+        return titleDictionary[titleCode];
+    }
+
+    /**
+     * Materialize a single row
+     * @param row row index
+     * @return EmployeeDTO holding the values of the row
+     */
+    public EmployeeDTO toEmployee(int row) {
+        return EmployeeDTO.builder()
+                .id(id(row))
+                .name(names[row])
+                .salary(salaries[row])
+                .age(ages[row])
+                .title(title(row))
+                .email(emails[row])
+                .build();
+    }
+
+    /**
+     * Materialize the given rows, in the given order
+     * @param rows row indexes
+     * @return List of EmployeeDTO
+     */
+    public List<EmployeeDTO> toEmployees(int[] rows) {
+        List<EmployeeDTO> employees = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            employees.add(toEmployee(row));
+        }
+        return employees;
+    }
+
+    /**
+     * Every row, in roster order. Rows are materialized on first access, so a list written out as the serialized
+     * roster never builds an EmployeeDTO, see RosterJsonHttpMessageConverter.
+     * The list remembers this snapshot, so turning it back into a snapshot with of() is free.
+     * @return List of EmployeeDTO
+     */
+    public List<EmployeeDTO> toEmployees() {
+        return new SnapshotEmployees(this);
+    }
+
+    /**
+     * Highest salary of the roster
+     * @return highest salary, 0 when the roster is empty
+     */
+    public int maxSalary() {
+        return maxSalary(0, size);
+    }
+
+    /**
+     * Highest salary of a row range
+     * @return highest salary, 0 when the range is empty
+     */
+    int maxSalary(int from, int to) {
+        if (from >= to) {
+            return 0;
+        }
+        int max = salaries[from];
+        for (int row = from + 1; row < to; row++) {
+            if (salaries[row] > max) {
+                max = salaries[row];
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Rows of the k highest salaries, highest first. Rows with equal salaries keep roster order.
+     * Uses a bounded min-heap of row indexes, so the cost is O(n log k) and nothing but the heap is allocated.
+     * @param k number of rows to return
+     * @return row indexes
+     */
+    public int[] topSalaryRows(int k) {
+        return topSalaryRows(k, 0, size);
+    }
+
+    /**
+     * Rows of the k highest salaries of a row range, highest first
+     */
+    int[] topSalaryRows(int k, int from, int to) {
+        int limit = Math.min(k, to - from);
+        if (limit <= 0) {
+            return new int[0];
+        }
+
+        int[] heap = new int[limit];
+        int heapSize = 0;
+        for (int row = from; row < to; row++) {
+            if (heapSize < limit) {
+                heap[heapSize] = row;
+                siftUp(heap, heapSize++);
+            } else if (ranksAbove(row, heap[0])) {
+                heap[0] = row;
+                siftDown(heap, heapSize);
+            }
+        }
+
+        int[] result = new int[heapSize];
+        for (int i = heapSize - 1; i >= 0; i--) {
+            result[i] = heap[0];
+            heap[0] = heap[i];
+            siftDown(heap, i);
+        }
+        return result;
+    }
+
+    /**
+     * Merge the top rows of two row ranges into the top k rows of both
+     * @param first rows of the lower range, highest first
+     * @param second rows of the higher range, highest first
+     * @return at most k rows, highest first
+     */
+    int[] mergeTopSalaryRows(int[] first, int[] second, int k) {
+        int[] merged = new int[Math.min(k, first.length + second.length)];
+        int i = 0;
+        int j = 0;
+        for (int n = 0; n < merged.length; n++) {
+            merged[n] = j >= second.length || (i < first.length && ranksAbove(first[i], second[j])) ? first[i++] : second[j++];
+        }
+        return merged;
+    }
+
+    /**
+     * Higher salary ranks above, equal salaries are ranked by roster order
+     */
+    private boolean ranksAbove(int row, int other) {
+        int salary = salaries[row];
+        int otherSalary = salaries[other];
+        return salary > otherSalary || (salary == otherSalary && row < other);
+    }
+
+    private void siftUp(int[] heap, int index) {
+        int row = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!ranksAbove(heap[parent], row)) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = row;
+    }
+
+    private void siftDown(int[] heap, int heapSize) {
+        int index = 0;
+        int row = heap[0];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && ranksAbove(heap[child], heap[child + 1])) {
+                child++;
+            }
+            if (!ranksAbove(row, heap[child])) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = row;
+    }
+
+    /**
+     * Rows whose lowercased name contains the lowercased search string.
+     * Names starting with the search string come first, every group is ordered alphabetically on the lowercased name.
+     * @param searchString non blank search string
+     * @return row indexes
+     */
+    public int[] searchNameRows(String searchString) {
+        return rowsOf(nameMatches(searchString.toLowerCase(), 0, size));
+    }
+
+    /**
+     * Sorted matches of a row range
+     * @param needle lowercased search string
+     */
+    NameMatch[] nameMatches(String needle, int from, int to) {
+        List<NameMatch> matches = new ArrayList<>();
+        for (int row = from; row < to; row++) {
+            String name = names[row];
+            if (name == null) {
+                continue;
+            }
+            String key = name.toLowerCase();
+            if (key.contains(needle)) {
+                matches.add(new NameMatch(row, key, key.startsWith(needle)));
+            }
+        }
+
+        NameMatch[] sorted = matches.toArray(new NameMatch[0]);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * Merge the sorted matches of two adjacent row ranges. Equal matches keep roster order, as in a single sort.
+     * @param first matches of the lower range
+     * @param second matches of the higher range
+     */
+    static NameMatch[] mergeNameMatches(NameMatch[] first, NameMatch[] second) {
+        NameMatch[] merged = new NameMatch[first.length + second.length];
+        int i = 0;
+        int j = 0;
+        for (int n = 0; n < merged.length; n++) {
+            merged[n] = j >= second.length || (i < first.length && first[i].compareTo(second[j]) <= 0) ? first[i++] : second[j++];
+        }
+        return merged;
+    }
+
+    static int[] rowsOf(NameMatch[] matches) {
+        int[] rows = new int[matches.length];
+        for (int i = 0; i < matches.length; i++) {
+            rows[i] = matches[i].row();
+        }
+        return rows;
+    }
+
+    /**
+     * Autocomplete index over the names of this roster, built once on first use
+     * @return NameIndex
+     */
+    public NameIndex nameIndex() {
+        NameIndex index = nameIndex;
+        if (index == null) {
+            index = NameIndex.of(this);
+            nameIndex = index;
+        }
+        return index;
+    }
+
+    record NameMatch(int row, String key, boolean prefix) implements Comparable<NameMatch> {
+
+        @Override
+        public int compareTo(NameMatch other) {
+            if (prefix != other.prefix) {
+                return prefix ? -1 : 1;
+            }
+            return key.compareTo(other.key);
+        }
+    }
+
+    static final class SnapshotEmployees extends AbstractList<EmployeeDTO> implements RandomAccess {
+        private final RosterSnapshot snapshot;
+        private final EmployeeDTO[] employees;
+
+        private SnapshotEmployees(RosterSnapshot snapshot) {
+            this.snapshot = snapshot;
+            this.employees = new EmployeeDTO[snapshot.size];
+        }
+
+        RosterSnapshot snapshot() {
+            return snapshot;
+        }
+
+        @Override
+        public EmployeeDTO get(int index) {
+            EmployeeDTO employee = employees[index];
+            if (employee == null) {
+                employee = snapshot.toEmployee(index);
+                employees[index] = employee;
+            }
+            return employee;
+        }
+
+        @Override
+        public int size() {
+            return employees.length;
+        }
+    }
+}
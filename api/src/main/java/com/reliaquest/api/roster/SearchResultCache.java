@@ -0,0 +1,89 @@
+package com.reliaquest.api.roster;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Bounded LRU cache of name search results of the current roster.
+ * Results are kept as row indexes keyed by the lowercased search string, the form the search itself matches on.
+ * The whole cache is dropped as soon as a search runs against another roster, so a result never outlives the
+ * roster it was computed from. Hits, misses and the hit ratio are exposed as employee.search.cache metrics.
+ */
+@Component
+public class SearchResultCache {
+
+    private final int maxEntries;
+    private final Counter hits;
+    private final Counter misses;
+    private final Map<String, int[]> results;
+    private RosterSnapshot roster;
+
+    public SearchResultCache(@Value("${employee.search.cache.max-entries:1024}") int maxEntries,
+                             MeterRegistry meterRegistry) {
+        this.maxEntries = maxEntries;
+        this.results = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, int[]> eldest) {
+                return size() > SearchResultCache.this.maxEntries;
+            }
+        };
+        this.hits = meterRegistry.counter("employee.search.cache", "result", "hit");
+        this.misses = meterRegistry.counter("employee.search.cache", "result", "miss");
+        Gauge.builder("employee.search.cache.hit.ratio", this, SearchResultCache::hitRatio)
+                .register(meterRegistry);
+        Gauge.builder("employee.search.cache.size", this, SearchResultCache::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Get the rows matching a search string, searching the roster only when they are not cached yet
+     * @param roster roster to search
+     * @param searchString search string as given by the caller
+     * @param search finds the rows of the roster matching a search string
+     * @return row indexes, shared between callers and not to be modified
+     */
+    public int[] rows(RosterSnapshot roster, String searchString, Function<String, int[]> search) {
+        String key = searchString.toLowerCase();
+        synchronized (this) {
+            if (this.roster != roster) {
+                results.clear();
+                this.roster = roster;
+            }
+            int[] cached = results.get(key);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+        }
+
+        misses.increment();
+        // Searching outside the lock, so a slow search does not hold up hits on other keys
+        int[] rows = search.apply(key);
+        synchronized (this) {
+            if (this.roster == roster) {
+                results.put(key, rows);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Share of lookups answered from the cache
+     * @return hit ratio between 0 and 1, NaN before the first lookup
+     */
+    public double hitRatio() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? Double.NaN : hits.count() / total;
+    }
+
+    public synchronized int size() {
+        return results.size();
+    }
+}
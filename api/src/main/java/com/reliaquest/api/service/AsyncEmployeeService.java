@@ -0,0 +1,224 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.client.AsyncServerApiClient;
+import com.reliaquest.api.dto.CreateEmployeeRequestDTO;
+import com.reliaquest.api.dto.EmployeeAggregatesDTO;
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.dto.EmployeeLookupResultDTO;
+import com.reliaquest.api.dto.EmployeePercentilesDTO;
+import com.reliaquest.api.exception.InvalidRequestException;
+import com.reliaquest.api.exception.ServiceUnavailableException;
+import com.reliaquest.api.roster.RosterCache;
+import com.reliaquest.api.roster.RosterSketches;
+import com.reliaquest.api.roster.RosterSnapshot;
+import com.reliaquest.api.service.AsyncEndpoints.Endpoint;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Asynchronous variant of the EmployeeService, so that servlet threads are released while the server is called.
+ * Upstream calls go through the AsyncServerApiClient on the pool of the endpoint. Endpoints answered from the roster
+ * only wait for the server when no roster can be served, then load it asynchronously, and compute on their pool.
+ * Every endpoint fails with 503 when its pool is saturated or it does not answer within its timeout.
+ */
+@Service
+@RequiredArgsConstructor
+@Validated
+public class AsyncEmployeeService {
+    private final static Logger log = LoggerFactory.getLogger(AsyncEmployeeService.class);
+    private final AsyncServerApiClient asyncServerApiClient;
+    private final AsyncEndpoints asyncEndpoints;
+    private final EmployeeService employeeService;
+    private final EmployeeLookupService employeeLookupService;
+    private final RosterCache rosterCache;
+    private final RosterSketches rosterSketches;
+    private final AtomicReference<CompletableFuture<RosterSnapshot>> rosterLoad = new AtomicReference<>();
+
+    public CompletableFuture<List<EmployeeDTO>> getAllEmployee() {
+        return fromRoster(Endpoint.ALL, employeeService::getAllEmployee);
+    }
+
+    public CompletableFuture<List<EmployeeDTO>> getEmployeesByNameSearch(String searchString) {
+        if (searchString == null || searchString.isBlank()) {
+            return CompletableFuture.failedFuture(
+                    new InvalidRequestException("Search string must not be null or empty"));
+        }
+        return fromRoster(Endpoint.SEARCH, () -> employeeService.getEmployeesByNameSearch(searchString));
+    }
+
+    public CompletableFuture<List<EmployeeDTO>> getEmployeesByNamePrefix(String prefix, int maxEdits, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            return CompletableFuture.failedFuture(new InvalidRequestException("Prefix must not be null or empty"));
+        }
+        return fromRoster(Endpoint.AUTOCOMPLETE,
+                () -> employeeService.getEmployeesByNamePrefix(prefix, maxEdits, limit));
+    }
+
+    public CompletableFuture<EmployeeDTO> getEmployeeById(String id) {
+        if (id == null || id.isBlank()) {
+            return CompletableFuture.failedFuture(new InvalidRequestException("Employee ID must not be null or empty"));
+        }
+        if(log.isDebugEnabled()) {
+            log.debug("Fetching employee with id {} asynchronously", id);
+        }
+        return withTimeout(Endpoint.BY_ID,
+                asyncServerApiClient.getEmployeeByIdAsync(id, asyncEndpoints.executor(Endpoint.BY_ID)));
+    }
+
+    /*
+    * The lookup service already fans out on its own bounded pool, only the wait for its results moves off the
+    * servlet thread.
+    */
+    public CompletableFuture<List<EmployeeLookupResultDTO>> getEmployeesByIds(List<String> ids) {
+        return withTimeout(Endpoint.BY_IDS,
+                submit(Endpoint.BY_IDS, () -> employeeLookupService.getEmployeesByIds(ids)));
+    }
+
+    public CompletableFuture<Integer> getHighestSalaryOfEmployees() {
+        return fromRoster(Endpoint.HIGHEST_SALARY, employeeService::getHighestSalaryOfEmployees);
+    }
+
+    public CompletableFuture<List<String>> getTopTenHighestEarningEmployeeNames() {
+        return fromRoster(Endpoint.TOP_TEN, employeeService::getTopTenHighestEarningEmployeeNames);
+    }
+
+    public CompletableFuture<EmployeeAggregatesDTO> getEmployeeAggregates() {
+        return fromRoster(Endpoint.AGGREGATES, employeeService::getEmployeeAggregates);
+    }
+
+    public CompletableFuture<EmployeePercentilesDTO> getEmployeePercentiles() {
+        return fromRoster(Endpoint.PERCENTILES, employeeService::getEmployeePercentiles);
+    }
+
+    public CompletableFuture<EmployeeDTO> createEmployee(@Valid CreateEmployeeRequestDTO newEmployee) {
+        if(log.isDebugEnabled()) {
+            log.debug("Creating new employee asynchronously with details: {}", newEmployee);
+        }
+        return withTimeout(Endpoint.CREATE, asyncServerApiClient
+                .createEmployeeAsync(newEmployee, asyncEndpoints.executor(Endpoint.CREATE))
+                .thenApply(response -> {
+                    if (response.getData() == null) {
+                        log.error("Failed to create employee: {}", response);
+                        throw new RuntimeException("Failed to create employee");
+                    }
+                    rosterSketches.onCreated(rosterCache.onCreated(response.getData()), response.getData());
+                    return response.getData();
+                }));
+    }
+
+    public CompletableFuture<String> deleteEmployeeById(String id) {
+        if (id == null || id.isEmpty()) {
+            return CompletableFuture.failedFuture(new InvalidRequestException("Employee ID must not be null or empty"));
+        }
+        if(log.isDebugEnabled()) {
+            log.debug("Deleting employee with id {} asynchronously", id);
+        }
+
+        return withTimeout(Endpoint.DELETE, asyncServerApiClient
+                .getEmployeeByIdAsync(id, asyncEndpoints.executor(Endpoint.DELETE))
+                .thenCompose(employeeToDelete -> asyncServerApiClient
+                        .deleteEmployeeAsync(employeeToDelete, asyncEndpoints.executor(Endpoint.DELETE))
+                        .thenApply(response -> {
+                            if (!response.getData()) {
+                                log.error("Failed to delete employee with id: {}", id);
+                                throw new RuntimeException("Failed to delete employee with id: " + id);
+                            }
+                            rosterSketches.onDeleted(rosterCache.onDeleted(employeeToDelete), employeeToDelete);
+                            return employeeToDelete.getName();
+                        })));
+    }
+
+    /*
+    * Once a roster can be served the EmployeeService answers from it without calling the server, so the work is
+    * submitted to the endpoint pool as soon as the roster is there.
+    */
+    private <T> CompletableFuture<T> fromRoster(Endpoint endpoint, Supplier<T> work) {
+        return withTimeout(endpoint, roster(endpoint).thenCompose(roster -> submit(endpoint, work)));
+    }
+
+    /*
+    * Concurrent requests on a cold start share one asynchronous load, like RosterCache.getOrLoad does for
+    * synchronous ones. The load runs on the pool of the endpoint that started it.
+    */
+    private CompletableFuture<RosterSnapshot> roster(Endpoint endpoint) {
+        Optional<RosterSnapshot> latest = rosterCache.latestSnapshot();
+        if (latest.isPresent()) {
+            return CompletableFuture.completedFuture(latest.get());
+        }
+
+        CompletableFuture<RosterSnapshot> load = new CompletableFuture<>();
+        CompletableFuture<RosterSnapshot> existing = rosterLoad.compareAndExchange(null, load);
+        if (existing != null) {
+            return existing;
+        }
+
+        if(log.isDebugEnabled()) {
+            log.debug("Loading the roster asynchronously for {}", endpoint.key());
+        }
+        asyncServerApiClient.getAllEmployeeAsync(asyncEndpoints.executor(endpoint))
+                .thenApply(employees -> rosterCache.update(RosterSnapshot.of(employees)))
+                .whenComplete((roster, ex) -> {
+                    rosterLoad.compareAndSet(load, null);
+                    if (ex != null) {
+                        load.completeExceptionally(ex);
+                    } else {
+                        load.complete(roster);
+                    }
+                });
+        return load;
+    }
+
+    private <T> CompletableFuture<T> submit(Endpoint endpoint, Supplier<T> work) {
+        try {
+            return CompletableFuture.supplyAsync(work, asyncEndpoints.executor(endpoint));
+        } catch (RejectedExecutionException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+
+    /*
+    * The timeout only stops the wait of this request, a call already sent to the server runs to its own read
+    * timeout. Failures are unwrapped, so that the exception handler sees what the synchronous endpoint would throw.
+    */
+    private <T> CompletableFuture<T> withTimeout(Endpoint endpoint, CompletableFuture<T> future) {
+        long timeoutMillis = asyncEndpoints.timeout(endpoint).toMillis();
+        return future
+                .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                .handle((result, ex) -> {
+                    if (ex == null) {
+                        return result;
+                    }
+                    throw translate(endpoint, timeoutMillis, ex);
+                });
+    }
+
+    private static RuntimeException translate(Endpoint endpoint, long timeoutMillis, Throwable ex) {
+        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        if (cause instanceof TimeoutException) {
+            log.warn("Async {} request did not complete within {} ms", endpoint.key(), timeoutMillis);
+            return new ServiceUnavailableException("Request did not complete within " + timeoutMillis + " ms");
+        }
+        if (cause instanceof RejectedExecutionException) {
+            log.warn("Async {} pool is saturated, rejecting request", endpoint.key());
+            return new ServiceUnavailableException("Too many concurrent requests, please try again later");
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new CompletionException(cause);
+    }
+}
@@ -0,0 +1,91 @@
+package com.reliaquest.api.service;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pool and timeout of every asynchronous endpoint.
+ * Each endpoint runs its upstream calls and roster work on its own bounded pool, so a slow or saturated endpoint,
+ * e.g. creates while the server is throttling, only rejects its own requests and leaves the others serving.
+ */
+public class AsyncEndpoints {
+
+    public enum Endpoint {
+        ALL("all"),
+        SEARCH("search"),
+        AUTOCOMPLETE("autocomplete"),
+        BY_ID("by-id"),
+        BY_IDS("by-ids"),
+        HIGHEST_SALARY("highest-salary"),
+        TOP_TEN("top-ten"),
+        AGGREGATES("aggregates"),
+        PERCENTILES("percentiles"),
+        CREATE("create"),
+        DELETE("delete");
+
+        private final String key;
+
+        Endpoint(String key) {
+            this.key = key;
+        }
+
+        /**
+         * Get the key of the endpoint in the employee.async.endpoints properties
+         * @return key of the endpoint
+         */
+        public String key() {
+            return key;
+        }
+    }
+
+    public record Settings(int threads, int queueCapacity, Duration timeout) {
+    }
+
+    private final Map<Endpoint, ThreadPoolExecutor> executors = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, Duration> timeouts = new EnumMap<>(Endpoint.class);
+
+    public AsyncEndpoints(Map<Endpoint, Settings> settings) {
+        for (Endpoint endpoint : Endpoint.values()) {
+            Settings endpointSettings = settings.get(endpoint);
+            if (endpointSettings == null) {
+                throw new IllegalArgumentException("No settings for async endpoint " + endpoint.key());
+            }
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(endpointSettings.threads(), endpointSettings.threads(),
+                    30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(endpointSettings.queueCapacity()),
+                    new CustomizableThreadFactory("employee-async-" + endpoint.key() + "-"),
+                    new ThreadPoolExecutor.AbortPolicy());
+            executor.allowCoreThreadTimeOut(true);
+            executors.put(endpoint, executor);
+            timeouts.put(endpoint, endpointSettings.timeout());
+        }
+    }
+
+    /**
+     * Get the pool of an endpoint
+     * @param endpoint asynchronous endpoint
+     * @return Executor rejecting work beyond its queue capacity
+     */
+    public Executor executor(Endpoint endpoint) {
+        return executors.get(endpoint);
+    }
+
+    /**
+     * Get the time an endpoint has to answer
+     * @param endpoint asynchronous endpoint
+     * @return Duration after which the request fails with 503
+     */
+    public Duration timeout(Endpoint endpoint) {
+        return timeouts.get(endpoint);
+    }
+
+    public void shutdown() {
+        executors.values().forEach(ThreadPoolExecutor::shutdown);
+    }
+}
@@ -0,0 +1,178 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.dto.CreateEmployeeRequestDTO;
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.exception.InvalidRequestException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, time expiring cache of employee creations by Idempotency-Key.
+ * The first request with a key creates the employee, later requests with the same key get the same employee back
+ * without calling the server, and requests arriving while it is still being created wait for that creation.
+ * Failed creations are not kept, so a retry after a failure creates again. A key reused with a different request is
+ * rejected. Entries expire after the time to live and the oldest are evicted beyond the max entries; as keys are
+ * kept in insertion order, each new key also drops the oldest one once it expired.
+ * Created and replayed creations are exposed as employee.create.idempotency metrics.
+ */
+@Component
+public class CreateIdempotencyCache {
+
+    public static final String HEADER = "Idempotency-Key";
+    private final static int MAX_KEY_LENGTH = 255;
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final Map<String, Entry> entries;
+    private final Counter created;
+    private final Counter replayed;
+
+    public CreateIdempotencyCache(@Value("${employee.idempotency.ttl:1h}") Duration ttl,
+                                  @Value("${employee.idempotency.max-entries:10000}") int maxEntries,
+                                  MeterRegistry meterRegistry) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > CreateIdempotencyCache.this.maxEntries
+                        || System.nanoTime() - eldest.getValue().createdAt() > ttlNanos;
+            }
+        };
+        this.created = meterRegistry.counter("employee.create.idempotency", "result", "created");
+        this.replayed = meterRegistry.counter("employee.create.idempotency", "result", "replayed");
+        Gauge.builder("employee.create.idempotency.size", this, CreateIdempotencyCache::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Create an employee at most once per key
+     * @param key Idempotency-Key of the request, without one every call creates
+     * @param request request DTO the key was sent with
+     * @param create creates the employee
+     * @return EmployeeDTO created by the first request with the key
+     */
+    public EmployeeDTO create(String key, CreateEmployeeRequestDTO request, Supplier<EmployeeDTO> create) {
+        if (key == null) {
+            return create.get();
+        }
+        Claim claim = claim(key, request);
+        if (!claim.owner()) {
+            try {
+                return claim.entry().result().join();
+            } catch (CompletionException ex) {
+                throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+            }
+        }
+
+        try {
+            EmployeeDTO employee = create.get();
+            claim.entry().result().complete(employee);
+            return employee;
+        } catch (RuntimeException ex) {
+            fail(key, claim.entry(), ex);
+            throw ex;
+        }
+    }
+
+    /**
+     * Asynchronous variant of {@link #create(String, CreateEmployeeRequestDTO, Supplier)}, duplicates share the
+     * future of the first request instead of blocking
+     * @param key Idempotency-Key of the request, without one every call creates
+     * @param request request DTO the key was sent with
+     * @param create starts creating the employee
+     * @return future of the EmployeeDTO created by the first request with the key
+     */
+    public CompletableFuture<EmployeeDTO> createAsync(String key, CreateEmployeeRequestDTO request,
+                                                     Supplier<CompletableFuture<EmployeeDTO>> create) {
+        if (key == null) {
+            return create.get();
+        }
+        Claim claim;
+        try {
+            claim = claim(key, request);
+        } catch (RuntimeException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+        CompletableFuture<EmployeeDTO> result = claim.entry().result();
+        if (!claim.owner()) {
+            return result.copy();
+        }
+
+        CompletableFuture<EmployeeDTO> creation;
+        try {
+            creation = create.get();
+        } catch (RuntimeException ex) {
+            fail(key, claim.entry(), ex);
+            return CompletableFuture.failedFuture(ex);
+        }
+        creation.whenComplete((employee, ex) -> {
+            if (ex != null) {
+                fail(key, claim.entry(), ex instanceof CompletionException && ex.getCause() != null
+                        ? ex.getCause() : ex);
+            } else {
+                result.complete(employee);
+            }
+        });
+        return result.copy();
+    }
+
+    private Claim claim(String key, CreateEmployeeRequestDTO request) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidRequestException(HEADER + " must be between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+
+        long now = System.nanoTime();
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+            if (entry != null && now - entry.createdAt() > ttlNanos) {
+                entries.remove(key);
+                entry = null;
+            }
+            if (entry == null) {
+                entry = new Entry(request, new CompletableFuture<>(), now);
+                entries.put(key, entry);
+                created.increment();
+                return new Claim(entry, true);
+            }
+        }
+
+        if (!entry.request().equals(request)) {
+            throw new InvalidRequestException(HEADER + " was already used for a different request");
+        }
+        replayed.increment();
+        return new Claim(entry, false);
+    }
+
+    private void fail(String key, Entry entry, Throwable ex) {
+        synchronized (this) {
+            entries.remove(key, entry);
+        }
+        entry.result().completeExceptionally(ex);
+    }
+
+    /**
+     * Number of keys currently remembered
+     * @return number of cached creations, including those still in flight
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private record Entry(CreateEmployeeRequestDTO request, CompletableFuture<EmployeeDTO> result, long createdAt) {
+    }
+
+    private record Claim(Entry entry, boolean owner) {
+    }
+}
@@ -0,0 +1,177 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.client.ServerApiClient;
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.dto.EmployeeLookupResultDTO;
+import com.reliaquest.api.dto.EmployeeLookupResultDTO.Status;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.InvalidRequestException;
+import com.reliaquest.api.roster.RosterCache;
+import com.reliaquest.api.roster.RosterSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Looks up several employees at once.
+ * Ids found in the warm roster are answered from its id index. The rest are fetched from the server concurrently
+ * on a bounded executor, each call with its own deadline, and concurrent requests for the same id share one
+ * upstream call.
+ */
+@Service
+public class EmployeeLookupService {
+    private final static Logger log = LoggerFactory.getLogger(EmployeeLookupService.class);
+
+    private final ServerApiClient serverApiClient;
+    private final RosterCache rosterCache;
+    private final ExecutorService executor;
+    private final long callTimeoutMillis;
+    private final int maxIds;
+    private final ConcurrentMap<String, CompletableFuture<EmployeeDTO>> inFlight = new ConcurrentHashMap<>();
+
+    public EmployeeLookupService(ServerApiClient serverApiClient,
+                                 RosterCache rosterCache,
+                                 @Qualifier("employeeLookupExecutor") ExecutorService executor,
+                                 @Value("${employee.multiget.call-timeout:2s}") Duration callTimeout,
+                                 @Value("${employee.multiget.max-ids:100}") int maxIds) {
+        this.serverApiClient = serverApiClient;
+        this.rosterCache = rosterCache;
+        this.executor = executor;
+        this.callTimeoutMillis = callTimeout.toMillis();
+        this.maxIds = maxIds;
+    }
+
+    /**
+     * Get employees by ids
+     * @param ids Employee ids, duplicates are looked up once
+     * @return one EmployeeLookupResultDTO per distinct id, in request order
+     */
+    public List<EmployeeLookupResultDTO> getEmployeesByIds(List<String> ids) {
+        Set<String> distinctIds = new LinkedHashSet<>();
+        if (ids != null) {
+            ids.stream()
+                    .filter(id -> id != null && !id.isBlank())
+                    .map(String::trim)
+                    .forEach(distinctIds::add);
+        }
+        if (distinctIds.isEmpty()) {
+            throw new InvalidRequestException("Employee IDs must not be null or empty");
+        }
+        if (distinctIds.size() > maxIds) {
+            throw new InvalidRequestException("At most " + maxIds + " employee IDs can be looked up at once");
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Looking up {} employees by id", distinctIds.size());
+        }
+
+        Optional<RosterSnapshot> roster = rosterCache.warmSnapshot();
+        List<CompletableFuture<EmployeeLookupResultDTO>> results = new ArrayList<>(distinctIds.size());
+        for (String id : distinctIds) {
+            results.add(lookup(id, roster));
+        }
+
+        return results.stream()
+                .map(CompletableFuture::join)
+                .toList();
+    }
+
+    private CompletableFuture<EmployeeLookupResultDTO> lookup(String id, Optional<RosterSnapshot> roster) {
+        UUID uuid;
+        try {
+            uuid = UUID.fromString(id);
+        } catch (IllegalArgumentException ex) {
+            return CompletableFuture.completedFuture(failure(id, Status.INVALID_ID, "Employee ID is not a valid UUID"));
+        }
+
+        if (roster.isPresent()) {
+            int row = roster.get().indexOf(uuid);
+            if (row >= 0) {
+                return CompletableFuture.completedFuture(found(id, roster.get().toEmployee(row)));
+            }
+        }
+
+        /*
+         * Ids missing from the roster may have been created since it was fetched, so they still go upstream.
+         * The timeout applies to this caller's view only, a shared upstream call keeps running for the others.
+         */
+        return fetchCoalesced(uuid.toString())
+                .thenApply(employee -> found(id, employee))
+                .orTimeout(callTimeoutMillis, TimeUnit.MILLISECONDS)
+                .exceptionally(ex -> toFailure(id, ex));
+    }
+
+    private CompletableFuture<EmployeeDTO> fetchCoalesced(String id) {
+        CompletableFuture<EmployeeDTO> call = new CompletableFuture<>();
+        CompletableFuture<EmployeeDTO> existing = inFlight.putIfAbsent(id, call);
+        if (existing != null) {
+            return existing;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    call.complete(serverApiClient.getEmployeeById(id));
+                } catch (RuntimeException ex) {
+                    call.completeExceptionally(ex);
+                } finally {
+                    inFlight.remove(id, call);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            inFlight.remove(id, call);
+            call.completeExceptionally(ex);
+        }
+        return call;
+    }
+
+    private EmployeeLookupResultDTO toFailure(String id, Throwable ex) {
+        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        if (cause instanceof EmployeeNotFoundException) {
+            return failure(id, Status.NOT_FOUND, cause.getMessage());
+        }
+        if (cause instanceof TimeoutException) {
+            return failure(id, Status.TIMEOUT, "Lookup did not complete within " + callTimeoutMillis + " ms");
+        }
+        if (cause instanceof RejectedExecutionException) {
+            return failure(id, Status.ERROR, "Too many concurrent lookups, please try again later");
+        }
+
+        log.error("Failed to look up employee with id {}: {}", id, cause.getMessage(), cause);
+        return failure(id, Status.ERROR, cause.getMessage());
+    }
+
+    private static EmployeeLookupResultDTO found(String id, EmployeeDTO employee) {
+        return EmployeeLookupResultDTO.builder()
+                .id(id)
+                .status(Status.FOUND)
+                .data(employee)
+                .build();
+    }
+
+    private static EmployeeLookupResultDTO failure(String id, Status status, String error) {
+        return EmployeeLookupResultDTO.builder()
+                .id(id)
+                .status(status)
+                .error(error)
+                .build();
+    }
+}
@@ -3,6 +3,13 @@ package com.reliaquest.api.service;
 import com.reliaquest.api.client.ServerApiClient;
 import com.reliaquest.api.dto.*;
 import com.reliaquest.api.exception.InvalidRequestException;
+import com.reliaquest.api.roster.RosterAggregator;
+import com.reliaquest.api.roster.QuantileSketch;
+import com.reliaquest.api.roster.RosterCache;
+import com.reliaquest.api.roster.RosterQueries;
+import com.reliaquest.api.roster.RosterSketches;
+import com.reliaquest.api.roster.SearchResultCache;
+import com.reliaquest.api.roster.RosterSnapshot;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -10,22 +17,32 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 @Validated
 public class EmployeeService {
     private final static Logger log = LoggerFactory.getLogger(EmployeeService.class);
+    private final static int MAX_AUTOCOMPLETE_EDITS = 2;
+    private final static int MAX_AUTOCOMPLETE_LIMIT = 50;
     private final ServerApiClient serverApiClient;
+    private final RosterCache rosterCache;
+    private final RosterAggregator rosterAggregator;
+    private final RosterSketches rosterSketches;
+    private final SearchResultCache searchResultCache;
+    private final RosterQueries rosterQueries;
 
     public List<EmployeeDTO> getAllEmployee() {
         if(log.isDebugEnabled()) {
-            log.debug("Fetching all employees from server");
+            log.debug("Fetching all employees");
         }
-        List<EmployeeDTO> allEmployees = serverApiClient.getAllEmployee();
+        List<EmployeeDTO> allEmployees = loadRoster().toEmployees();
         if(log.isDebugEnabled()) {
-            log.debug("Fetched {} employees from server", allEmployees.size());
+            log.debug("Fetched {} employees", allEmployees.size());
         }
         return allEmployees;
     }
@@ -41,33 +58,14 @@ public class EmployeeService {
 
         /*
         * First fetch all the employees and then filter the employees whose name contains the search string.
+        * The employees whose names start with the search string will be at the top of the list,
+        * and each group is sorted alphabetically. Only the matching rows are turned back into EmployeeDTO.
+        * Search traffic is heavily skewed, so matching rows are cached per roster and hot search strings
+        * skip filtering and sorting.
         */
-        List<EmployeeDTO> allEmployees = serverApiClient.getAllEmployee();
-        List<EmployeeDTO> searchedEmployees = allEmployees.stream()
-                .filter(employee -> employee.getName().toLowerCase().contains(searchString.toLowerCase()))
-                .sorted((e1, e2) -> {
-                    String name1 = e1.getName().toLowerCase();
-                    String name2 = e2.getName().toLowerCase();
-
-                    boolean starts1 = name1.startsWith(searchString.toLowerCase());
-                    boolean starts2 = name2.startsWith(searchString.toLowerCase());
-
-                    /*
-                    * Sort the data in such a way that the employees whose names start with the search string
-                    * will be at the top of the list.
-                    * And the rest of the employees whose name contains the search string will be sorted alphabetically.
-                    */
-                    if (starts1 && !starts2) {
-                        return -1;
-                    }
-
-                    if (!starts1 && starts2) {
-                        return 1;
-                    }
-
-                    //If both names do not start with searchString then sort them alphabetically
-                    return name1.compareTo(name2);
-                }).toList();
+        RosterSnapshot roster = loadRoster();
+        List<EmployeeDTO> searchedEmployees = roster.toEmployees(
+                searchResultCache.rows(roster, searchString, query -> rosterQueries.searchNameRows(roster, query)));
 
         if (log.isDebugEnabled()) {
             log.debug("Found {} employees with name containing: {}", searchedEmployees.size(), searchString);
@@ -75,6 +73,29 @@ public class EmployeeService {
         return searchedEmployees;
     }
 
+    public List<EmployeeDTO> getEmployeesByNamePrefix(String prefix, int maxEdits, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new InvalidRequestException("Prefix must not be null or empty");
+        }
+        if (maxEdits < 0 || maxEdits > MAX_AUTOCOMPLETE_EDITS) {
+            throw new InvalidRequestException("maxEdits must be between 0 and " + MAX_AUTOCOMPLETE_EDITS);
+        }
+        if (limit < 1 || limit > MAX_AUTOCOMPLETE_LIMIT) {
+            throw new InvalidRequestException("limit must be between 1 and " + MAX_AUTOCOMPLETE_LIMIT);
+        }
+
+        if(log.isDebugEnabled()) {
+            log.debug("Completing employee names starting with: {}", prefix);
+        }
+
+        /*
+        * Answered from the name index of the cached roster, built once per roster, so keystrokes neither download
+        * the roster nor scan it.
+        */
+        RosterSnapshot roster = loadRoster();
+        return roster.toEmployees(roster.nameIndex().complete(prefix.toLowerCase(), maxEdits, limit));
+    }
+
     public EmployeeDTO getEmployeeById(String id) {
         if (id == null || id.isBlank()) {
             throw new InvalidRequestException("Employee ID must not be null or empty");
@@ -90,11 +111,7 @@ public class EmployeeService {
             log.debug("Fetching highest salary of employees");
         }
 
-        List<EmployeeDTO> allEmployees = serverApiClient.getAllEmployee();
-        Integer highestSalary = allEmployees.stream()
-                .mapToInt(EmployeeDTO::getSalary)
-                .max()
-                .orElse(0);
+        Integer highestSalary = rosterQueries.maxSalary(loadRoster());
 
         log.info("Highest salary among all employees is : {}", highestSalary);
         return highestSalary;
@@ -104,11 +121,9 @@ public class EmployeeService {
         if(log.isDebugEnabled()) {
             log.debug("Fetching top 10 highest earning employee names");
         }
-        List<EmployeeDTO> allEmployees = serverApiClient.getAllEmployee();
-        List<String> top10HighestEarningEmployeeNames =  allEmployees.stream()
-                .sorted((e1, e2) -> Integer.compare(e2.getSalary(), e1.getSalary()))
-                .limit(10)
-                .map(EmployeeDTO::getName)
+        RosterSnapshot roster = loadRoster();
+        List<String> top10HighestEarningEmployeeNames = Arrays.stream(rosterQueries.topSalaryRows(roster, 10))
+                .mapToObj(roster::name)
                 .toList();
 
         if(log.isDebugEnabled()) {
@@ -117,6 +132,38 @@ public class EmployeeService {
         return top10HighestEarningEmployeeNames;
     }
 
+    public EmployeeAggregatesDTO getEmployeeAggregates() {
+        if(log.isDebugEnabled()) {
+            log.debug("Aggregating employee statistics");
+        }
+        return rosterAggregator.aggregate(loadRoster());
+    }
+
+    /*
+    * Served from quantile sketches instead of sorting the roster, so this is as cheap as the highest salary.
+    */
+    public EmployeePercentilesDTO getEmployeePercentiles() {
+        if(log.isDebugEnabled()) {
+            log.debug("Fetching salary and age percentiles of employees");
+        }
+        RosterSnapshot roster = loadRoster();
+        QuantileSketch salaries = rosterSketches.salaries(roster);
+        return EmployeePercentilesDTO.builder()
+                .count(salaries.count())
+                .relativeAccuracy(salaries.relativeAccuracy())
+                .salary(percentiles(salaries))
+                .age(percentiles(rosterSketches.ages(roster)))
+                .build();
+    }
+
+    private static Map<String, Integer> percentiles(QuantileSketch sketch) {
+        Map<String, Integer> percentiles = new LinkedHashMap<>();
+        percentiles.put("p50", sketch.quantile(0.5));
+        percentiles.put("p90", sketch.quantile(0.9));
+        percentiles.put("p99", sketch.quantile(0.99));
+        return percentiles;
+    }
+
     public EmployeeDTO createEmployee(@Valid CreateEmployeeRequestDTO newEmployee) {
         if(log.isDebugEnabled()) {
             log.debug("Creating new employee with details: {}", newEmployee);
@@ -127,7 +174,10 @@ public class EmployeeService {
             throw new RuntimeException("Failed to create employee");
         }
 
-        return singleEmployeeResponseDTO.getData();
+        // Reads are served from the cached roster, which would not show the new employee until the next refresh
+        EmployeeDTO created = singleEmployeeResponseDTO.getData();
+        rosterSketches.onCreated(rosterCache.onCreated(created), created);
+        return created;
     }
 
     public String deleteEmployeeById(String id) {
@@ -145,16 +195,23 @@ public class EmployeeService {
             log.debug("Employee to delete: {}", employeeToDelete);
         }
 
-        DeleteEmployeeResponseDTO deleteEmployeeResponseDTO = serverApiClient.deleteEmployeeByName(
-                DeleteEmployeeRequestDTO
-                        .builder()
-                        .name(employeeToDelete.getName()).build());
+        DeleteEmployeeResponseDTO deleteEmployeeResponseDTO = serverApiClient.deleteEmployee(employeeToDelete);
 
         if(deleteEmployeeResponseDTO.getData()) {
+            rosterSketches.onDeleted(rosterCache.onDeleted(employeeToDelete), employeeToDelete);
             return employeeToDelete.getName();
         } else {
             log.error("Failed to delete employee with id: {}", id);
             throw new RuntimeException("Failed to delete employee with id: " + id);
         }
     }
+
+    /*
+    * The roster is kept in columnar form, so that searches and aggregates scan primitive arrays instead of
+    * one EmployeeDTO per employee. Requests are served from the cached roster, which RosterRefresher keeps up to
+    * date in the background. It is only fetched here on a cold start or once it grew older than the max staleness.
+    */
+    private RosterSnapshot loadRoster() {
+        return rosterCache.getOrLoad(() -> RosterSnapshot.of(serverApiClient.getAllEmployee()));
+    }
 }
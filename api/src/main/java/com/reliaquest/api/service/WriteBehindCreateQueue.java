@@ -0,0 +1,377 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.client.ServerApiClient;
+import com.reliaquest.api.dto.CreateEmployeeRequestDTO;
+import com.reliaquest.api.dto.CreateTicketDTO;
+import com.reliaquest.api.dto.CreateTicketDTO.Status;
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.exception.InvalidRequestException;
+import com.reliaquest.api.exception.ServiceUnavailableException;
+import com.reliaquest.api.roster.RosterCache;
+import com.reliaquest.api.roster.RosterSketches;
+import com.reliaquest.api.util.HttpHeaderUtil;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Accepts creates into a bounded queue and writes them to the server in batches, for bulk onboarding that would
+ * otherwise spend one rate limited request per employee.
+ * Every accepted create gets a ticket whose status can be polled. One batch is sent per flush interval, so the
+ * upstream sees at most batch size creates per interval whatever the inbound load, and each batch takes a single
+ * write permit of the client. Failed batches are retried after an exponential backoff, or after the Retry-After of a
+ * 429, and a ticket fails once it ran out of attempts. Every create is sent with its ticket id as key, which the
+ * server creates at most once, so retrying a batch that timed out or failed with a 5xx after the server processed it
+ * does not create its employees twice. When the queue is full, submitting waits up to the max wait and is then
+ * rejected with 503. Finished tickets are kept for the retention period.
+ * On shutdown, after the web server stopped accepting requests, the queue is drained without pacing for up to the
+ * shutdown timeout; creates still queued after that are lost and logged.
+ * Only active with employee.write-behind.enabled. The bean always exists and checks the setting when it starts,
+ * as a bean condition would be resolved once at build time by the AOT and native builds.
+ */
+@Component
+public class WriteBehindCreateQueue implements SmartLifecycle {
+    private final static Logger log = LoggerFactory.getLogger(WriteBehindCreateQueue.class);
+
+    private final ServerApiClient serverApiClient;
+    private final RosterCache rosterCache;
+    private final RosterSketches rosterSketches;
+    private final ScheduledExecutorService scheduler;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final BlockingQueue<Ticket> queue;
+    private final Map<UUID, Ticket> tickets = new ConcurrentHashMap<>();
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long maxWaitMillis;
+    private final int maxAttempts;
+    private final long maxBackoffNanos;
+    private final long rateLimitBackoffNanos;
+    private final long retentionNanos;
+    private final long shutdownTimeoutNanos;
+
+    // Only touched by the flushing thread
+    private final List<Ticket> batch = new ArrayList<>();
+    private int consecutiveFailures;
+
+    private volatile ScheduledFuture<?> nextFlush;
+    private volatile boolean running;
+    private volatile boolean accepting = true;
+
+    public WriteBehindCreateQueue(ServerApiClient serverApiClient,
+                                  RosterCache rosterCache,
+                                  RosterSketches rosterSketches,
+                                  @Qualifier("writeBehindScheduler") ScheduledExecutorService scheduler,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${employee.write-behind.enabled:false}") boolean enabled,
+                                  @Value("${employee.write-behind.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${employee.write-behind.max-wait:50ms}") Duration maxWait,
+                                  @Value("${employee.write-behind.batch-size:50}") int batchSize,
+                                  @Value("${employee.write-behind.flush-interval:1s}") Duration flushInterval,
+                                  @Value("${employee.write-behind.max-attempts:5}") int maxAttempts,
+                                  @Value("${employee.write-behind.max-backoff:1m}") Duration maxBackoff,
+                                  @Value("${employee.write-behind.rate-limit-backoff:60s}") Duration rateLimitBackoff,
+                                  @Value("${employee.write-behind.retention:1h}") Duration retention,
+                                  @Value("${employee.write-behind.shutdown-timeout:10s}") Duration shutdownTimeout) {
+        this.serverApiClient = serverApiClient;
+        this.rosterCache = rosterCache;
+        this.rosterSketches = rosterSketches;
+        this.scheduler = scheduler;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.maxWaitMillis = maxWait.toMillis();
+        this.maxAttempts = maxAttempts;
+        this.maxBackoffNanos = maxBackoff.toNanos();
+        this.rateLimitBackoffNanos = rateLimitBackoff.toNanos();
+        this.retentionNanos = retention.toNanos();
+        this.shutdownTimeoutNanos = shutdownTimeout.toNanos();
+
+        if (enabled) {
+            Gauge.builder("employee.write-behind.queue.size", queue, BlockingQueue::size)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Tell whether write-behind creates are enabled
+     * @return employee.write-behind.enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queue an employee to be created
+     * @param request Request DTO to create new employee
+     * @return CreateTicketDTO with the id to poll the status of the create with
+     * @throws ServiceUnavailableException if the queue stayed full for the max wait, or is shutting down
+     * @throws IllegalStateException if write-behind creates are not enabled
+     */
+    public CreateTicketDTO submit(CreateEmployeeRequestDTO request) {
+        if (!enabled) {
+            throw new IllegalStateException("Write-behind creates are not enabled");
+        }
+        if (!accepting) {
+            throw new ServiceUnavailableException("Creates are no longer accepted, the service is shutting down");
+        }
+        Ticket ticket = new Ticket(UUID.randomUUID(), request);
+        tickets.put(ticket.id, ticket);
+
+        boolean accepted;
+        try {
+            accepted = queue.offer(ticket, maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+        if (!accepted) {
+            tickets.remove(ticket.id);
+            meterRegistry.counter("employee.write-behind.creates", "outcome", "rejected").increment();
+            throw new ServiceUnavailableException("Too many pending creates, please try again later");
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Queued create {} for {}", ticket.id, request);
+        }
+        return ticket.toDTO();
+    }
+
+    /**
+     * Get the status of a queued create
+     * @param id id of the ticket returned when the create was queued
+     * @return CreateTicketDTO, empty when there is no such ticket or it expired
+     */
+    public Optional<CreateTicketDTO> status(UUID id) {
+        return Optional.ofNullable(tickets.get(id)).map(Ticket::toDTO);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        if (enabled) {
+            schedule(0);
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        accepting = false;
+        if (!enabled) {
+            return;
+        }
+        ScheduledFuture<?> flush = nextFlush;
+        if (flush != null) {
+            flush.cancel(false);
+        }
+
+        // Drained on the flushing thread, after a flush that may still be running
+        long deadline = System.nanoTime() + shutdownTimeoutNanos;
+        try {
+            scheduler.submit(() -> drain(deadline)).get(shutdownTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException | RejectedExecutionException ex) {
+            log.warn("Failed to drain the queued creates: {}", ex.toString());
+        }
+
+        int pending = queue.size() + batch.size();
+        if (pending > 0) {
+            log.warn("Stopped with {} queued creates that were not sent to the server and are lost", pending);
+        }
+    }
+
+    /**
+     * Stopped after the web server, so that no create is accepted once the queue was drained
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Send every queued create without pacing, waiting out the backoff of failed batches, until the deadline
+     */
+    void drain(long deadline) {
+        while (!batch.isEmpty() || !queue.isEmpty()) {
+            long delay = flush();
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            if (!batch.isEmpty()) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(Math.min(delay, remaining));
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Send one batch to the server, the batch of a failed flush first
+     * @return delay in nanoseconds before the next flush
+     */
+    long flush() {
+        purgeFinished();
+        if (batch.isEmpty()) {
+            queue.drainTo(batch, batchSize);
+        }
+        if (batch.isEmpty()) {
+            return flushIntervalNanos;
+        }
+
+        List<CreateEmployeeRequestDTO> requests = batch.stream().map(ticket -> ticket.request).toList();
+        List<String> keys = batch.stream().map(ticket -> ticket.id.toString()).toList();
+        try {
+            List<EmployeeDTO> created = serverApiClient.createEmployees(requests, keys);
+            for (int i = 0; i < batch.size(); i++) {
+                Ticket ticket = batch.get(i);
+                ticket.attempts++;
+                if (i < created.size()) {
+                    ticket.created(created.get(i));
+                    rosterSketches.onCreated(rosterCache.onCreated(created.get(i)), created.get(i));
+                } else {
+                    ticket.failed("Employee Service did not return the created employee");
+                }
+            }
+            meterRegistry.counter("employee.write-behind.creates", "outcome", "created").increment(created.size());
+            if (log.isDebugEnabled()) {
+                log.debug("Created {} queued employees, {} still queued", created.size(), queue.size());
+            }
+            batch.clear();
+            consecutiveFailures = 0;
+            return flushIntervalNanos;
+        } catch (InvalidRequestException ex) {
+            // The server rejected the batch itself, sending it again would not change that
+            log.error("Server rejected a batch of {} creates: {}", batch.size(), ex.getMessage());
+            batch.forEach(ticket -> {
+                ticket.attempts++;
+                ticket.failed(ex.getMessage());
+            });
+            meterRegistry.counter("employee.write-behind.creates", "outcome", "failed").increment(batch.size());
+            batch.clear();
+            return flushIntervalNanos;
+        } catch (RuntimeException ex) {
+            return retryLater(ex);
+        }
+    }
+
+    private long retryLater(RuntimeException ex) {
+        consecutiveFailures++;
+        batch.removeIf(ticket -> {
+            ticket.attempts++;
+            if (ticket.attempts < maxAttempts) {
+                return false;
+            }
+            ticket.failed(ex.getMessage());
+            meterRegistry.counter("employee.write-behind.creates", "outcome", "failed").increment();
+            return true;
+        });
+
+        long backoff = Math.min(maxBackoffNanos, flushIntervalNanos << Math.min(consecutiveFailures, 20));
+        HttpClientErrorException.TooManyRequests rateLimit = rateLimitCause(ex);
+        if (rateLimit != null) {
+            long fallback = Math.max(backoff, rateLimitBackoffNanos);
+            backoff = HttpHeaderUtil.getRetryAfter(rateLimit.getResponseHeaders())
+                    .map(Duration::toNanos)
+                    .orElse(fallback);
+        }
+        log.warn("Failed to send {} queued creates ({} in a row), retrying in {} ms: {}", batch.size(),
+                consecutiveFailures, TimeUnit.NANOSECONDS.toMillis(backoff), ex.getMessage());
+        return backoff;
+    }
+
+    private void purgeFinished() {
+        long now = System.nanoTime();
+        tickets.values().removeIf(ticket -> ticket.status != Status.PENDING && now - ticket.finishedAt > retentionNanos);
+    }
+
+    private void schedule(long delayNanos) {
+        if (!running) {
+            return;
+        }
+        nextFlush = scheduler.schedule(() -> schedule(flush()), delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static HttpClientErrorException.TooManyRequests rateLimitCause(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof HttpClientErrorException.TooManyRequests tooManyRequests) {
+                return tooManyRequests;
+            }
+        }
+        return null;
+    }
+
+    private static final class Ticket {
+        private final UUID id;
+        private final CreateEmployeeRequestDTO request;
+        private volatile Status status = Status.PENDING;
+        private volatile int attempts;
+        private volatile EmployeeDTO employee;
+        private volatile String error;
+        private volatile long finishedAt;
+
+        private Ticket(UUID id, CreateEmployeeRequestDTO request) {
+            this.id = id;
+            this.request = request;
+        }
+
+        private void created(EmployeeDTO employee) {
+            this.employee = employee;
+            finish(Status.CREATED);
+        }
+
+        private void failed(String error) {
+            this.error = error;
+            finish(Status.FAILED);
+        }
+
+        private void finish(Status status) {
+            finishedAt = System.nanoTime();
+            this.status = status;
+        }
+
+        private CreateTicketDTO toDTO() {
+            return CreateTicketDTO.builder()
+                    .id(id)
+                    .status(status)
+                    .attempts(attempts)
+                    .data(employee)
+                    .error(error)
+                    .build();
+        }
+    }
+}
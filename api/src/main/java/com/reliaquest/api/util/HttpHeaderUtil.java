@@ -2,6 +2,15 @@ package com.reliaquest.api.util;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.Optional;
 
 public class HttpHeaderUtil {
 
@@ -10,4 +19,77 @@ public class HttpHeaderUtil {
         headers.setContentType(MediaType.APPLICATION_JSON);
         return headers;
     }
+
+    /**
+     * Get a header of the request handled by the current thread
+     * @param name header name
+     * @return header value, empty when absent or outside of a request
+     */
+    public static Optional<String> getRequestHeader(String name) {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return Optional.ofNullable(attributes.getRequest().getHeader(name));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Tell whether an Accept-Encoding header accepts gzip, named or through *, with a q-value above 0
+     * @param acceptEncoding header value, may be null
+     * @return true when a gzip response is acceptable, false without the header
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        boolean wildcard = false;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parameters = coding.split(";");
+            String name = parameters[0].trim().toLowerCase(Locale.ROOT);
+            if (name.equals("gzip") || name.equals("x-gzip")) {
+                // An explicit entry wins over the wildcard, whatever the order
+                return qValue(parameters) > 0;
+            }
+            if (name.equals("*")) {
+                wildcard = qValue(parameters) > 0;
+            }
+        }
+        return wildcard;
+    }
+
+    private static double qValue(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            String[] parameter = parameters[i].split("=", 2);
+            if (parameter.length == 2 && parameter[0].trim().equalsIgnoreCase("q")) {
+                try {
+                    return Double.parseDouble(parameter[1].trim());
+                } catch (NumberFormatException ex) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * Get the delay a rate limited response asks the client to wait
+     * @param headers response headers, may be null
+     * @return delay from the Retry-After header given in seconds or as a date, empty when absent or malformed
+     */
+    public static Optional<Duration> getRetryAfter(HttpHeaders headers) {
+        String value = headers == null ? null : headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null || value.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim()))));
+        } catch (NumberFormatException ex) {
+            try {
+                Duration delay = Duration.between(ZonedDateTime.now(),
+                        ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+                return Optional.of(delay.isNegative() ? Duration.ZERO : delay);
+            } catch (DateTimeParseException ignored) {
+                return Optional.empty();
+            }
+        }
+    }
 }
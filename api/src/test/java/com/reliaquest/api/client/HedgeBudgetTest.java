@@ -0,0 +1,64 @@
+package com.reliaquest.api.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HedgeBudgetTest {
+
+    private final AtomicLong now = new AtomicLong(123_456_789L);
+
+    private HedgeBudget budget(double ratio, int upstreamLimit) {
+        return new HedgeBudget(ratio, Duration.ofSeconds(90), upstreamLimit, Duration.ofSeconds(10), now::get);
+    }
+
+    @Test
+    void testHedgesAreAFractionOfRequests() {
+        HedgeBudget budget = budget(0.5, 0);
+
+        budget.onRequest();
+        assertFalse(budget.tryAcquire());
+        budget.onRequest();
+        assertTrue(budget.tryAcquire());
+        assertFalse(budget.tryAcquire());
+    }
+
+    @Test
+    void testHedgesLeaveOneRequestOfUpstreamLimit() {
+        HedgeBudget budget = budget(1.0, 4);
+
+        budget.onRequest();
+        budget.onRequest();
+        // Third request of the period, the fourth stays for regular traffic
+        assertTrue(budget.tryAcquire());
+        assertFalse(budget.tryAcquire());
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertTrue(budget.tryAcquire());
+    }
+
+    @Test
+    void testNoHedgesWhenUpstreamAllowsOneRequest() {
+        HedgeBudget budget = budget(1.0, 1);
+
+        budget.onRequest();
+        now.addAndGet(Duration.ofMinutes(1).toNanos());
+
+        assertFalse(budget.tryAcquire());
+    }
+
+    @Test
+    void testRateLimitSuspendsUntilRetryAfter() {
+        HedgeBudget budget = budget(1.0, 0);
+        budget.onRequest();
+        budget.onRateLimited(Duration.ofSeconds(7));
+        budget.onRequest();
+
+        assertFalse(budget.tryAcquire());
+        now.addAndGet(Duration.ofSeconds(7).toNanos());
+        assertTrue(budget.tryAcquire());
+    }
+}
@@ -0,0 +1,163 @@
+package com.reliaquest.api.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HedgedReaderTest {
+
+    private ExecutorService executor;
+
+    private MeterRegistry meterRegistry;
+
+    private HedgedReader hedgedReader;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        meterRegistry = new SimpleMeterRegistry();
+        hedgedReader = new HedgedReader(new HedgedReader.Config(true, 0.95, 0.99, 3, Duration.ofMillis(300),
+                Duration.ofSeconds(2), 1.0, Duration.ofSeconds(90), 10, Duration.ofSeconds(10)), executor, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testHedgeWinsOverSlowRequest() {
+        warmUp("list");
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = hedgedReader.read("list", () -> {
+            if (calls.incrementAndGet() == 1) {
+                await(release);
+                return "slow";
+            }
+            return "fast";
+        });
+        release.countDown();
+
+        assertEquals("fast", result);
+        assertEquals(2, calls.get());
+        assertEquals(1.0, meterRegistry.get("employee.client.hedges").tags("outcome", "sent").counter().count());
+    }
+
+    @Test
+    void testNoHedgeWithoutLatencyHistory() {
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = hedgedReader.read("list", () -> {
+            calls.incrementAndGet();
+            sleep(50);
+            return "only";
+        });
+
+        assertEquals("only", result);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void testTimesOutFromLatencyHistory() {
+        warmUp("byId");
+        CountDownLatch release = new CountDownLatch(1);
+
+        long start = System.nanoTime();
+        assertThrows(ResourceAccessException.class, () -> hedgedReader.read("byId", () -> {
+            await(release);
+            return "late";
+        }));
+        release.countDown();
+
+        // Timeout is the 300 ms lower bound, far below the 2 s upper bound
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    void testNoHedgesAfterRateLimit() {
+        warmUp("list");
+        assertThrows(HttpClientErrorException.class, () -> hedgedReader.read("list", () -> {
+            throw HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", null, null, null);
+        }));
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = hedgedReader.read("list", () -> {
+            calls.incrementAndGet();
+            sleep(100);
+            return "only";
+        });
+
+        assertEquals("only", result);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void testRateLimitOfOneUpstreamKeepsHedgingToAnother() {
+        HedgedReader limited = hedgedReader.forUpstream();
+        HedgedReader other = hedgedReader.forUpstream();
+        warmUp("list");
+        assertThrows(HttpClientErrorException.class, () -> limited.read("list", () -> {
+            throw HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", null, null, null);
+        }));
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = other.read("list", () -> {
+            if (calls.incrementAndGet() == 1) {
+                await(release);
+                return "slow";
+            }
+            return "fast";
+        });
+        release.countDown();
+
+        assertEquals("fast", result);
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void testClientErrorIsReturnedAsIs() {
+        assertThrows(HttpClientErrorException.NotFound.class, () -> hedgedReader.read("byId", () -> {
+            throw HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null);
+        }));
+    }
+
+    private void warmUp(String operation) {
+        LatencyHistogram histogram = hedgedReader.histogram(operation);
+        for (int i = 0; i < 50; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(5));
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.reliaquest.api.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    private final LatencyHistogram histogram = new LatencyHistogram(Duration.ofSeconds(60), 6, now::get);
+
+    @Test
+    void testPercentiles() {
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+
+        assertEquals(100, histogram.count());
+        assertWithinBucket(50, histogram.percentileNanos(0.5));
+        assertWithinBucket(95, histogram.percentileNanos(0.95));
+        assertWithinBucket(100, histogram.percentileNanos(1.0));
+    }
+
+    @Test
+    void testEmptyHistogram() {
+        assertEquals(0, histogram.count());
+        assertEquals(0, histogram.percentileNanos(0.99));
+    }
+
+    @Test
+    void testOldLatenciesLeaveTheWindow() {
+        histogram.record(TimeUnit.SECONDS.toNanos(5));
+        now.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(10));
+
+        assertEquals(2, histogram.count());
+        assertWithinBucket(5000, histogram.percentileNanos(0.99));
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(35));
+
+        assertEquals(1, histogram.count());
+        assertWithinBucket(10, histogram.percentileNanos(0.99));
+
+        now.addAndGet(TimeUnit.MINUTES.toNanos(5));
+
+        assertEquals(0, histogram.count());
+    }
+
+    @Test
+    void testLatenciesAboveRangeLandInLastBucket() {
+        histogram.record(TimeUnit.MINUTES.toNanos(5));
+
+        assertTrue(histogram.percentileNanos(0.5) >= TimeUnit.MINUTES.toNanos(1));
+    }
+
+    private static void assertWithinBucket(long expectedMillis, long actualNanos) {
+        long expectedNanos = TimeUnit.MILLISECONDS.toNanos(expectedMillis);
+        assertTrue(actualNanos >= expectedNanos && actualNanos <= expectedNanos * 1.1,
+                "expected about " + expectedMillis + " ms but was " + actualNanos + " ns");
+    }
+}
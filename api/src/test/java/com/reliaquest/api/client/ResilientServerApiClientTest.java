@@ -0,0 +1,165 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.dto.CreateEmployeeRequestDTO;
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.exception.CallRejectedException;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.ExternalServiceException;
+import com.reliaquest.api.exception.ServiceUnavailableException;
+import com.reliaquest.api.roster.RosterCache;
+import com.reliaquest.api.roster.RosterSnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ResilientServerApiClientTest {
+
+    @Mock
+    private ServerApiClient delegate;
+
+    private RosterCache rosterCache;
+
+    private MeterRegistry meterRegistry;
+
+    private ResilientServerApiClient serverApiClient;
+
+    private List<EmployeeDTO> mockEmployees;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        rosterCache = new RosterCache(Duration.ofSeconds(30), Duration.ofMinutes(5));
+        meterRegistry = new SimpleMeterRegistry();
+        CircuitBreaker.Config config = new CircuitBreaker.Config(2, 2, 50, Duration.ofMinutes(1), 1);
+        serverApiClient = new ResilientServerApiClient(delegate, rosterCache,
+                new OperationGuard("list", config, 1, Duration.ZERO, meterRegistry),
+                new OperationGuard("byId", config, 1, Duration.ZERO, meterRegistry),
+                new OperationGuard("write", config, 1, Duration.ZERO, meterRegistry));
+        mockEmployees = Arrays.asList(
+                EmployeeDTO.builder()
+                        .id(UUID.randomUUID())
+                        .name("Employee 1")
+                        .salary(5000)
+                        .age(30)
+                        .title("Software Engineer")
+                        .build(),
+                EmployeeDTO.builder()
+                        .id(UUID.randomUUID())
+                        .name("Employee 2")
+                        .salary(7000)
+                        .age(40)
+                        .title("Data Analyst")
+                        .build()
+        );
+    }
+
+    @Test
+    void testGetAllEmployee_ServesLastRosterWhileOpen() {
+        rosterCache.update(RosterSnapshot.of(mockEmployees));
+        when(delegate.getAllEmployee()).thenThrow(new ExternalServiceException("Failed to connect to Employee Service"));
+
+        assertThrows(ExternalServiceException.class, () -> serverApiClient.getAllEmployee());
+        assertThrows(ExternalServiceException.class, () -> serverApiClient.getAllEmployee());
+        List<EmployeeDTO> employees = serverApiClient.getAllEmployee();
+
+        assertEquals(mockEmployees, employees);
+        verify(delegate, times(2)).getAllEmployee();
+        assertEquals(1.0, meterRegistry.get("employee.client.circuit.transitions")
+                .tags("operation", "list", "to", "OPEN").counter().count());
+        assertEquals(1.0, meterRegistry.get("employee.client.calls.rejected")
+                .tags("operation", "list", "reason", "circuit_open").counter().count());
+    }
+
+    @Test
+    void testGetAllEmployeeWithoutFallback_RejectedWhileOpen() {
+        rosterCache.update(RosterSnapshot.of(mockEmployees));
+        when(delegate.getAllEmployee()).thenThrow(new ExternalServiceException("Failed to connect to Employee Service"));
+
+        assertThrows(ExternalServiceException.class, () -> serverApiClient.getAllEmployeeWithoutFallback());
+        assertThrows(ExternalServiceException.class, () -> serverApiClient.getAllEmployeeWithoutFallback());
+
+        assertThrows(CallRejectedException.class, () -> serverApiClient.getAllEmployeeWithoutFallback());
+        assertEquals(mockEmployees, serverApiClient.getAllEmployee());
+        verify(delegate, times(2)).getAllEmployee();
+    }
+
+    @Test
+    void testGetEmployeeById_FallsBackToRosterWhileOpen() {
+        rosterCache.update(RosterSnapshot.of(mockEmployees));
+        when(delegate.getEmployeeById(anyString())).thenThrow(new RuntimeException("Read timed out"));
+        String cached = mockEmployees.get(1).getId().toString();
+        String unknown = UUID.randomUUID().toString();
+
+        assertThrows(RuntimeException.class, () -> serverApiClient.getEmployeeById(cached));
+        assertThrows(RuntimeException.class, () -> serverApiClient.getEmployeeById(cached));
+
+        assertEquals(mockEmployees.get(1), serverApiClient.getEmployeeById(cached));
+        assertThrows(ServiceUnavailableException.class, () -> serverApiClient.getEmployeeById(unknown));
+        verify(delegate, times(2)).getEmployeeById(anyString());
+    }
+
+    @Test
+    void testNotFoundDoesNotOpenCircuit() {
+        when(delegate.getEmployeeById(anyString())).thenThrow(new EmployeeNotFoundException("Employee not found"));
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(EmployeeNotFoundException.class,
+                    () -> serverApiClient.getEmployeeById(UUID.randomUUID().toString()));
+        }
+
+        verify(delegate, times(3)).getEmployeeById(anyString());
+    }
+
+    @Test
+    void testOperationsAreIsolated() {
+        when(delegate.getAllEmployee()).thenThrow(new ExternalServiceException("Failed to connect to Employee Service"));
+        assertThrows(ExternalServiceException.class, () -> serverApiClient.getAllEmployee());
+        assertThrows(ExternalServiceException.class, () -> serverApiClient.getAllEmployee());
+        when(delegate.getEmployeeById(anyString())).thenReturn(mockEmployees.get(0));
+
+        assertThrows(ServiceUnavailableException.class, () -> serverApiClient.getAllEmployee());
+        assertEquals(mockEmployees.get(0), serverApiClient.getEmployeeById(mockEmployees.get(0).getId().toString()));
+    }
+
+    @Test
+    void testCreateEmployee_RejectedWhenBulkheadFull() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.createEmployee(any())).thenAnswer(invocation -> {
+            entered.countDown();
+            release.await(1, TimeUnit.SECONDS);
+            return null;
+        });
+        CreateEmployeeRequestDTO request = CreateEmployeeRequestDTO.builder()
+                .name("Employee 3")
+                .salary(6000)
+                .age(35)
+                .title("QA Engineer")
+                .build();
+
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> serverApiClient.createEmployee(request));
+        assertTrue(entered.await(1, TimeUnit.SECONDS));
+
+        assertThrows(ServiceUnavailableException.class, () -> serverApiClient.createEmployee(request));
+        release.countDown();
+        first.get(1, TimeUnit.SECONDS);
+
+        verify(delegate, times(1)).createEmployee(request);
+        assertEquals(1.0, meterRegistry.get("employee.client.calls.rejected")
+                .tags("operation", "write", "reason", "bulkhead_full").counter().count());
+    }
+}
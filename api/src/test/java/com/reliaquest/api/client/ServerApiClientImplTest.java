@@ -4,11 +4,13 @@ import com.reliaquest.api.dto.*;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.exception.ExternalServiceException;
 import com.reliaquest.api.exception.InvalidRequestException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -16,6 +18,7 @@ import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
@@ -28,6 +31,11 @@ class ServerApiClientImplTest {
     @Mock
     private RestTemplate restTemplate;
 
+    @Spy
+    private HedgedReader hedgedReader = new HedgedReader(new HedgedReader.Config(false, 0.95, 0.99, 3,
+            Duration.ofMillis(250), Duration.ofSeconds(10), 0.05, Duration.ofSeconds(90), 10, Duration.ofSeconds(10)),
+            Runnable::run, new SimpleMeterRegistry());
+
     @InjectMocks
     private ServerApiClientImpl serverApiClient;
 
@@ -104,6 +112,16 @@ class ServerApiClientImplTest {
         verify(restTemplate, times(1)).getForObject("/employee/" + nonExistentId, SingleEmployeeResponseDTO.class);
     }
 
+    @Test
+    void testGetEmployeeById_RateLimited() {
+        String id = UUID.randomUUID().toString();
+        when(restTemplate.getForObject("/employee/" + id, SingleEmployeeResponseDTO.class))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests",
+                        null, null, null));
+
+        assertThrows(ExternalServiceException.class, () -> serverApiClient.getEmployeeById(id));
+    }
+
     @Test
     void testCreateEmployee() {
         CreateEmployeeRequestDTO requestDTO = CreateEmployeeRequestDTO.builder()
@@ -150,6 +168,25 @@ class ServerApiClientImplTest {
         verify(restTemplate, times(1)).postForEntity(eq("/employee"), any(), eq(SingleEmployeeResponseDTO.class));
     }
 
+    @Test
+    void testCreateEmployees() {
+        CreateEmployeeRequestDTO requestDTO = CreateEmployeeRequestDTO.builder()
+                .name("Employee 1")
+                .salary(5000)
+                .age(30)
+                .title("Software Engineer")
+                .build();
+
+        EmployeeResponseDTO responseDTO = EmployeeResponseDTO.builder().data(mockEmployees).build();
+        when(restTemplate.postForObject(eq("/employee/batch"), any(), eq(EmployeeResponseDTO.class)))
+                .thenReturn(responseDTO);
+
+        List<EmployeeDTO> result = serverApiClient.createEmployees(List.of(requestDTO, requestDTO), List.of("key-1", "key-2"));
+
+        assertEquals(mockEmployees, result);
+        verify(restTemplate, times(1)).postForObject(eq("/employee/batch"), any(), eq(EmployeeResponseDTO.class));
+    }
+
     @Test
     void testDeleteEmployeeByName() {
         DeleteEmployeeRequestDTO requestDTO = DeleteEmployeeRequestDTO.builder().name("Employee 1").build();
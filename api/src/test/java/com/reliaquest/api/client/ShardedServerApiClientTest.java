@@ -0,0 +1,188 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.dto.*;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.ExternalServiceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ShardedServerApiClientTest {
+
+    private ServerApiClient first;
+    private ServerApiClient second;
+    private ServerApiClient third;
+    private ExecutorService executor;
+    private ShardedServerApiClient serverApiClient;
+
+    @BeforeEach
+    void setUp() {
+        first = mock(ServerApiClient.class);
+        second = mock(ServerApiClient.class);
+        third = mock(ServerApiClient.class);
+        executor = Executors.newFixedThreadPool(2);
+        serverApiClient = new ShardedServerApiClient(List.of(first, second, third), executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static EmployeeDTO employee(UUID id, String name) {
+        return EmployeeDTO.builder()
+                .id(id)
+                .name(name)
+                .salary(5000)
+                .age(30)
+                .title("Software Engineer")
+                .build();
+    }
+
+    private static UUID idOfShard(int shard) {
+        UUID id = UUID.randomUUID();
+        while (ShardedServerApiClient.shardOf(id, 3) != shard) {
+            id = UUID.randomUUID();
+        }
+        return id;
+    }
+
+    @Test
+    void testGetAllEmployee_GathersEveryShardInShardOrder() {
+        EmployeeDTO employee1 = employee(idOfShard(0), "Employee 1");
+        EmployeeDTO employee2 = employee(idOfShard(1), "Employee 2");
+        EmployeeDTO employee3 = employee(idOfShard(1), "Employee 3");
+        EmployeeDTO employee4 = employee(idOfShard(2), "Employee 4");
+        when(first.getAllEmployee()).thenReturn(List.of(employee1));
+        when(second.getAllEmployee()).thenReturn(List.of(employee2, employee3));
+        when(third.getAllEmployee()).thenReturn(List.of(employee4));
+
+        List<EmployeeDTO> result = serverApiClient.getAllEmployee();
+
+        assertEquals(List.of(employee1, employee2, employee3, employee4), result);
+    }
+
+    @Test
+    void testGetAllEmployee_FailsWhenAnyShardFails() {
+        ExternalServiceException failure = new ExternalServiceException("Failed to connect to Employee Service");
+        when(first.getAllEmployee()).thenReturn(List.of(employee(idOfShard(0), "Employee 1")));
+        when(second.getAllEmployee()).thenThrow(failure);
+        when(third.getAllEmployee()).thenReturn(List.of());
+
+        ExternalServiceException exception = assertThrows(ExternalServiceException.class,
+                () -> serverApiClient.getAllEmployee());
+
+        assertSame(failure, exception);
+    }
+
+    @Test
+    void testGetEmployeeById_RoutesToOwningShard() {
+        UUID id = idOfShard(2);
+        EmployeeDTO employee = employee(id, "Employee 1");
+        when(third.getEmployeeById(id.toString())).thenReturn(employee);
+
+        assertEquals(employee, serverApiClient.getEmployeeById(id.toString()));
+
+        verifyNoInteractions(first, second);
+    }
+
+    @Test
+    void testGetEmployeeById_InvalidIdIsNotFound() {
+        assertThrows(EmployeeNotFoundException.class, () -> serverApiClient.getEmployeeById("not-a-uuid"));
+
+        verifyNoInteractions(first, second, third);
+    }
+
+    @Test
+    void testCreateEmployee_SpreadsCreatesRoundRobin() {
+        CreateEmployeeRequestDTO request = CreateEmployeeRequestDTO.builder()
+                .name("Employee 1")
+                .salary(5000)
+                .age(30)
+                .title("Software Engineer")
+                .build();
+
+        for (int i = 0; i < 4; i++) {
+            serverApiClient.createEmployee(request);
+        }
+        serverApiClient.createEmployees(List.of(request, request), null);
+
+        verify(first, times(2)).createEmployee(request);
+        verify(second, times(1)).createEmployee(request);
+        verify(second, times(1)).createEmployees(List.of(request, request), null);
+        verify(third, times(1)).createEmployee(request);
+    }
+
+    @Test
+    void testCreateEmployees_RetriedBatchReachesSameShard() {
+        CreateEmployeeRequestDTO request = CreateEmployeeRequestDTO.builder()
+                .name("Employee 1")
+                .salary(5000)
+                .age(30)
+                .title("Software Engineer")
+                .build();
+        List<String> keys = List.of("key-1");
+
+        serverApiClient.createEmployees(List.of(request), keys);
+        serverApiClient.createEmployee(request);
+        serverApiClient.createEmployees(List.of(request), keys);
+
+        ServerApiClient owner = List.of(first, second, third).get(Math.floorMod("key-1".hashCode(), 3));
+        verify(owner, times(2)).createEmployees(List.of(request), keys);
+    }
+
+    @Test
+    void testDeleteEmployee_GoesToShardOwningId() {
+        // A namesake on a lower shard must not be deleted instead
+        EmployeeDTO employee = employee(idOfShard(2), "Employee 1");
+        when(third.deleteEmployee(employee)).thenReturn(DeleteEmployeeResponseDTO.builder().data(true).build());
+
+        DeleteEmployeeResponseDTO result = serverApiClient.deleteEmployee(employee);
+
+        assertTrue(result.getData());
+        verify(third).deleteEmployee(employee);
+        verifyNoInteractions(first, second);
+    }
+
+    @Test
+    void testDeleteEmployee_SingleServerDeletesByName() {
+        ServerApiClient single = mock(ServerApiClient.class, CALLS_REAL_METHODS);
+        DeleteEmployeeRequestDTO request = DeleteEmployeeRequestDTO.builder().name("Employee 1").build();
+        doReturn(DeleteEmployeeResponseDTO.builder().data(true).build()).when(single).deleteEmployeeByName(request);
+
+        assertTrue(single.deleteEmployee(employee(UUID.randomUUID(), "Employee 1")).getData());
+    }
+
+    @Test
+    void testDeleteEmployeeByName_StopsAtFirstShardThatDeletes() {
+        DeleteEmployeeRequestDTO request = DeleteEmployeeRequestDTO.builder().name("Employee 1").build();
+        when(first.deleteEmployeeByName(request))
+                .thenReturn(DeleteEmployeeResponseDTO.builder().data(false).build());
+        when(second.deleteEmployeeByName(request))
+                .thenReturn(DeleteEmployeeResponseDTO.builder().data(true).build());
+
+        DeleteEmployeeResponseDTO result = serverApiClient.deleteEmployeeByName(request);
+
+        assertTrue(result.getData());
+        verifyNoInteractions(third);
+    }
+
+    @Test
+    void testDeleteEmployeeByName_NotFoundOnAnyShard() {
+        DeleteEmployeeRequestDTO request = DeleteEmployeeRequestDTO.builder().name("Employee 1").build();
+        EmployeeNotFoundException notFound = new EmployeeNotFoundException("Employee with name 'Employee 1' not found.");
+        when(first.deleteEmployeeByName(request)).thenThrow(notFound);
+        when(second.deleteEmployeeByName(request)).thenThrow(notFound);
+        when(third.deleteEmployeeByName(request)).thenThrow(notFound);
+
+        assertThrows(EmployeeNotFoundException.class, () -> serverApiClient.deleteEmployeeByName(request));
+    }
+}
@@ -0,0 +1,57 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.dto.EmployeeAggregatesDTO;
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.dto.EmployeeResponseDTO;
+import com.reliaquest.api.dto.ErrorResponse;
+import com.reliaquest.api.exception.GlobalExceptionHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NativeHintsConfigTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new NativeHintsConfig.DtoHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void testRegistersDtosForBinding() {
+        for (Class<?> dto : NativeHintsConfig.DTOS) {
+            assertTrue(RuntimeHintsPredicates.reflection().onType(dto)
+                    .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints), dto.getName());
+        }
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(EmployeeDTO.class, "getSalary").test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(ErrorResponse.class, "setMessage").test(hints));
+    }
+
+    @Test
+    void testRegistersNestedTypes() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(EmployeeAggregatesDTO.Statistics.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(EmployeeAggregatesDTO.Bucket.class).test(hints));
+    }
+
+    @Test
+    void testRegistersLombokBuilders() {
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(EmployeeDTO.EmployeeDTOBuilder.class, "build")
+                .test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(EmployeeResponseDTO.EmployeeResponseDTOBuilder.class,
+                "build").test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(EmployeeAggregatesDTO.Column.ColumnBuilder.class).test(hints));
+    }
+
+    @Test
+    void testRegistersExceptionHandler() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(GlobalExceptionHandler.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_METHODS).test(hints));
+    }
+}
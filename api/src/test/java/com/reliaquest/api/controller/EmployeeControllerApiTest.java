@@ -5,6 +5,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reliaquest.api.dto.CreateEmployeeRequestDTO;
 import com.reliaquest.api.dto.EmployeeDTO;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.roster.RosterSnapshot;
+import com.reliaquest.api.service.CreateIdempotencyCache;
 import com.reliaquest.api.service.EmployeeService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -69,6 +71,22 @@ class EmployeeControllerApiTest {
         assertEquals("Employee 1", employeeName);
     }
 
+    @Test
+    void getAllEmployees_shouldWriteCachedRosterJson() throws Exception {
+        List<EmployeeDTO> roster = RosterSnapshot.of(List.of(sampleEmployee)).toEmployees();
+        Mockito.when(employeeService.getAllEmployee()).thenReturn(roster);
+
+        String first = mockMvc.perform(get(BASE_API_URL))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String second = mockMvc.perform(get(BASE_API_URL))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertEquals(objectMapper.writeValueAsString(List.of(sampleEmployee)), first);
+        assertEquals(first, second);
+    }
+
     @Test
     void getEmployeeById_shouldReturnEmployee() throws Exception {
         Mockito.when(employeeService.getEmployeeById(sampleEmployee.getId().toString())).thenReturn(sampleEmployee);
@@ -156,6 +174,29 @@ class EmployeeControllerApiTest {
         assertEquals("Employee 1", employeeName);
     }
 
+    @Test
+    void createEmployee_shouldReplayRetriesWithSameIdempotencyKey() throws Exception {
+        CreateEmployeeRequestDTO request = CreateEmployeeRequestDTO.builder()
+                .name("Employee 1")
+                .age(18)
+                .salary(10000)
+                .build();
+
+        Mockito.when(employeeService.createEmployee(any(CreateEmployeeRequestDTO.class)))
+                .thenReturn(sampleEmployee);
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            mockMvc.perform(post(BASE_API_URL)
+                            .header(CreateIdempotencyCache.HEADER, "create-" + sampleEmployee.getId())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated())
+                    .andExpect(content().json(objectMapper.writeValueAsString(sampleEmployee)));
+        }
+
+        Mockito.verify(employeeService, Mockito.times(1)).createEmployee(any(CreateEmployeeRequestDTO.class));
+    }
+
     @Test
     void deleteEmployeeById_shouldReturnDeletedName() throws Exception {
         Mockito.when(employeeService.deleteEmployeeById(sampleEmployee.getId().toString())).thenReturn("Employee 1");
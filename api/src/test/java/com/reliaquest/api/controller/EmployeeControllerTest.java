@@ -4,17 +4,23 @@ package com.reliaquest.api.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reliaquest.api.dto.CreateEmployeeRequestDTO;
 import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.dto.EmployeeLookupResultDTO;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.service.CreateIdempotencyCache;
+import com.reliaquest.api.service.EmployeeLookupService;
 import com.reliaquest.api.service.EmployeeService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
@@ -34,6 +40,13 @@ class EmployeeControllerTest {
     @Mock
     private EmployeeService employeeService;
 
+    @Mock
+    private EmployeeLookupService employeeLookupService;
+
+    @Spy
+    private CreateIdempotencyCache createIdempotencyCache =
+            new CreateIdempotencyCache(Duration.ofHours(1), 100, new SimpleMeterRegistry());
+
     @InjectMocks
     private EmployeeController employeeController;
 
@@ -97,6 +110,23 @@ class EmployeeControllerTest {
         verify(employeeService, times(1)).getEmployeeById(nonExistentId);
     }
 
+    @Test
+    void testGetEmployeesByIds() {
+        List<String> ids = List.of(mockEmployees.get(0).getId().toString());
+        List<EmployeeLookupResultDTO> results = List.of(EmployeeLookupResultDTO.builder()
+                .id(ids.get(0))
+                .status(EmployeeLookupResultDTO.Status.FOUND)
+                .data(mockEmployees.get(0))
+                .build());
+        when(employeeLookupService.getEmployeesByIds(ids)).thenReturn(results);
+
+        ResponseEntity<List<EmployeeLookupResultDTO>> response = employeeController.getEmployeesByIds(ids);
+
+        assertEquals(200, response.getStatusCodeValue());
+        assertEquals(results, response.getBody());
+        verify(employeeLookupService, times(1)).getEmployeesByIds(ids);
+    }
+
     @Test
     void testCreateEmployee() {
         CreateEmployeeRequestDTO requestDTO = CreateEmployeeRequestDTO.builder()
@@ -0,0 +1,110 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.dto.EmployeeDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NameIndexTest {
+
+    private RosterSnapshot roster;
+
+    @BeforeEach
+    void setUp() {
+        roster = RosterSnapshot.of(List.of(
+                employee("Zoe Anderson"),
+                employee("Andrew Smith"),
+                employee("Bob Brown"),
+                employee("Andy Anders"),
+                employee("Jon Smithers"),
+                employee("John Smith")));
+    }
+
+    @Test
+    void testPrefixMatchesFirstThenLaterWords() {
+        assertEquals(List.of("Andrew Smith", "Andy Anders", "Zoe Anderson"), complete("and", 0, 10));
+        assertEquals(List.of("Andrew Smith", "John Smith", "Jon Smithers"), complete("smith", 0, 10));
+        assertEquals(List.of("Bob Brown"), complete("bob b", 0, 10));
+    }
+
+    @Test
+    void testLimit() {
+        assertEquals(List.of("Andrew Smith", "Andy Anders"), complete("and", 0, 2));
+        assertEquals(List.of("Andrew Smith"), complete("and", 0, 1));
+    }
+
+    @Test
+    void testTypoTolerance() {
+        assertEquals(List.of(), complete("smiht", 0, 10));
+        assertEquals(List.of("Andrew Smith", "John Smith", "Jon Smithers"), complete("smiht", 2, 10));
+        // Jon is an exact match, John one insertion away
+        assertEquals(List.of("Jon Smithers", "John Smith"), complete("jon s", 1, 10));
+    }
+
+    @Test
+    void testShortQueriesAreNotFuzzy() {
+        assertEquals(complete("an", 0, 10), complete("an", 2, 10));
+    }
+
+    @Test
+    void testMatchesLinearScan() {
+        Random random = new Random(3);
+        String[] syllables = {"an", "bo", "ca", "de", "el", "fi", "ga", "ho"};
+        List<EmployeeDTO> employees = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            employees.add(employee(word(random, syllables) + " " + word(random, syllables)));
+        }
+        RosterSnapshot large = RosterSnapshot.of(employees);
+
+        for (String query : List.of("a", "bo", "cade", "el f", "hoh")) {
+            List<String> prefixed = new ArrayList<>();
+            List<String> laterWord = new ArrayList<>();
+            for (EmployeeDTO employee : employees) {
+                String name = employee.getName().toLowerCase();
+                if (name.startsWith(query)) {
+                    prefixed.add(name);
+                } else if (name.contains(" " + query)) {
+                    laterWord.add(name);
+                }
+            }
+            prefixed.sort(null);
+            laterWord.sort(null);
+            prefixed.addAll(laterWord);
+
+            List<String> actual = names(large, large.nameIndex().complete(query, 0, Integer.MAX_VALUE)).stream()
+                    .map(String::toLowerCase)
+                    .toList();
+            assertEquals(prefixed, actual, query);
+        }
+    }
+
+    private List<String> complete(String query, int maxEdits, int limit) {
+        return names(roster, roster.nameIndex().complete(query, maxEdits, limit));
+    }
+
+    private static List<String> names(RosterSnapshot roster, int[] rows) {
+        return Arrays.stream(rows).mapToObj(roster::name).collect(Collectors.toList());
+    }
+
+    private static String word(Random random, String[] syllables) {
+        return syllables[random.nextInt(syllables.length)] + syllables[random.nextInt(syllables.length)];
+    }
+
+    private static EmployeeDTO employee(String name) {
+        return EmployeeDTO.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(1000)
+                .age(30)
+                .title("Engineer")
+                .build();
+    }
+}
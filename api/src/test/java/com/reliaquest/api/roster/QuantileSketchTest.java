@@ -0,0 +1,74 @@
+package com.reliaquest.api.roster;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuantileSketchTest {
+
+    @Test
+    void testQuantilesWithinRelativeAccuracy() {
+        QuantileSketch sketch = new QuantileSketch(0.01);
+        Random random = new Random(11);
+        int[] values = new int[100000];
+        for (int i = 0; i < values.length; i++) {
+            // Long tailed, like salaries
+            values[i] = (int) Math.exp(10 + random.nextGaussian());
+            sketch.add(values[i]);
+        }
+        Arrays.sort(values);
+
+        for (double quantile : new double[]{0.01, 0.5, 0.9, 0.99, 1.0}) {
+            int exact = values[(int) Math.ceil(quantile * values.length) - 1];
+            assertEquals(exact, sketch.quantile(quantile), exact * 0.01 + 1, "quantile " + quantile);
+        }
+        assertEquals(values.length, sketch.count());
+    }
+
+    @Test
+    void testRemove() {
+        QuantileSketch sketch = new QuantileSketch(0.01);
+        for (int value = 1; value <= 100; value++) {
+            sketch.add(value * 1000);
+        }
+
+        for (int value = 51; value <= 100; value++) {
+            sketch.remove(value * 1000);
+        }
+        sketch.remove(12345678);
+
+        assertEquals(50, sketch.count());
+        assertEquals(50000, sketch.quantile(1.0), 500);
+    }
+
+    @Test
+    void testMerge() {
+        QuantileSketch low = new QuantileSketch(0.02);
+        QuantileSketch high = new QuantileSketch(0.02);
+        for (int value = 1; value <= 100; value++) {
+            (value <= 50 ? low : high).add(value * 100);
+        }
+
+        low.merge(high);
+
+        assertEquals(100, low.count());
+        assertEquals(5000, low.quantile(0.5), 100);
+        assertThrows(IllegalArgumentException.class, () -> low.merge(new QuantileSketch(0.01)));
+    }
+
+    @Test
+    void testEmptyAndNonPositive() {
+        QuantileSketch sketch = new QuantileSketch(0.01);
+        assertEquals(0, sketch.quantile(0.5));
+
+        sketch.add(0);
+        sketch.add(-5);
+        sketch.add(Integer.MAX_VALUE);
+
+        assertEquals(0, sketch.quantile(0.5));
+        assertEquals(Integer.MAX_VALUE, sketch.quantile(1.0), Integer.MAX_VALUE * 0.01);
+    }
+}
@@ -0,0 +1,154 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.dto.EmployeeAggregatesDTO;
+import com.reliaquest.api.dto.EmployeeAggregatesDTO.Bucket;
+import com.reliaquest.api.dto.EmployeeAggregatesDTO.Column;
+import com.reliaquest.api.dto.EmployeeDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RosterAggregatorTest {
+
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void testAggregate() {
+        RosterSnapshot roster = RosterSnapshot.of(List.of(
+                employee(40000, 25, "Engineer"),
+                employee(60000, 35, "Engineer"),
+                employee(90000, 45, "Engineer"),
+                employee(30000, 52, "Analyst")));
+
+        EmployeeAggregatesDTO aggregates = new RosterAggregator(pool, 100000, 25000, 10, 64).aggregate(roster);
+
+        assertEquals(4, aggregates.getOverall().getCount());
+        Column salary = aggregates.getOverall().getSalary();
+        assertEquals(220000, salary.getSum());
+        assertEquals(30000, salary.getMin());
+        assertEquals(90000, salary.getMax());
+        assertEquals(55000.0, salary.getMean());
+        assertEquals(Map.of("p50", 40000, "p90", 90000, "p99", 90000), salary.getPercentiles());
+        assertEquals(List.of(
+                Bucket.builder().from(25000).to(50000L).count(2).build(),
+                Bucket.builder().from(50000).to(75000L).count(1).build(),
+                Bucket.builder().from(75000).to(100000L).count(1).build()), salary.getHistogram());
+
+        assertEquals(List.of("Analyst", "Engineer"), List.copyOf(aggregates.getByTitle().keySet()));
+        EmployeeAggregatesDTO.Statistics engineers = aggregates.getByTitle().get("Engineer");
+        assertEquals(3, engineers.getCount());
+        assertEquals(35.0, engineers.getAge().getMean());
+        assertEquals(60000, (int) engineers.getSalary().getPercentiles().get("p50"));
+        assertEquals(3, engineers.getAge().getHistogram().size());
+    }
+
+    @Test
+    void testLastBucketIsOpenEnded() {
+        RosterSnapshot roster = RosterSnapshot.of(List.of(employee(10, 20, "A"), employee(1000, 30, "A")));
+
+        List<Bucket> histogram = new RosterAggregator(pool, 100000, 10, 10, 4).aggregate(roster)
+                .getOverall().getSalary().getHistogram();
+
+        assertEquals(30, histogram.get(1).getFrom());
+        assertNull(histogram.get(1).getTo());
+        assertEquals(1, histogram.get(1).getCount());
+    }
+
+    @Test
+    void testParallelMatchesSequential() {
+        Random random = new Random(7);
+        List<EmployeeDTO> employees = new ArrayList<>();
+        for (int i = 0; i < 50000; i++) {
+            employees.add(employee(30000 + random.nextInt(470000), 16 + random.nextInt(55), "Title " + random.nextInt(40)));
+        }
+        RosterSnapshot roster = RosterSnapshot.of(employees);
+
+        EmployeeAggregatesDTO sequential = new RosterAggregator(pool, Integer.MAX_VALUE, 25000, 10, 64).aggregate(roster);
+        EmployeeAggregatesDTO parallel = new RosterAggregator(pool, 1, 25000, 10, 64).aggregate(roster);
+
+        assertEquals(sequential, parallel);
+        assertEquals(40, parallel.getByTitle().size());
+    }
+
+    @Test
+    void testOverallPercentilesMatchSortedColumn() {
+        Random random = new Random(11);
+        List<EmployeeDTO> employees = new ArrayList<>();
+        for (int i = 0; i < 5001; i++) {
+            employees.add(employee(30000 + random.nextInt(1000), 30, "Title " + random.nextInt(7)));
+        }
+        int[] salaries = employees.stream().mapToInt(EmployeeDTO::getSalary).sorted().toArray();
+
+        Column salary = new RosterAggregator(pool, 100000, 25000, 10, 64).aggregate(RosterSnapshot.of(employees))
+                .getOverall().getSalary();
+
+        assertEquals(Map.of("p50", salaries[2500], "p90", salaries[4500], "p99", salaries[4950]),
+                salary.getPercentiles());
+    }
+
+    @Test
+    void testValueAtRank() {
+        int[][] runs = {{-5, 3, 3, 8}, null, {}, {Integer.MIN_VALUE, 3, Integer.MAX_VALUE}};
+        int[] merged = {Integer.MIN_VALUE, -5, 3, 3, 3, 8, Integer.MAX_VALUE};
+
+        for (int rank = 1; rank <= merged.length; rank++) {
+            assertEquals(merged[rank - 1], RosterAggregator.valueAtRank(runs, rank));
+        }
+    }
+
+    @Test
+    void testInvalidBucketWidths() {
+        assertThrows(IllegalArgumentException.class, () -> new RosterAggregator(pool, 100000, 0, 10, 64));
+        assertThrows(IllegalArgumentException.class, () -> new RosterAggregator(pool, 100000, 25000, -1, 64));
+        assertThrows(IllegalArgumentException.class, () -> new RosterAggregator(pool, 100000, 25000, 10, 0));
+    }
+
+    @Test
+    void testStatisticsAreKeptPerRoster() {
+        RosterAggregator aggregator = new RosterAggregator(pool, 100000, 25000, 10, 64);
+        RosterSnapshot roster = RosterSnapshot.of(List.of(employee(40000, 25, "Engineer")));
+
+        EmployeeAggregatesDTO aggregates = aggregator.aggregate(roster);
+
+        assertSame(aggregates, aggregator.aggregate(roster));
+        assertNotSame(aggregates, aggregator.aggregate(RosterSnapshot.of(List.of(employee(40000, 25, "Engineer")))));
+    }
+
+    @Test
+    void testEmptyRoster() {
+        EmployeeAggregatesDTO aggregates = new RosterAggregator(pool, 100000, 25000, 10, 64)
+                .aggregate(RosterSnapshot.empty());
+
+        assertEquals(0, aggregates.getOverall().getCount());
+        assertTrue(aggregates.getByTitle().isEmpty());
+    }
+
+    private static EmployeeDTO employee(int salary, int age, String title) {
+        return EmployeeDTO.builder()
+                .id(UUID.randomUUID())
+                .name("Employee " + salary)
+                .salary(salary)
+                .age(age)
+                .title(title)
+                .build();
+    }
+}
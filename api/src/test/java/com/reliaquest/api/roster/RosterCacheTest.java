@@ -0,0 +1,149 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.dto.EmployeeDTO;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RosterCacheTest {
+
+    private final RosterSnapshot snapshot = RosterSnapshot.of(List.of(
+            EmployeeDTO.builder()
+                    .id(UUID.randomUUID())
+                    .name("Employee 1")
+                    .salary(5000)
+                    .age(30)
+                    .title("Software Engineer")
+                    .build()));
+
+    private final AtomicLong clock = new AtomicLong(123_456_789L);
+
+    @Test
+    void testWarmAndLatestSnapshot() {
+        RosterCache rosterCache = new RosterCache(Duration.ofSeconds(30), Duration.ofMinutes(5), clock::get);
+        assertTrue(rosterCache.latestSnapshot().isEmpty());
+        assertTrue(Double.isNaN(rosterCache.ageSeconds()));
+
+        rosterCache.update(snapshot);
+        assertSame(snapshot, rosterCache.warmSnapshot().orElseThrow());
+
+        clock.addAndGet(Duration.ofSeconds(30).toNanos() - 1);
+        assertSame(snapshot, rosterCache.warmSnapshot().orElseThrow());
+        clock.incrementAndGet();
+        assertTrue(rosterCache.warmSnapshot().isEmpty());
+        assertSame(snapshot, rosterCache.latestSnapshot().orElseThrow());
+        assertEquals(30.0, rosterCache.ageSeconds());
+
+        clock.addAndGet(Duration.ofMinutes(5).minusSeconds(30).toNanos());
+        assertTrue(rosterCache.latestSnapshot().isEmpty());
+    }
+
+    @Test
+    void testUnchangedRosterKeepsCachedInstance() {
+        RosterCache rosterCache = new RosterCache(Duration.ofSeconds(30), Duration.ofMinutes(5), clock::get);
+        rosterCache.update(snapshot);
+        clock.addAndGet(Duration.ofMinutes(1).toNanos());
+        assertTrue(rosterCache.warmSnapshot().isEmpty());
+
+        RosterSnapshot refetched = RosterSnapshot.of(new ArrayList<>(snapshot.toEmployees()));
+        assertNotSame(snapshot, refetched);
+        assertSame(snapshot, rosterCache.update(refetched));
+        assertSame(snapshot, rosterCache.warmSnapshot().orElseThrow());
+
+        RosterSnapshot changed = RosterSnapshot.of(List.of(snapshot.toEmployee(0), snapshot.toEmployee(0)));
+        assertSame(changed, rosterCache.update(changed));
+        assertSame(changed, rosterCache.warmSnapshot().orElseThrow());
+    }
+
+    @Test
+    void testLocalWritesPatchCachedRoster() {
+        RosterCache rosterCache = new RosterCache(Duration.ofSeconds(30), Duration.ofMinutes(5));
+        rosterCache.update(snapshot);
+        EmployeeDTO created = employee("Employee 2");
+
+        RosterCache.Patch patch = rosterCache.onCreated(created);
+
+        assertSame(snapshot, patch.before());
+        assertSame(patch.after(), rosterCache.warmSnapshot().orElseThrow());
+        assertEquals(List.of(snapshot.toEmployee(0), created), patch.after().toEmployees());
+
+        rosterCache.onDeleted(snapshot.toEmployee(0));
+        assertEquals(List.of(created), rosterCache.warmSnapshot().orElseThrow().toEmployees());
+    }
+
+    @Test
+    void testLocalWritesSurviveRefreshUntilServerReflectsThem() {
+        RosterCache rosterCache = new RosterCache(Duration.ofSeconds(30), Duration.ofMinutes(5));
+        rosterCache.update(snapshot);
+        EmployeeDTO created = employee("Employee 2");
+        rosterCache.onCreated(created);
+
+        // Fetched before the create reached the server
+        RosterSnapshot stale = RosterSnapshot.of(new ArrayList<>(snapshot.toEmployees()));
+        assertEquals(List.of(snapshot.toEmployee(0), created), rosterCache.update(stale).toEmployees());
+
+        // The server now has the employee, and was changed by someone else since
+        EmployeeDTO other = employee("Employee 3");
+        RosterSnapshot fresh = RosterSnapshot.of(List.of(snapshot.toEmployee(0), created, other));
+        assertSame(fresh, rosterCache.update(fresh));
+
+        // The create is forgotten once reflected, so it does not come back after a delete by someone else
+        RosterSnapshot deletedElsewhere = RosterSnapshot.of(List.of(snapshot.toEmployee(0), other));
+        assertSame(deletedElsewhere, rosterCache.update(deletedElsewhere));
+    }
+
+    private static EmployeeDTO employee(String name) {
+        return EmployeeDTO.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(6000)
+                .age(40)
+                .title("Data Analyst")
+                .build();
+    }
+
+    @Test
+    void testGetOrLoadServesLatestSnapshot() {
+        RosterCache rosterCache = new RosterCache(Duration.ofSeconds(30), Duration.ofMinutes(5));
+        rosterCache.update(snapshot);
+
+        assertSame(snapshot, rosterCache.getOrLoad(() -> fail("roster should not be loaded")));
+    }
+
+    @Test
+    void testGetOrLoadLoadsOnceForConcurrentCallers() throws Exception {
+        RosterCache rosterCache = new RosterCache(Duration.ofSeconds(30), Duration.ofMinutes(5));
+        AtomicInteger loads = new AtomicInteger();
+
+        List<CompletableFuture<RosterSnapshot>> callers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            callers.add(CompletableFuture.supplyAsync(() -> rosterCache.getOrLoad(() -> {
+                loads.incrementAndGet();
+                sleep(100);
+                return snapshot;
+            })));
+        }
+
+        for (CompletableFuture<RosterSnapshot> caller : callers) {
+            assertSame(snapshot, caller.get(1, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
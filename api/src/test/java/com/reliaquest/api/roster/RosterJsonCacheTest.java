@@ -0,0 +1,88 @@
+package com.reliaquest.api.roster;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.dto.EmployeeDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RosterJsonCacheTest {
+
+    private ObjectMapper objectMapper;
+    private List<EmployeeDTO> employees;
+    private RosterSnapshot roster;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        employees = List.of(employee("Zoe Anderson", 90000), employee("Andrew Smith", 60000));
+        roster = RosterSnapshot.of(employees);
+    }
+
+    @Test
+    void testPayloadMatchesJackson() throws Exception {
+        RosterJsonCache cache = new RosterJsonCache(objectMapper, false);
+
+        RosterJsonCache.Payload payload = cache.payload(roster);
+
+        assertArrayEquals(objectMapper.writeValueAsBytes(employees), payload.json());
+        assertNull(payload.gzipped());
+    }
+
+    @Test
+    void testSameRosterReusesPayload() {
+        RosterJsonCache cache = new RosterJsonCache(objectMapper, false);
+
+        assertSame(cache.payload(roster), cache.payload(roster));
+    }
+
+    @Test
+    void testNewRosterIsSerializedAgain() throws Exception {
+        RosterJsonCache cache = new RosterJsonCache(objectMapper, false);
+        cache.payload(roster);
+
+        List<EmployeeDTO> changed = new ArrayList<>(employees);
+        changed.add(employee("Andy Anders", 70000));
+        RosterJsonCache.Payload payload = cache.payload(RosterSnapshot.of(changed));
+
+        assertArrayEquals(objectMapper.writeValueAsBytes(changed), payload.json());
+    }
+
+    @Test
+    void testGzippedPayloadInflatesToJson() throws Exception {
+        RosterJsonCache cache = new RosterJsonCache(objectMapper, true);
+
+        RosterJsonCache.Payload payload = cache.payload(roster);
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(payload.gzipped()))) {
+            assertArrayEquals(payload.json(), in.readAllBytes());
+        }
+    }
+
+    @Test
+    void testRosterListMaterializesRowsOnAccess() {
+        List<EmployeeDTO> list = roster.toEmployees();
+
+        assertEquals(employees, list);
+        assertSame(list.get(1), list.get(1));
+        assertSame(roster, RosterSnapshot.of(list));
+    }
+
+    private static EmployeeDTO employee(String name, int salary) {
+        return EmployeeDTO.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .age(30)
+                .title("Engineer")
+                .email(name.toLowerCase().replace(' ', '.') + "@company.com")
+                .build();
+    }
+}
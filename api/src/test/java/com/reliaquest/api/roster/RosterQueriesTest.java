@@ -0,0 +1,65 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.dto.EmployeeDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RosterQueriesTest {
+
+    private ForkJoinPool pool;
+    private RosterSnapshot roster;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+        Random random = new Random(5);
+        String[] names = {"Anna", "Hannah", "Joanna", "Bob", "Zoe"};
+        List<EmployeeDTO> employees = new ArrayList<>();
+        for (int i = 0; i < 100000; i++) {
+            employees.add(EmployeeDTO.builder()
+                    .id(UUID.randomUUID())
+                    // Few distinct names and salaries, so ties are frequent
+                    .name(names[random.nextInt(names.length)] + " " + random.nextInt(50))
+                    .salary(1000 * random.nextInt(200))
+                    .age(30)
+                    .title("Engineer")
+                    .build());
+        }
+        roster = RosterSnapshot.of(employees);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void testParallelMatchesSequential() {
+        RosterQueries sequential = new RosterQueries(pool, Integer.MAX_VALUE, Integer.MAX_VALUE);
+        RosterQueries parallel = new RosterQueries(pool, 0, 0);
+
+        assertEquals(sequential.maxSalary(roster), parallel.maxSalary(roster));
+        assertArrayEquals(sequential.topSalaryRows(roster, 10), parallel.topSalaryRows(roster, 10));
+        assertArrayEquals(sequential.topSalaryRows(roster, 5000), parallel.topSalaryRows(roster, 5000));
+        assertArrayEquals(sequential.searchNameRows(roster, "ANN"), parallel.searchNameRows(roster, "ANN"));
+        assertArrayEquals(sequential.searchNameRows(roster, "xyz"), parallel.searchNameRows(roster, "xyz"));
+    }
+
+    @Test
+    void testEmptyRoster() {
+        RosterQueries parallel = new RosterQueries(pool, 0, 0);
+
+        assertEquals(0, parallel.maxSalary(RosterSnapshot.empty()));
+        assertEquals(0, parallel.topSalaryRows(RosterSnapshot.empty(), 10).length);
+        assertEquals(0, parallel.searchNameRows(RosterSnapshot.empty(), "a").length);
+    }
+}
@@ -0,0 +1,142 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.client.ServerApiClient;
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.exception.CallRejectedException;
+import com.reliaquest.api.exception.ExternalServiceException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RosterRefresherTest {
+
+    @Mock
+    private ServerApiClient serverApiClient;
+
+    private RosterCache rosterCache;
+
+    private MeterRegistry meterRegistry;
+
+    private RosterRefresher rosterRefresher;
+
+    private List<EmployeeDTO> mockEmployees;
+
+    private final AtomicLong clock = new AtomicLong(123_456_789L);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        rosterCache = new RosterCache(Duration.ofSeconds(30), Duration.ofMinutes(5), clock::get);
+        meterRegistry = new SimpleMeterRegistry();
+        rosterRefresher = new RosterRefresher(serverApiClient, rosterCache, null, meterRegistry, false,
+                Duration.ofSeconds(10), 0.2, Duration.ofMinutes(5), Duration.ofSeconds(60));
+        mockEmployees = List.of(
+                EmployeeDTO.builder()
+                        .id(UUID.randomUUID())
+                        .name("Employee 1")
+                        .salary(5000)
+                        .age(30)
+                        .title("Software Engineer")
+                        .build()
+        );
+    }
+
+    @Test
+    void testRefreshUpdatesCache() {
+        when(serverApiClient.getAllEmployeeWithoutFallback()).thenReturn(mockEmployees);
+
+        long delay = rosterRefresher.refresh();
+
+        assertEquals(Duration.ofSeconds(10).toNanos(), delay);
+        assertEquals(mockEmployees, rosterCache.warmSnapshot().orElseThrow().toEmployees());
+        assertEquals(0.0, meterRegistry.get("employee.roster.staleness").gauge().value());
+    }
+
+    @Test
+    void testFailuresBackOffExponentially() {
+        when(serverApiClient.getAllEmployeeWithoutFallback())
+                .thenThrow(new ExternalServiceException("Failed to connect to Employee Service"));
+
+        assertEquals(Duration.ofSeconds(20).toNanos(), rosterRefresher.refresh());
+        assertEquals(Duration.ofSeconds(40).toNanos(), rosterRefresher.refresh());
+        for (int i = 0; i < 10; i++) {
+            rosterRefresher.refresh();
+        }
+        assertEquals(Duration.ofMinutes(5).toNanos(), rosterRefresher.refresh());
+        assertTrue(Double.isNaN(meterRegistry.get("employee.roster.staleness").gauge().value()));
+    }
+
+    @Test
+    void testRateLimitWaitsForBackoff() {
+        when(serverApiClient.getAllEmployeeWithoutFallback()).thenThrow(new ExternalServiceException("Failed to connect to Employee Service",
+                HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", null, null, null)));
+
+        assertEquals(Duration.ofSeconds(60).toNanos(), rosterRefresher.refresh());
+        assertEquals(1.0, meterRegistry.get("employee.roster.refreshes").tags("outcome", "rate_limited")
+                .counter().count());
+    }
+
+    @Test
+    void testRateLimitHonoursRetryAfter() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "7");
+        when(serverApiClient.getAllEmployeeWithoutFallback()).thenThrow(new ExternalServiceException("Failed to connect to Employee Service",
+                HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", headers, null, null)));
+
+        assertEquals(Duration.ofSeconds(7).toNanos(), rosterRefresher.refresh());
+    }
+
+    @Test
+    void testSuccessResetsBackoff() {
+        when(serverApiClient.getAllEmployeeWithoutFallback())
+                .thenThrow(new ExternalServiceException("Failed to connect to Employee Service"))
+                .thenReturn(mockEmployees);
+
+        rosterRefresher.refresh();
+
+        assertEquals(Duration.ofSeconds(10).toNanos(), rosterRefresher.refresh());
+    }
+
+    @Test
+    void testFallbackRosterDoesNotLookFresher() {
+        RosterSnapshot snapshot = RosterSnapshot.of(mockEmployees);
+        rosterCache.update(snapshot);
+        clock.addAndGet(Duration.ofSeconds(50).toNanos());
+        when(serverApiClient.getAllEmployeeWithoutFallback()).thenReturn(snapshot.toEmployees());
+
+        rosterRefresher.refresh();
+
+        assertEquals(50.0, rosterCache.ageSeconds());
+    }
+
+    @Test
+    void testRejectedRefreshKeepsBackoff() {
+        when(serverApiClient.getAllEmployeeWithoutFallback())
+                .thenThrow(new ExternalServiceException("Failed to connect to Employee Service"))
+                .thenThrow(new CallRejectedException("Employee Service is unavailable, circuit is open."))
+                .thenThrow(new ExternalServiceException("Failed to connect to Employee Service"));
+
+        assertEquals(Duration.ofSeconds(20).toNanos(), rosterRefresher.refresh());
+        assertEquals(Duration.ofSeconds(20).toNanos(), rosterRefresher.refresh());
+        assertEquals(Duration.ofSeconds(40).toNanos(), rosterRefresher.refresh());
+
+        assertEquals(1.0, meterRegistry.get("employee.roster.refreshes").tags("outcome", "rejected")
+                .counter().count());
+        assertEquals(2.0, meterRegistry.get("employee.roster.refreshes").tags("outcome", "failure")
+                .counter().count());
+    }
+}
@@ -0,0 +1,136 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.dto.EmployeeDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RosterSnapshotTest {
+
+    private List<EmployeeDTO> mockEmployees;
+
+    @BeforeEach
+    void setUp() {
+        mockEmployees = Arrays.asList(
+                EmployeeDTO.builder()
+                        .id(UUID.randomUUID())
+                        .name("Zoe Anderson")
+                        .salary(7000)
+                        .age(30)
+                        .title("Software Engineer")
+                        .email("zoe@company.com")
+                        .build(),
+                EmployeeDTO.builder()
+                        .id(UUID.randomUUID())
+                        .name("Andrew Smith")
+                        .salary(9000)
+                        .age(40)
+                        .title("Data Analyst")
+                        .email("andrew@company.com")
+                        .build(),
+                EmployeeDTO.builder()
+                        .id(UUID.randomUUID())
+                        .name("Bob Brown")
+                        .salary(7000)
+                        .age(50)
+                        .title("Software Engineer")
+                        .email("bob@company.com")
+                        .build()
+        );
+    }
+
+    @Test
+    void testRoundTrip() {
+        RosterSnapshot roster = RosterSnapshot.of(mockEmployees);
+
+        assertEquals(3, roster.size());
+        assertEquals(mockEmployees, roster.toEmployees());
+        assertEquals(mockEmployees.get(1), roster.toEmployee(1));
+    }
+
+    @Test
+    void testTitlesAreDictionaryEncoded() {
+        RosterSnapshot roster = RosterSnapshot.of(mockEmployees);
+
+        assertEquals(2, roster.titleCount());
+        assertEquals(roster.titleCode(0), roster.titleCode(2));
+        assertEquals("Data Analyst", roster.titleForCode(roster.titleCode(1)));
+    }
+
+    @Test
+    void testPatched_DropsRemovedAndAppendsAdded() {
+        RosterSnapshot roster = RosterSnapshot.of(mockEmployees);
+        EmployeeDTO added = EmployeeDTO.builder()
+                .id(UUID.randomUUID())
+                .name("Carol White")
+                .salary(8000)
+                .age(35)
+                .title("Product Manager")
+                .email("carol@company.com")
+                .build();
+
+        RosterSnapshot patched = roster.patched(List.of(added), Set.of(mockEmployees.get(1).getId()));
+
+        assertEquals(List.of(mockEmployees.get(0), mockEmployees.get(2), added), patched.toEmployees());
+        assertEquals(2, patched.titleCount());
+        assertEquals(2, patched.indexOf(added.getId()));
+        assertEquals(-1, patched.indexOf(mockEmployees.get(1).getId()));
+        assertEquals(mockEmployees, roster.toEmployees());
+    }
+
+    @Test
+    void testPatched_NothingToChange() {
+        RosterSnapshot roster = RosterSnapshot.of(mockEmployees);
+
+        assertSame(roster, roster.patched(List.of(), Set.of(UUID.randomUUID())));
+        assertTrue(roster.patched(List.of(), mockEmployees.stream()
+                .map(EmployeeDTO::getId)
+                .collect(Collectors.toSet())).isEmpty());
+    }
+
+    @Test
+    void testMissingIdIsPreserved() {
+        RosterSnapshot roster = RosterSnapshot.of(List.of(EmployeeDTO.builder().name("No Id").build()));
+
+        assertNull(roster.id(0));
+        assertNull(roster.toEmployee(0).getId());
+    }
+
+    @Test
+    void testMaxSalary() {
+        assertEquals(9000, RosterSnapshot.of(mockEmployees).maxSalary());
+        assertEquals(0, RosterSnapshot.empty().maxSalary());
+    }
+
+    @Test
+    void testTopSalaryRows_KeepsRosterOrderForTies() {
+        RosterSnapshot roster = RosterSnapshot.of(mockEmployees);
+
+        assertArrayEquals(new int[] {1, 0, 2}, roster.topSalaryRows(10));
+        assertArrayEquals(new int[] {1, 0}, roster.topSalaryRows(2));
+        assertEquals(0, roster.topSalaryRows(0).length);
+    }
+
+    @Test
+    void testSearchNameRows_PrefixMatchesFirst() {
+        RosterSnapshot roster = RosterSnapshot.of(mockEmployees);
+
+        List<String> names = Arrays.stream(roster.searchNameRows("AND"))
+                .mapToObj(roster::name)
+                .toList();
+
+        assertEquals(List.of("Andrew Smith", "Zoe Anderson"), names);
+    }
+
+    @Test
+    void testSearchNameRows_NoMatch() {
+        assertEquals(0, RosterSnapshot.of(mockEmployees).searchNameRows("xyz").length);
+    }
+}
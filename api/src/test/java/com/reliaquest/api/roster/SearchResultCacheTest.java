@@ -0,0 +1,80 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.dto.EmployeeDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchResultCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RosterSnapshot roster;
+    private AtomicInteger searches;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        roster = RosterSnapshot.of(List.of(employee("Zoe Anderson"), employee("Andrew Smith")));
+        searches = new AtomicInteger();
+    }
+
+    @Test
+    void testHotSearchSkipsSearching() {
+        SearchResultCache cache = new SearchResultCache(16, meterRegistry);
+
+        int[] first = cache.rows(roster, "And", this::search);
+        int[] second = cache.rows(roster, "aND", this::search);
+
+        assertSame(first, second);
+        assertArrayEquals(new int[]{1, 0}, second);
+        assertEquals(1, searches.get());
+        assertEquals(0.5, cache.hitRatio());
+        assertEquals(1, meterRegistry.get("employee.search.cache").tags("result", "hit").counter().count());
+    }
+
+    @Test
+    void testNewRosterInvalidatesResults() {
+        SearchResultCache cache = new SearchResultCache(16, meterRegistry);
+        cache.rows(roster, "and", this::search);
+
+        RosterSnapshot changed = RosterSnapshot.of(List.of(employee("Andy Anders")));
+        assertArrayEquals(new int[]{0}, cache.rows(changed, "and", query -> changed.searchNameRows(query)));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testLeastRecentlyUsedIsEvicted() {
+        SearchResultCache cache = new SearchResultCache(2, meterRegistry);
+        cache.rows(roster, "a", this::search);
+        cache.rows(roster, "b", this::search);
+        cache.rows(roster, "a", this::search);
+        cache.rows(roster, "c", this::search);
+
+        cache.rows(roster, "a", this::search);
+        assertEquals(3, searches.get());
+        cache.rows(roster, "b", this::search);
+        assertEquals(4, searches.get());
+        assertEquals(2, cache.size());
+    }
+
+    private int[] search(String query) {
+        searches.incrementAndGet();
+        return roster.searchNameRows(query);
+    }
+
+    private static EmployeeDTO employee(String name) {
+        return EmployeeDTO.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(1000)
+                .age(30)
+                .title("Engineer")
+                .build();
+    }
+}
@@ -0,0 +1,211 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.client.AsyncServerApiClient;
+import com.reliaquest.api.client.ServerApiClient;
+import com.reliaquest.api.dto.CreateEmployeeRequestDTO;
+import com.reliaquest.api.dto.DeleteEmployeeResponseDTO;
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.dto.SingleEmployeeResponseDTO;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.InvalidRequestException;
+import com.reliaquest.api.exception.ServiceUnavailableException;
+import com.reliaquest.api.roster.RosterAggregator;
+import com.reliaquest.api.roster.RosterCache;
+import com.reliaquest.api.roster.RosterQueries;
+import com.reliaquest.api.roster.RosterSketches;
+import com.reliaquest.api.roster.RosterSnapshot;
+import com.reliaquest.api.roster.SearchResultCache;
+import com.reliaquest.api.service.AsyncEndpoints.Endpoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AsyncEmployeeServiceTest {
+
+    private ServerApiClient serverApiClient;
+    private EmployeeLookupService employeeLookupService;
+    private RosterCache rosterCache;
+    private AsyncEndpoints asyncEndpoints;
+    private AsyncEmployeeService asyncEmployeeService;
+    private List<EmployeeDTO> mockEmployees;
+
+    @BeforeEach
+    void setUp() {
+        serverApiClient = mock(ServerApiClient.class);
+        employeeLookupService = mock(EmployeeLookupService.class);
+        rosterCache = new RosterCache(Duration.ofSeconds(30), Duration.ofMinutes(5));
+        mockEmployees = List.of(
+                EmployeeDTO.builder()
+                        .id(UUID.randomUUID())
+                        .name("Employee 1")
+                        .salary(5000)
+                        .age(30)
+                        .title("Software Engineer")
+                        .build(),
+                EmployeeDTO.builder()
+                        .id(UUID.randomUUID())
+                        .name("Employee 2")
+                        .salary(7000)
+                        .age(40)
+                        .title("Data Analyst")
+                        .build());
+        asyncEmployeeService = service(new AsyncEndpoints.Settings(2, 16, Duration.ofSeconds(2)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        asyncEndpoints.shutdown();
+    }
+
+    private AsyncEmployeeService service(AsyncEndpoints.Settings settings) {
+        Map<Endpoint, AsyncEndpoints.Settings> endpoints = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            endpoints.put(endpoint, settings);
+        }
+        asyncEndpoints = new AsyncEndpoints(endpoints);
+        RosterSketches rosterSketches = new RosterSketches(0.01);
+        EmployeeService employeeService = new EmployeeService(serverApiClient, rosterCache,
+                new RosterAggregator(ForkJoinPool.commonPool(), 100000, 25000, 10, 64), rosterSketches,
+                new SearchResultCache(16, new SimpleMeterRegistry()),
+                new RosterQueries(ForkJoinPool.commonPool(), 1000000, 20000));
+        return new AsyncEmployeeService(new AsyncServerApiClient(serverApiClient), asyncEndpoints, employeeService,
+                employeeLookupService, rosterCache, rosterSketches);
+    }
+
+    private static Throwable failure(CompletableFuture<?> future) {
+        CompletionException ex = assertThrows(CompletionException.class, future::join);
+        return ex.getCause();
+    }
+
+    @Test
+    void testGetAllEmployee_LoadsColdRosterOnce() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(serverApiClient.getAllEmployee()).thenAnswer(invocation -> {
+            release.await(1, TimeUnit.SECONDS);
+            return mockEmployees;
+        });
+
+        CompletableFuture<List<EmployeeDTO>> all = asyncEmployeeService.getAllEmployee();
+        CompletableFuture<Integer> highestSalary = asyncEmployeeService.getHighestSalaryOfEmployees();
+        release.countDown();
+
+        assertEquals(mockEmployees, all.get(1, TimeUnit.SECONDS));
+        assertEquals(7000, highestSalary.get(1, TimeUnit.SECONDS));
+        verify(serverApiClient, times(1)).getAllEmployee();
+        assertTrue(rosterCache.warmSnapshot().isPresent());
+    }
+
+    @Test
+    void testGetTopTenHighestEarningEmployeeNames_ServedFromCachedRoster() {
+        rosterCache.update(RosterSnapshot.of(mockEmployees));
+
+        assertEquals(List.of("Employee 2", "Employee 1"),
+                asyncEmployeeService.getTopTenHighestEarningEmployeeNames().join());
+        assertEquals(List.of(mockEmployees.get(0)), asyncEmployeeService.getEmployeesByNameSearch("ee 1").join());
+        verify(serverApiClient, never()).getAllEmployee();
+    }
+
+    @Test
+    void testGetEmployeesByNameSearch_InvalidInput() {
+        assertInstanceOf(InvalidRequestException.class,
+                failure(asyncEmployeeService.getEmployeesByNameSearch(" ")));
+        verify(serverApiClient, never()).getAllEmployee();
+    }
+
+    @Test
+    void testGetEmployeeById() {
+        EmployeeDTO employee = mockEmployees.get(0);
+        when(serverApiClient.getEmployeeById(employee.getId().toString())).thenReturn(employee);
+
+        assertEquals(employee, asyncEmployeeService.getEmployeeById(employee.getId().toString()).join());
+    }
+
+    @Test
+    void testGetEmployeeById_NotFoundIsUnwrapped() {
+        when(serverApiClient.getEmployeeById("missing")).thenThrow(new EmployeeNotFoundException("Employee not found"));
+
+        assertInstanceOf(EmployeeNotFoundException.class, failure(asyncEmployeeService.getEmployeeById("missing")));
+    }
+
+    @Test
+    void testGetEmployeeById_TimesOut() {
+        asyncEndpoints.shutdown();
+        asyncEmployeeService = service(new AsyncEndpoints.Settings(2, 16, Duration.ofMillis(50)));
+        when(serverApiClient.getEmployeeById("slow")).thenAnswer(invocation -> {
+            Thread.sleep(500);
+            return mockEmployees.get(0);
+        });
+
+        Throwable cause = failure(asyncEmployeeService.getEmployeeById("slow"));
+
+        assertInstanceOf(ServiceUnavailableException.class, cause);
+        assertTrue(cause.getMessage().contains("50 ms"));
+    }
+
+    @Test
+    void testGetEmployeeById_RejectedWhenPoolIsSaturated() {
+        asyncEndpoints.shutdown();
+        asyncEmployeeService = service(new AsyncEndpoints.Settings(1, 1, Duration.ofSeconds(2)));
+        CountDownLatch release = new CountDownLatch(1);
+        when(serverApiClient.getEmployeeById(anyString())).thenAnswer(invocation -> {
+            release.await(1, TimeUnit.SECONDS);
+            return mockEmployees.get(0);
+        });
+
+        List<CompletableFuture<EmployeeDTO>> calls = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            calls.add(asyncEmployeeService.getEmployeeById("id-" + i));
+        }
+        Throwable rejected = failure(calls.get(2));
+        release.countDown();
+
+        assertInstanceOf(ServiceUnavailableException.class, rejected);
+        assertEquals(mockEmployees.get(0), calls.get(0).join());
+        assertEquals(mockEmployees.get(0), calls.get(1).join());
+    }
+
+    @Test
+    void testCreateEmployee() {
+        CreateEmployeeRequestDTO request = CreateEmployeeRequestDTO.builder()
+                .name("Employee 3")
+                .salary(6000)
+                .age(25)
+                .title("Tester")
+                .build();
+        EmployeeDTO created = EmployeeDTO.builder().id(UUID.randomUUID()).name("Employee 3").salary(6000).build();
+        when(serverApiClient.createEmployee(request)).thenReturn(SingleEmployeeResponseDTO.builder()
+                .data(created)
+                .build());
+
+        assertEquals(created, asyncEmployeeService.createEmployee(request).join());
+    }
+
+    @Test
+    void testDeleteEmployeeById() {
+        EmployeeDTO employee = mockEmployees.get(1);
+        String id = employee.getId().toString();
+        when(serverApiClient.getEmployeeById(id)).thenReturn(employee);
+        when(serverApiClient.deleteEmployee(employee)).thenReturn(DeleteEmployeeResponseDTO.builder()
+                .data(true)
+                .build());
+
+        assertEquals("Employee 2", asyncEmployeeService.deleteEmployeeById(id).join());
+        verify(serverApiClient).deleteEmployee(employee);
+    }
+}
@@ -0,0 +1,157 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.dto.CreateEmployeeRequestDTO;
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.exception.InvalidRequestException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CreateIdempotencyCacheTest {
+
+    private CreateIdempotencyCache cache;
+    private CreateEmployeeRequestDTO request;
+    private AtomicInteger creations;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CreateIdempotencyCache(Duration.ofHours(1), 2, new SimpleMeterRegistry());
+        request = CreateEmployeeRequestDTO.builder()
+                .name("Employee 1")
+                .salary(5000)
+                .age(30)
+                .title("Software Engineer")
+                .build();
+        creations = new AtomicInteger();
+    }
+
+    private Supplier<EmployeeDTO> create() {
+        return () -> EmployeeDTO.builder()
+                .id(UUID.randomUUID())
+                .name("Employee " + creations.incrementAndGet())
+                .build();
+    }
+
+    @Test
+    void testCreate_ReplaysSameKey() {
+        EmployeeDTO first = cache.create("key-1", request, create());
+        EmployeeDTO retry = cache.create("key-1", request, create());
+
+        assertSame(first, retry);
+        assertEquals(1, creations.get());
+    }
+
+    @Test
+    void testCreate_WithoutKeyAlwaysCreates() {
+        cache.create(null, request, create());
+        cache.create(null, request, create());
+
+        assertEquals(2, creations.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testCreate_RejectsKeyReusedForDifferentRequest() {
+        cache.create("key-1", request, create());
+        CreateEmployeeRequestDTO other = CreateEmployeeRequestDTO.builder()
+                .name("Employee 2")
+                .salary(5000)
+                .age(30)
+                .title("Software Engineer")
+                .build();
+
+        assertThrows(InvalidRequestException.class, () -> cache.create("key-1", other, create()));
+        assertThrows(InvalidRequestException.class, () -> cache.create(" ", request, create()));
+        assertEquals(1, creations.get());
+    }
+
+    @Test
+    void testCreate_FailureIsNotCached() {
+        assertThrows(IllegalStateException.class, () -> cache.create("key-1", request, () -> {
+            throw new IllegalStateException("Server unavailable");
+        }));
+
+        cache.create("key-1", request, create());
+
+        assertEquals(1, creations.get());
+    }
+
+    @Test
+    void testCreate_ConcurrentDuplicatesWaitForFirstCreation() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<EmployeeDTO> first = executor.submit(() -> cache.create("key-1", request, () -> {
+                started.countDown();
+                try {
+                    release.await(1, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return create().get();
+            }));
+            assertTrue(started.await(1, TimeUnit.SECONDS));
+            Future<EmployeeDTO> second = executor.submit(() -> cache.create("key-1", request, create()));
+            Future<EmployeeDTO> third = executor.submit(() -> cache.create("key-1", request, create()));
+            release.countDown();
+
+            assertSame(first.get(1, TimeUnit.SECONDS), second.get(1, TimeUnit.SECONDS));
+            assertSame(first.get(), third.get(1, TimeUnit.SECONDS));
+            assertEquals(1, creations.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testCreate_EvictsOldestBeyondMaxEntries() {
+        cache.create("key-1", request, create());
+        cache.create("key-2", request, create());
+        cache.create("key-3", request, create());
+
+        assertEquals(2, cache.size());
+        cache.create("key-1", request, create());
+        assertEquals(4, creations.get());
+    }
+
+    @Test
+    void testCreate_ExpiredKeyCreatesAgain() throws Exception {
+        cache = new CreateIdempotencyCache(Duration.ofMillis(1), 10, new SimpleMeterRegistry());
+        cache.create("key-1", request, create());
+        Thread.sleep(5);
+
+        cache.create("key-1", request, create());
+
+        assertEquals(2, creations.get());
+    }
+
+    @Test
+    void testCreateAsync_DuplicatesShareInFlightCreation() {
+        CompletableFuture<EmployeeDTO> creation = new CompletableFuture<>();
+        CompletableFuture<EmployeeDTO> first = cache.createAsync("key-1", request, () -> creation);
+        CompletableFuture<EmployeeDTO> retry = cache.createAsync("key-1", request,
+                () -> CompletableFuture.completedFuture(create().get()));
+        assertFalse(retry.isDone());
+
+        EmployeeDTO employee = create().get();
+        creation.complete(employee);
+
+        assertSame(employee, first.join());
+        assertSame(employee, retry.join());
+        assertEquals(1, creations.get());
+    }
+}
@@ -0,0 +1,158 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.client.ServerApiClient;
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.dto.EmployeeLookupResultDTO;
+import com.reliaquest.api.dto.EmployeeLookupResultDTO.Status;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.InvalidRequestException;
+import com.reliaquest.api.roster.RosterCache;
+import com.reliaquest.api.roster.RosterSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class EmployeeLookupServiceTest {
+
+    @Mock
+    private ServerApiClient serverApiClient;
+
+    private RosterCache rosterCache;
+
+    private ExecutorService executor;
+
+    private EmployeeLookupService employeeLookupService;
+
+    private List<EmployeeDTO> mockEmployees;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        rosterCache = new RosterCache(Duration.ofSeconds(30), Duration.ofMinutes(5));
+        executor = Executors.newFixedThreadPool(4);
+        employeeLookupService = new EmployeeLookupService(serverApiClient, rosterCache, executor,
+                Duration.ofMillis(500), 3);
+        mockEmployees = Arrays.asList(
+                EmployeeDTO.builder()
+                        .id(UUID.randomUUID())
+                        .name("Employee 1")
+                        .salary(5000)
+                        .age(30)
+                        .title("Software Engineer")
+                        .build(),
+                EmployeeDTO.builder()
+                        .id(UUID.randomUUID())
+                        .name("Employee 2")
+                        .salary(7000)
+                        .age(40)
+                        .title("Data Analyst")
+                        .build()
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testGetEmployeesByIds_ServedFromWarmRoster() {
+        rosterCache.update(RosterSnapshot.of(mockEmployees));
+        String id = mockEmployees.get(1).getId().toString();
+
+        List<EmployeeLookupResultDTO> results = employeeLookupService.getEmployeesByIds(List.of(id));
+
+        assertEquals(1, results.size());
+        assertEquals(Status.FOUND, results.get(0).getStatus());
+        assertEquals(mockEmployees.get(1), results.get(0).getData());
+        verify(serverApiClient, never()).getEmployeeById(anyString());
+    }
+
+    @Test
+    void testGetEmployeesByIds_FetchedWhenCold() {
+        EmployeeDTO employee = mockEmployees.get(0);
+        String id = employee.getId().toString();
+        when(serverApiClient.getEmployeeById(id)).thenReturn(employee);
+
+        List<EmployeeLookupResultDTO> results = employeeLookupService.getEmployeesByIds(List.of(id, id));
+
+        assertEquals(1, results.size());
+        assertEquals(employee, results.get(0).getData());
+        verify(serverApiClient, times(1)).getEmployeeById(id);
+    }
+
+    @Test
+    void testGetEmployeesByIds_ReportsErrorsPerId() {
+        String found = mockEmployees.get(0).getId().toString();
+        String missing = UUID.randomUUID().toString();
+        when(serverApiClient.getEmployeeById(found)).thenReturn(mockEmployees.get(0));
+        when(serverApiClient.getEmployeeById(missing))
+                .thenThrow(new EmployeeNotFoundException("Employee not found with id: " + missing));
+
+        List<EmployeeLookupResultDTO> results =
+                employeeLookupService.getEmployeesByIds(List.of(found, missing, "not-a-uuid"));
+
+        assertEquals(List.of(Status.FOUND, Status.NOT_FOUND, Status.INVALID_ID),
+                results.stream().map(EmployeeLookupResultDTO::getStatus).toList());
+        assertEquals(List.of(found, missing, "not-a-uuid"),
+                results.stream().map(EmployeeLookupResultDTO::getId).toList());
+    }
+
+    @Test
+    void testGetEmployeesByIds_TimesOutSlowCalls() {
+        String id = mockEmployees.get(0).getId().toString();
+        when(serverApiClient.getEmployeeById(id)).thenAnswer(invocation -> {
+            Thread.sleep(2000);
+            return mockEmployees.get(0);
+        });
+
+        List<EmployeeLookupResultDTO> results = employeeLookupService.getEmployeesByIds(List.of(id));
+
+        assertEquals(Status.TIMEOUT, results.get(0).getStatus());
+    }
+
+    @Test
+    void testGetEmployeesByIds_CoalescesConcurrentRequests() throws Exception {
+        EmployeeDTO employee = mockEmployees.get(0);
+        String id = employee.getId().toString();
+        CountDownLatch release = new CountDownLatch(1);
+        when(serverApiClient.getEmployeeById(id)).thenAnswer(invocation -> {
+            release.await(1, TimeUnit.SECONDS);
+            return employee;
+        });
+
+        CompletableFuture<List<EmployeeLookupResultDTO>> first =
+                CompletableFuture.supplyAsync(() -> employeeLookupService.getEmployeesByIds(List.of(id)));
+        CompletableFuture<List<EmployeeLookupResultDTO>> second =
+                CompletableFuture.supplyAsync(() -> employeeLookupService.getEmployeesByIds(List.of(id)));
+        Thread.sleep(100);
+        release.countDown();
+
+        assertEquals(employee, first.get(1, TimeUnit.SECONDS).get(0).getData());
+        assertEquals(employee, second.get(1, TimeUnit.SECONDS).get(0).getData());
+        verify(serverApiClient, times(1)).getEmployeeById(id);
+    }
+
+    @Test
+    void testGetEmployeesByIds_InvalidRequest() {
+        assertThrows(InvalidRequestException.class, () -> employeeLookupService.getEmployeesByIds(List.of(" ")));
+        assertThrows(InvalidRequestException.class, () -> employeeLookupService.getEmployeesByIds(
+                List.of("a", "b", "c", "d")));
+        verify(serverApiClient, never()).getEmployeeById(anyString());
+    }
+}
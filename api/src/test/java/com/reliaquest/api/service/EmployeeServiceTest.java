@@ -3,20 +3,32 @@ package com.reliaquest.api.service;
 import com.reliaquest.api.client.ServerApiClient;
 import com.reliaquest.api.dto.CreateEmployeeRequestDTO;
 import com.reliaquest.api.dto.DeleteEmployeeResponseDTO;
+import com.reliaquest.api.dto.EmployeeAggregatesDTO;
 import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.dto.EmployeePercentilesDTO;
 import com.reliaquest.api.dto.SingleEmployeeResponseDTO;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.exception.InvalidRequestException;
+import com.reliaquest.api.roster.RosterAggregator;
+import com.reliaquest.api.roster.RosterCache;
+import com.reliaquest.api.roster.RosterQueries;
+import com.reliaquest.api.roster.RosterSketches;
+import com.reliaquest.api.roster.SearchResultCache;
+import com.reliaquest.api.roster.RosterSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -26,6 +38,21 @@ class EmployeeServiceTest {
     @Mock
     private ServerApiClient serverApiClient;
 
+    @Spy
+    private RosterCache rosterCache = new RosterCache(Duration.ofSeconds(30), Duration.ofMinutes(5));
+
+    @Spy
+    private RosterAggregator rosterAggregator = new RosterAggregator(ForkJoinPool.commonPool(), 100000, 25000, 10, 64);
+
+    @Spy
+    private RosterSketches rosterSketches = new RosterSketches(0.01);
+
+    @Spy
+    private SearchResultCache searchResultCache = new SearchResultCache(16, new SimpleMeterRegistry());
+
+    @Spy
+    private RosterQueries rosterQueries = new RosterQueries(ForkJoinPool.commonPool(), 1000000, 20000);
+
     @InjectMocks
     private EmployeeService employeeService;
 
@@ -61,6 +88,101 @@ class EmployeeServiceTest {
         assertEquals(2, employees.size());
         assertEquals(mockEmployees, employees);
         verify(serverApiClient, times(1)).getAllEmployee();
+        assertTrue(rosterCache.warmSnapshot().isPresent());
+    }
+
+    @Test
+    void testGetAllEmployee_ServedFromCachedRoster() {
+        rosterCache.update(RosterSnapshot.of(mockEmployees));
+
+        assertEquals(mockEmployees, employeeService.getAllEmployee());
+        assertEquals(7000, employeeService.getHighestSalaryOfEmployees());
+        verify(serverApiClient, never()).getAllEmployee();
+    }
+
+    @Test
+    void testGetEmployeeAggregates() {
+        rosterCache.update(RosterSnapshot.of(mockEmployees));
+
+        EmployeeAggregatesDTO aggregates = employeeService.getEmployeeAggregates();
+
+        assertEquals(2, aggregates.getOverall().getCount());
+        assertEquals(6000.0, aggregates.getOverall().getSalary().getMean());
+        assertEquals(List.of("Data Analyst", "Software Engineer"), List.copyOf(aggregates.getByTitle().keySet()));
+        assertSame(aggregates, employeeService.getEmployeeAggregates());
+        verify(serverApiClient, never()).getAllEmployee();
+    }
+
+    @Test
+    void testGetEmployeePercentiles_FollowLocalWrites() {
+        rosterCache.update(RosterSnapshot.of(mockEmployees));
+        EmployeeDTO createdEmployee = EmployeeDTO.builder()
+                .id(UUID.randomUUID())
+                .name("Employee 3")
+                .salary(90000)
+                .age(50)
+                .title("Data Analyst")
+                .build();
+        when(serverApiClient.createEmployee(any())).thenReturn(SingleEmployeeResponseDTO.builder()
+                .data(createdEmployee)
+                .build());
+
+        EmployeePercentilesDTO before = employeeService.getEmployeePercentiles();
+        employeeService.createEmployee(CreateEmployeeRequestDTO.builder()
+                .name("Employee 3")
+                .salary(90000)
+                .age(50)
+                .title("Data Analyst")
+                .build());
+        EmployeePercentilesDTO after = employeeService.getEmployeePercentiles();
+
+        assertEquals(2, before.getCount());
+        assertEquals(7000, before.getSalary().get("p99"), 70);
+        assertEquals(3, after.getCount());
+        assertEquals(90000, after.getSalary().get("p99"), 900);
+        verify(serverApiClient, never()).getAllEmployee();
+    }
+
+    @Test
+    void testGetEmployeesByNameSearch() {
+        when(serverApiClient.getAllEmployee()).thenReturn(mockEmployees);
+
+        List<EmployeeDTO> employees = employeeService.getEmployeesByNameSearch("employee 2");
+
+        assertEquals(List.of(mockEmployees.get(1)), employees);
+        verify(serverApiClient, times(1)).getAllEmployee();
+    }
+
+    @Test
+    void testGetEmployeesByNameSearch_InvalidSearchString() {
+        assertThrows(InvalidRequestException.class, () -> employeeService.getEmployeesByNameSearch(" "));
+        verify(serverApiClient, never()).getAllEmployee();
+    }
+
+    @Test
+    void testGetEmployeesByNamePrefix() {
+        rosterCache.update(RosterSnapshot.of(mockEmployees));
+
+        assertEquals(List.of(mockEmployees.get(1)), employeeService.getEmployeesByNamePrefix("Employee 2", 0, 10));
+        assertEquals(mockEmployees, employeeService.getEmployeesByNamePrefix("emplyee", 1, 10));
+        assertThrows(InvalidRequestException.class, () -> employeeService.getEmployeesByNamePrefix(" ", 0, 10));
+        assertThrows(InvalidRequestException.class, () -> employeeService.getEmployeesByNamePrefix("emp", 3, 10));
+        assertThrows(InvalidRequestException.class, () -> employeeService.getEmployeesByNamePrefix("emp", 0, 0));
+        verify(serverApiClient, never()).getAllEmployee();
+    }
+
+    @Test
+    void testGetHighestSalaryOfEmployees() {
+        when(serverApiClient.getAllEmployee()).thenReturn(mockEmployees);
+
+        assertEquals(7000, employeeService.getHighestSalaryOfEmployees());
+    }
+
+    @Test
+    void testGetTopTenHighestEarningEmployeeNames() {
+        when(serverApiClient.getAllEmployee()).thenReturn(mockEmployees);
+
+        assertEquals(List.of("Employee 2", "Employee 1"), employeeService.getTopTenHighestEarningEmployeeNames());
     }
 
     @Test
@@ -145,13 +267,59 @@ class EmployeeServiceTest {
     void testDeleteEmployeeById() {
         EmployeeDTO mockEmployee = mockEmployees.get(0);
         when(serverApiClient.getEmployeeById(mockEmployee.getId().toString())).thenReturn(mockEmployee);
-        when(serverApiClient.deleteEmployeeByName(any())).thenReturn(DeleteEmployeeResponseDTO.builder().data(true).status("Employee deleted successfully").build());
+        when(serverApiClient.deleteEmployee(mockEmployee)).thenReturn(DeleteEmployeeResponseDTO.builder().data(true).status("Employee deleted successfully").build());
 
         String result = employeeService.deleteEmployeeById(mockEmployee.getId().toString());
 
         assertEquals(mockEmployee.getName(), result);
         verify(serverApiClient, times(1)).getEmployeeById(mockEmployee.getId().toString());
-        verify(serverApiClient, times(1)).deleteEmployeeByName(any());
+        verify(serverApiClient, times(1)).deleteEmployee(mockEmployee);
+    }
+
+    @Test
+    void testCreateEmployee_ThenListedBeforeNextRefresh() {
+        rosterCache.update(RosterSnapshot.of(mockEmployees));
+        EmployeeDTO createdEmployee = EmployeeDTO.builder()
+                .id(UUID.randomUUID())
+                .name("Employee 3")
+                .salary(90000)
+                .age(50)
+                .title("Product Manager")
+                .build();
+        when(serverApiClient.createEmployee(any())).thenReturn(SingleEmployeeResponseDTO.builder()
+                .data(createdEmployee)
+                .build());
+
+        employeeService.createEmployee(CreateEmployeeRequestDTO.builder()
+                .name("Employee 3")
+                .salary(90000)
+                .age(50)
+                .title("Product Manager")
+                .build());
+
+        assertEquals(List.of(mockEmployees.get(0), mockEmployees.get(1), createdEmployee),
+                employeeService.getAllEmployee());
+        assertEquals(List.of(createdEmployee), employeeService.getEmployeesByNameSearch("employee 3"));
+        assertEquals(90000, employeeService.getHighestSalaryOfEmployees());
+        assertEquals("Employee 3", employeeService.getTopTenHighestEarningEmployeeNames().get(0));
+        assertEquals(3, employeeService.getEmployeeAggregates().getOverall().getCount());
+        assertEquals(3, employeeService.getEmployeePercentiles().getCount());
+        verify(serverApiClient, never()).getAllEmployee();
+    }
+
+    @Test
+    void testDeleteEmployeeById_ThenNotListedBeforeNextRefresh() {
+        rosterCache.update(RosterSnapshot.of(mockEmployees));
+        EmployeeDTO mockEmployee = mockEmployees.get(0);
+        when(serverApiClient.getEmployeeById(mockEmployee.getId().toString())).thenReturn(mockEmployee);
+        when(serverApiClient.deleteEmployee(mockEmployee)).thenReturn(DeleteEmployeeResponseDTO.builder().data(true).build());
+
+        employeeService.deleteEmployeeById(mockEmployee.getId().toString());
+
+        assertEquals(List.of(mockEmployees.get(1)), employeeService.getAllEmployee());
+        assertEquals(1, employeeService.getEmployeeAggregates().getOverall().getCount());
+        assertEquals(1, employeeService.getEmployeePercentiles().getCount());
+        verify(serverApiClient, never()).getAllEmployee();
     }
 
     @Test
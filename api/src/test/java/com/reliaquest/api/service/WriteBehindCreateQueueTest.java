@@ -0,0 +1,229 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.client.ServerApiClient;
+import com.reliaquest.api.dto.CreateEmployeeRequestDTO;
+import com.reliaquest.api.dto.CreateTicketDTO;
+import com.reliaquest.api.dto.CreateTicketDTO.Status;
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.exception.ExternalServiceException;
+import com.reliaquest.api.exception.InvalidRequestException;
+import com.reliaquest.api.exception.ServiceUnavailableException;
+import com.reliaquest.api.roster.RosterCache;
+import com.reliaquest.api.roster.RosterSketches;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class WriteBehindCreateQueueTest {
+
+    private ServerApiClient serverApiClient;
+    private RosterCache rosterCache;
+    private WriteBehindCreateQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        serverApiClient = mock(ServerApiClient.class);
+        rosterCache = new RosterCache(Duration.ofSeconds(30), Duration.ofMinutes(5));
+        queue = queue(10, 2, 3);
+    }
+
+    private WriteBehindCreateQueue queue(int capacity, int batchSize, int maxAttempts) {
+        return queue(capacity, batchSize, maxAttempts, null);
+    }
+
+    private WriteBehindCreateQueue queue(int capacity, int batchSize, int maxAttempts,
+                                         ScheduledExecutorService scheduler) {
+        return queue(true, capacity, batchSize, maxAttempts, scheduler);
+    }
+
+    private WriteBehindCreateQueue queue(boolean enabled, int capacity, int batchSize, int maxAttempts,
+                                         ScheduledExecutorService scheduler) {
+        return new WriteBehindCreateQueue(serverApiClient, rosterCache, new RosterSketches(0.01), scheduler,
+                new SimpleMeterRegistry(), enabled, capacity, Duration.ZERO, batchSize, Duration.ofSeconds(1),
+                maxAttempts, Duration.ofMinutes(1), Duration.ofSeconds(60), Duration.ofHours(1), Duration.ofSeconds(5));
+    }
+
+    private static CreateEmployeeRequestDTO request(String name) {
+        return CreateEmployeeRequestDTO.builder()
+                .name(name)
+                .salary(5000)
+                .age(30)
+                .title("Software Engineer")
+                .build();
+    }
+
+    private static EmployeeDTO employee(String name) {
+        return EmployeeDTO.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(5000)
+                .age(30)
+                .title("Software Engineer")
+                .build();
+    }
+
+    @Test
+    void testFlush_CreatesQueuedEmployeesInOneBatch() {
+        CreateTicketDTO first = queue.submit(request("Employee 1"));
+        CreateTicketDTO second = queue.submit(request("Employee 2"));
+        assertEquals(Status.PENDING, first.getStatus());
+        when(serverApiClient.createEmployees(eq(List.of(request("Employee 1"), request("Employee 2"))),
+                eq(List.of(first.getId().toString(), second.getId().toString()))))
+                .thenReturn(List.of(employee("Employee 1"), employee("Employee 2")));
+
+        assertEquals(Duration.ofSeconds(1).toNanos(), queue.flush());
+
+        CreateTicketDTO created = queue.status(second.getId()).orElseThrow();
+        assertEquals(Status.CREATED, created.getStatus());
+        assertEquals("Employee 2", created.getData().getName());
+        assertEquals(1, created.getAttempts());
+        verify(serverApiClient, times(1)).createEmployees(anyList(), anyList());
+        verify(serverApiClient, never()).createEmployee(any());
+    }
+
+    @Test
+    void testFlush_SendsAtMostBatchSizePerFlush() {
+        queue.submit(request("Employee 1"));
+        queue.submit(request("Employee 2"));
+        CreateTicketDTO third = queue.submit(request("Employee 3"));
+        when(serverApiClient.createEmployees(anyList(), anyList()))
+                .thenReturn(List.of(employee("Employee 1"), employee("Employee 2")))
+                .thenReturn(List.of(employee("Employee 3")));
+
+        queue.flush();
+        assertEquals(Status.PENDING, queue.status(third.getId()).orElseThrow().getStatus());
+        queue.flush();
+
+        assertEquals(Status.CREATED, queue.status(third.getId()).orElseThrow().getStatus());
+        verify(serverApiClient, times(2)).createEmployees(anyList(), anyList());
+    }
+
+    @Test
+    void testSubmit_RejectedWhenQueueIsFull() {
+        queue = queue(1, 2, 3);
+        queue.submit(request("Employee 1"));
+
+        assertThrows(ServiceUnavailableException.class, () -> queue.submit(request("Employee 2")));
+    }
+
+    @Test
+    void testFlush_RetriesBatchAfterRetryAfter() {
+        CreateTicketDTO ticket = queue.submit(request("Employee 1"));
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "7");
+        when(serverApiClient.createEmployees(anyList(), anyList()))
+                .thenThrow(new ExternalServiceException("Employee Service is rate limiting requests",
+                        HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", headers,
+                                null, null)))
+                .thenReturn(List.of(employee("Employee 1")));
+
+        assertEquals(Duration.ofSeconds(7).toNanos(), queue.flush());
+        assertEquals(Status.PENDING, queue.status(ticket.getId()).orElseThrow().getStatus());
+
+        queue.flush();
+
+        CreateTicketDTO created = queue.status(ticket.getId()).orElseThrow();
+        assertEquals(Status.CREATED, created.getStatus());
+        assertEquals(2, created.getAttempts());
+    }
+
+    @Test
+    void testFlush_FailsTicketAfterMaxAttempts() {
+        CreateTicketDTO ticket = queue.submit(request("Employee 1"));
+        when(serverApiClient.createEmployees(anyList(), anyList()))
+                .thenThrow(new ExternalServiceException("Failed to create employees due to server error: 500"));
+
+        long firstBackoff = queue.flush();
+        long secondBackoff = queue.flush();
+        queue.flush();
+
+        assertTrue(secondBackoff > firstBackoff);
+        CreateTicketDTO failed = queue.status(ticket.getId()).orElseThrow();
+        assertEquals(Status.FAILED, failed.getStatus());
+        assertEquals(3, failed.getAttempts());
+        assertNotNull(failed.getError());
+
+        queue.flush();
+        verify(serverApiClient, times(3)).createEmployees(anyList(), anyList());
+    }
+
+    @Test
+    void testFlush_RejectedBatchIsNotRetried() {
+        CreateTicketDTO ticket = queue.submit(request("Employee 1"));
+        when(serverApiClient.createEmployees(anyList(), anyList()))
+                .thenThrow(new InvalidRequestException("Failed to create employees: 400"));
+
+        queue.flush();
+        queue.flush();
+
+        assertEquals(Status.FAILED, queue.status(ticket.getId()).orElseThrow().getStatus());
+        verify(serverApiClient, times(1)).createEmployees(anyList(), anyList());
+    }
+
+    @Test
+    void testFlush_RetriesBatchWithSameKeys() {
+        CreateTicketDTO ticket = queue.submit(request("Employee 1"));
+        List<String> keys = List.of(ticket.getId().toString());
+        when(serverApiClient.createEmployees(anyList(), anyList()))
+                .thenThrow(new ExternalServiceException("Failed to create employees due to server error: 503"))
+                .thenReturn(List.of(employee("Employee 1")));
+
+        queue.flush();
+        queue.flush();
+
+        assertEquals(Status.CREATED, queue.status(ticket.getId()).orElseThrow().getStatus());
+        verify(serverApiClient, times(2)).createEmployees(List.of(request("Employee 1")), keys);
+    }
+
+    @Test
+    void testStop_DrainsQueuedCreates() {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            queue = queue(10, 2, 3, scheduler);
+            queue.submit(request("Employee 1"));
+            queue.submit(request("Employee 2"));
+            CreateTicketDTO third = queue.submit(request("Employee 3"));
+            when(serverApiClient.createEmployees(anyList(), anyList()))
+                    .thenReturn(List.of(employee("Employee 1"), employee("Employee 2")))
+                    .thenReturn(List.of(employee("Employee 3")));
+
+            queue.stop();
+
+            assertEquals(Status.CREATED, queue.status(third.getId()).orElseThrow().getStatus());
+            verify(serverApiClient, times(2)).createEmployees(anyList(), anyList());
+            assertThrows(ServiceUnavailableException.class, () -> queue.submit(request("Employee 4")));
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void testStatus_UnknownTicket() {
+        assertTrue(queue.status(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    void testDisabled_RejectsSubmitAndNeverSchedules() {
+        ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        queue = queue(false, 10, 2, 3, scheduler);
+
+        queue.start();
+
+        assertFalse(queue.isEnabled());
+        assertThrows(IllegalStateException.class, () -> queue.submit(request("Employee 1")));
+        queue.stop();
+        verifyNoInteractions(scheduler, serverApiClient);
+    }
+}
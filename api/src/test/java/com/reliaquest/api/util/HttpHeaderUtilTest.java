@@ -0,0 +1,35 @@
+package com.reliaquest.api.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpHeaderUtilTest {
+
+    @Test
+    void testAcceptsGzip() {
+        assertTrue(HttpHeaderUtil.acceptsGzip("gzip"));
+        assertTrue(HttpHeaderUtil.acceptsGzip("deflate, GZIP;q=0.5"));
+        assertTrue(HttpHeaderUtil.acceptsGzip("x-gzip"));
+        assertTrue(HttpHeaderUtil.acceptsGzip("br;q=1.0, *;q=0.1"));
+        assertTrue(HttpHeaderUtil.acceptsGzip("gzip ; q = 0.001"));
+    }
+
+    @Test
+    void testAcceptsGzip_RefusedOrNotListed() {
+        assertFalse(HttpHeaderUtil.acceptsGzip(null));
+        assertFalse(HttpHeaderUtil.acceptsGzip(""));
+        assertFalse(HttpHeaderUtil.acceptsGzip("identity"));
+        assertFalse(HttpHeaderUtil.acceptsGzip("gzip;q=0"));
+        assertFalse(HttpHeaderUtil.acceptsGzip("gzip;q=0.000, deflate"));
+        assertFalse(HttpHeaderUtil.acceptsGzip("gzip;q=invalid"));
+        assertFalse(HttpHeaderUtil.acceptsGzip("*;q=0"));
+        assertFalse(HttpHeaderUtil.acceptsGzip("notgzip, gzipped"));
+    }
+
+    @Test
+    void testAcceptsGzip_ExplicitEntryWinsOverWildcard() {
+        assertFalse(HttpHeaderUtil.acceptsGzip("*, gzip;q=0"));
+        assertTrue(HttpHeaderUtil.acceptsGzip("*;q=0, gzip"));
+    }
+}
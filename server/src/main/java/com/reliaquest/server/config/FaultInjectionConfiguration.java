@@ -0,0 +1,69 @@
+package com.reliaquest.server.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.fault.FaultInjectionInterceptor;
+import com.reliaquest.server.fault.FaultInjectionProperties;
+import com.reliaquest.server.fault.TricklingResponseWrapper;
+import jakarta.servlet.Filter;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.ServletContextInitializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Installs fault injection when {@code mock.faults.enabled} is set, typically through one of the {@code slow},
+ * {@code flaky} or {@code chaos} profiles. Faults apply after rate limiting, so rejected requests stay fast.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(FaultInjectionProperties.class)
+public class FaultInjectionConfiguration implements WebMvcConfigurer {
+
+    private final FaultInjectionProperties properties;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        log.info(
+                "Injecting faults with seed {} into {} rules", properties.getSeed(), properties.getRules().size());
+        registry.addInterceptor(new FaultInjectionInterceptor(properties, objectMapper))
+                .order(Ordered.LOWEST_PRECEDENCE);
+    }
+
+    /*
+     * The interceptor runs after the response exists, so trickling needs the response wrapped up front. An HTTP/1.x
+     * reset has to be signalled past the dispatcher servlet, whose exception handlers would otherwise complete the
+     * response. Whether faults are enabled is checked when the servlet context starts rather than by a bean
+     * condition, which the AOT startup build would evaluate once at build time, ignoring the profile the server is
+     * started with.
+     */
+    @Bean
+    public ServletContextInitializer faultResponseFilter() {
+        return servletContext -> {
+            if (!properties.isEnabled()) {
+                return;
+            }
+            final Filter filter = (request, response, chain) -> {
+                if (response instanceof HttpServletResponse httpResponse) {
+                    chain.doFilter(request, new TricklingResponseWrapper(httpResponse));
+                } else {
+                    chain.doFilter(request, response);
+                }
+                FaultInjectionInterceptor.resetIfCutShort(request);
+            };
+            final var registration = servletContext.addFilter("faultResponseFilter", filter);
+            registration.setAsyncSupported(true);
+            registration.addMappingForUrlPatterns(null, false, "/*");
+        };
+    }
+}
@@ -0,0 +1,36 @@
+package com.reliaquest.server.config;
+
+import org.apache.coyote.http2.Http2Protocol;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Limits of the cleartext HTTP/2 (h2c) connections, enabled with {@code server.http2.enabled}.
+ *
+ * <p>The API multiplexes its concurrent requests over one connection. Tomcat runs at most
+ * {@code max-concurrent-stream-execution} streams of a connection at once, 20 by default, so it is raised along
+ * with {@code max-concurrent-streams}. {@code initial-window-size} is the flow control window of every stream the
+ * client sends on, e.g. create bodies.
+ */
+@Configuration
+public class Http2Configuration {
+
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> http2Customizer(
+            @Value("${mock.http2.max-concurrent-streams:100}") long maxConcurrentStreams,
+            @Value("${mock.http2.max-concurrent-stream-execution:100}") int maxConcurrentStreamExecution,
+            @Value("${mock.http2.initial-window-size:65535}") int initialWindowSize) {
+        return factory -> factory.addConnectorCustomizers(connector -> {
+            for (final var protocol : connector.findUpgradeProtocols()) {
+                if (protocol instanceof Http2Protocol http2) {
+                    http2.setMaxConcurrentStreams(maxConcurrentStreams);
+                    http2.setMaxConcurrentStreamExecution(maxConcurrentStreamExecution);
+                    http2.setInitialWindowSize(initialWindowSize);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,74 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.ratelimit.ClientKeys;
+import com.reliaquest.server.ratelimit.SlidingWindowRateLimiter;
+import com.reliaquest.server.ratelimit.TokenBucketRateLimiter;
+import com.reliaquest.server.web.RandomRequestLimitInterceptor;
+import com.reliaquest.server.web.RateLimitInterceptor;
+import java.time.Duration;
+import java.util.Locale;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Installs the request limiter selected by {@code mock.rate-limit.algorithm}.
+ *
+ * <p>{@code token-bucket} and {@code sliding-window} allow {@code limit} requests per {@code period} and client;
+ * {@code random} keeps the original behaviour of a random global limit with a random backoff; {@code none} turns
+ * rate limiting off.
+ */
+@Slf4j
+@Configuration
+public class RateLimitConfiguration implements WebMvcConfigurer {
+
+    public static final String TOKEN_BUCKET = "token-bucket";
+    public static final String SLIDING_WINDOW = "sliding-window";
+    public static final String RANDOM = "random";
+    public static final String NONE = "none";
+
+    private final String algorithm;
+    private final String key;
+    private final String header;
+    private final int limit;
+    private final Duration period;
+    private final int maxKeys;
+
+    public RateLimitConfiguration(
+            @Value("${mock.rate-limit.algorithm:token-bucket}") String algorithm,
+            @Value("${mock.rate-limit.key:ip}") String key,
+            @Value("${mock.rate-limit.header:X-Client-Id}") String header,
+            @Value("${mock.rate-limit.limit:10}") int limit,
+            @Value("${mock.rate-limit.period:10s}") Duration period,
+            @Value("${mock.rate-limit.max-keys:10000}") int maxKeys) {
+        this.algorithm = algorithm.toLowerCase(Locale.ROOT);
+        this.key = key;
+        this.header = header;
+        this.limit = limit;
+        this.period = period;
+        this.maxKeys = maxKeys;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        switch (algorithm) {
+            case TOKEN_BUCKET -> registry.addInterceptor(new RateLimitInterceptor(
+                    new TokenBucketRateLimiter(limit, period, maxKeys), ClientKeys.of(key, header)));
+            case SLIDING_WINDOW -> registry.addInterceptor(new RateLimitInterceptor(
+                    new SlidingWindowRateLimiter(limit, period, maxKeys), ClientKeys.of(key, header)));
+            case RANDOM -> {
+                log.info("Rate limiting with a random global limit");
+                registry.addInterceptor(new RandomRequestLimitInterceptor());
+                return;
+            }
+            case NONE -> {
+                log.info("Rate limiting is disabled");
+                return;
+            }
+            default -> throw new IllegalArgumentException("Unknown rate limit algorithm: " + algorithm);
+        }
+        log.info("Rate limiting with {} keyed by {}: {} requests per {}", algorithm, key, limit, period);
+    }
+}
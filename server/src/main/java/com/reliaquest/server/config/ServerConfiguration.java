@@ -1,29 +1,40 @@
 package com.reliaquest.server.config;
 
 import com.reliaquest.server.model.MockEmployee;
-import com.reliaquest.server.web.RandomRequestLimitInterceptor;
+import com.reliaquest.server.service.CreateKeys;
+import com.reliaquest.server.service.EmailAllocator;
+import com.reliaquest.server.service.ShardIds;
+import com.reliaquest.server.store.EmployeeStore;
+import com.reliaquest.server.store.GeneratingEmployeeStore;
+import com.reliaquest.server.store.HeapEmployeeStore;
+import com.reliaquest.server.store.IndexedEmployeeStore;
+import com.reliaquest.server.store.OffHeapEmployeeStore;
+import com.reliaquest.server.store.PersistentEmployeeStore;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.List;
 import java.util.Locale;
-import java.util.UUID;
-import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
 import net.datafaker.transformations.Field;
 import net.datafaker.transformations.JavaObjectTransformer;
 import net.datafaker.transformations.Schema;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
-import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Slf4j
 @Configuration
-public class ServerConfiguration implements WebMvcConfigurer {
+public class ServerConfiguration {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
+    public static final String OFF_HEAP_STORAGE = "off-heap";
 
     @Bean
     public Faker faker() {
@@ -31,29 +42,133 @@ public class ServerConfiguration implements WebMvcConfigurer {
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * The username pool is generated with its own Faker, so the bean can be shared between request threads.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
+    public EmailAllocator emailAllocator(
+            @Value("${mock.employees.email.pool-size:4096}") int poolSize,
+            @Value("${mock.employees.email.attempts:3}") int attempts) {
+        return EmailAllocator.generate(new Faker(Locale.getDefault()), poolSize, attempts);
+    }
+
+    @Bean
+    public CreateKeys createKeys(@Value("${mock.employees.create-keys.max-keys:100000}") int maxKeys) {
+        return new CreateKeys(maxKeys);
+    }
+
+    /*
+     * With several servers sharing one roster, each generates and creates only the ids of its own shard.
+     */
+    @Bean
+    public ShardIds shardIds(
+            @Value("${mock.shard.index:0}") int index, @Value("${mock.shard.count:1}") int count) {
+        if (count > 1) {
+            log.info("Serving shard {} of {} of the roster", index, count);
+        }
+        return new ShardIds(index, count);
+    }
+
+    /*
+     * With lazy initialization the roster is still generated, or restored from disk, during startup rather than by
+     * whichever request happens to need it first.
+     */
+    @Bean
+    static LazyInitializationExcludeFilter eagerEmployeeStore() {
+        return LazyInitializationExcludeFilter.forBeanTypes(EmployeeStore.class);
+    }
+
+    /*
+     * The heap store wraps a plain list, which is modifiable by design for CRUD operations.
+     * The off-heap store keeps rows in direct buffers, for multi-million row rosters without GC pressure.
+     * With persistence enabled the roster is restored from disk instead of regenerated, and survives restarts.
+     * Salary and title indexes are built on top of whichever store is used, and kept up to date as it fills.
+     * A generated roster is filled in the background unless mock.employees.generation.background is off, so the
+     * server answers with the employees generated so far until rosterHealthIndicator reports it ready.
+     * Generated employees get their emails from the allocator, and a restored roster reserves its emails there.
+     * Generated ids belong to the shard of this server, a restored roster keeps the ids it was persisted with.
+     */
+    @Bean
+    public EmployeeStore employeeStore(
+            Faker faker,
+            EmailAllocator emailAllocator,
+            ShardIds shardIds,
+            @Value("${mock.employees.max:20}") int maxEmployees,
+            @Value("${mock.employees.storage:heap}") String storage,
+            @Value("${mock.employees.generation.background:true}") boolean background,
+            @Value("${mock.employees.generation.chunk-size:1000}") int chunkSize,
+            @Value("${mock.persistence.enabled:false}") boolean persistenceEnabled,
+            @Value("${mock.persistence.directory:data}") Path persistenceDirectory,
+            @Value("${mock.persistence.fsync:false}") boolean fsync,
+            @Value("${mock.persistence.snapshot-interval:60s}") Duration snapshotInterval,
+            @Value("${mock.employees.indexes:true}") boolean indexes)
+            throws IOException {
+        final EmployeeStore store = OFF_HEAP_STORAGE.equalsIgnoreCase(storage)
+                ? new OffHeapEmployeeStore(maxEmployees)
+                : new HeapEmployeeStore(new ArrayList<>(maxEmployees));
+        if (persistenceEnabled) {
+            final var roster = PersistentEmployeeStore.open(
+                    store,
+                    persistenceDirectory,
+                    fsync,
+                    snapshotInterval,
+                    () -> mockEmployees(faker, emailAllocator, shardIds, maxEmployees));
+            roster.forEach(employee -> {
+                if (employee.getEmail() != null) {
+                    emailAllocator.reserve(employee.getEmail());
+                }
+            });
+            return indexes ? new IndexedEmployeeStore(roster) : roster;
+        }
+        final var roster = indexes ? new IndexedEmployeeStore(store) : store;
+        if (background) {
+            log.info("Generating {} mock employees into {} storage in the background", maxEmployees, storage);
+            /* Faker is not meant to be shared between threads, creates keep using the bean */
+            final var generatorFaker = new Faker(Locale.getDefault());
+            return GeneratingEmployeeStore.start(
+                    roster,
+                    () -> mockEmployees(generatorFaker, emailAllocator, shardIds, maxEmployees),
+                    maxEmployees,
+                    chunkSize);
+        }
+        log.info("Generating {} mock employees into {} storage", maxEmployees, storage);
+        mockEmployees(faker, emailAllocator, shardIds, maxEmployees).forEach(roster::add);
+        return roster;
+    }
+
+    /**
+     * Part of the readiness group, see management.endpoint.health.group.readiness: out of service while the roster
+     * is still being generated, down when generating it failed.
+     */
+    @Bean
+    public HealthIndicator rosterHealthIndicator(EmployeeStore employeeStore) {
+        return () -> {
+            if (!(employeeStore instanceof GeneratingEmployeeStore generating)) {
+                return Health.up().withDetail("employees", employeeStore.size()).build();
+            }
+            final var health =
+                    switch (generating.status()) {
+                        case GENERATING -> Health.outOfService();
+                        case COMPLETE -> Health.up();
+                        case FAILED -> Health.down();
+                    };
+            return health.withDetail("employees", generating.generated())
+                    .withDetail("target", generating.target())
+                    .build();
+        };
+    }
+
+    private Stream<MockEmployee> mockEmployees(
+            Faker faker, EmailAllocator emailAllocator, ShardIds shardIds, int maxEmployees) {
         final var transformer = new JavaObjectTransformer();
         final var schema = Schema.of(
-                Field.field("id", UUID::randomUUID),
+                Field.field("id", shardIds::next),
                 Field.field("name", () -> faker.name().fullName()),
                 Field.field("salary", () -> faker.number().numberBetween(30000, 500000)),
                 Field.field("age", () -> faker.number().numberBetween(16, 70)),
                 Field.field("title", () -> faker.job().title()),
-                Field.field(
-                        "email",
-                        () -> EMAIL_TEMPLATE.formatted(
-                                faker.twitter().userName().toLowerCase())));
+                Field.field("email", emailAllocator::allocate));
         return IntStream.rangeClosed(1, maxEmployees)
                 .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
-                .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
-    }
-
-    @Override
-    public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+                .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee));
     }
 }
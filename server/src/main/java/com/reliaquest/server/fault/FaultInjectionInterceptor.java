@@ -0,0 +1,118 @@
+package com.reliaquest.server.fault;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.Response;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.coyote.CloseNowException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.util.WebUtils;
+
+/**
+ * Injects the faults of the first matching rule: added latency, error responses, responses cut short with the
+ * connection closed, or the stream reset under HTTP/2, and bodies trickled out by {@link TricklingResponseWrapper}.
+ */
+@Slf4j
+public class FaultInjectionInterceptor implements HandlerInterceptor {
+
+    /* A reset response declares this length but sends only the start of a JSON document. */
+    private static final int RESET_DECLARED_LENGTH = 1024;
+
+    private static final byte[] RESET_PREFIX = "{\"data\":[".getBytes(StandardCharsets.UTF_8);
+
+    private static final String RESET_ATTRIBUTE = FaultInjectionInterceptor.class.getName() + ".reset";
+
+    private static final String HTTP_2 = "HTTP/2.0";
+
+    private final List<FaultRule> rules;
+    private final ObjectMapper objectMapper;
+
+    public FaultInjectionInterceptor(FaultInjectionProperties properties, ObjectMapper objectMapper) {
+        final var configured = properties.getRules();
+        this.rules = IntStream.range(0, configured.size())
+                .mapToObj(i -> new FaultRule(configured.get(i), properties.getSeed(), i))
+                .toList();
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        final var rule = rules.stream().filter(r -> r.matches(request)).findFirst();
+        if (rule.isEmpty()) {
+            return true;
+        }
+
+        final var plan = rule.get().plan();
+        if (plan.latencyNanos() > 0 && !sleep(plan.latencyNanos())) {
+            return true;
+        }
+        if (plan.reset()) {
+            log.debug("Injecting connection reset into {} {}", request.getMethod(), request.getRequestURI());
+            if (HTTP_2.equals(request.getProtocol())) {
+                /*
+                 * Tomcat ends an HTTP/2 stream cleanly even when the response is aborted, but holds END_STREAM back
+                 * while trailers are pending. Failing to supply them makes it reset the stream with RST_STREAM.
+                 */
+                response.setTrailerFields(() -> {
+                    throw new UncheckedIOException(new CloseNowException("Injected stream reset"));
+                });
+            } else {
+                /* Connection is a connection-specific header, which makes an HTTP/2 response malformed. */
+                response.setHeader(HttpHeaders.CONNECTION, "close");
+                request.setAttribute(RESET_ATTRIBUTE, Boolean.TRUE);
+            }
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setContentLength(RESET_DECLARED_LENGTH);
+            response.getOutputStream().write(RESET_PREFIX);
+            response.flushBuffer();
+            return false;
+        }
+        if (plan.errorStatus() > 0) {
+            log.debug(
+                    "Injecting {} into {} {}", plan.errorStatus(), request.getMethod(), request.getRequestURI());
+            response.setStatus(plan.errorStatus());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), Response.error("Injected fault"));
+            return false;
+        }
+        if (plan.trickle()) {
+            final var trickling = WebUtils.getNativeResponse(response, TricklingResponseWrapper.class);
+            if (trickling != null) {
+                trickling.trickle(rule.get().chunkBytes(), rule.get().chunkDelayNanos());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Aborts an HTTP/1.x response this interceptor cut short. Thrown past the dispatcher servlet, so no exception
+     * handler completes the response, and Tomcat closes the connection. HTTP/2 responses are reset through their
+     * trailers instead, which leaves the other streams of the connection running.
+     */
+    public static void resetIfCutShort(ServletRequest request) throws CloseNowException {
+        if (request.getAttribute(RESET_ATTRIBUTE) != null) {
+            throw new CloseNowException("Injected connection reset");
+        }
+    }
+
+    private static boolean sleep(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.reliaquest.server.fault;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Faults the mock server injects into matching requests, bound from {@code mock.faults}.
+ *
+ * <p>Rules are matched in order by HTTP method and Ant-style path; the first match applies. The ready-made
+ * {@code slow}, {@code flaky} and {@code chaos} Spring profiles each define a set of rules.
+ */
+@Data
+@ConfigurationProperties("mock.faults")
+public class FaultInjectionProperties {
+
+    private boolean enabled;
+
+    /* Same seed, same faults for the n-th request matching each rule. */
+    private long seed = 42;
+
+    private List<Rule> rules = new ArrayList<>();
+
+    @Data
+    public static class Rule {
+
+        /* Any method when not set. */
+        private String method;
+
+        private String path = "/**";
+
+        private Latency latency = new Latency();
+
+        /* Share of requests answered with the error status instead of being handled. */
+        private double errorRate;
+
+        private int errorStatus = 503;
+
+        /* Share of requests whose response is cut short and the connection closed, or the stream reset under HTTP/2. */
+        private double resetRate;
+
+        private Trickle trickle = new Trickle();
+    }
+
+    @Data
+    public static class Latency {
+
+        /* none | fixed | uniform | log-normal */
+        private String distribution = LatencyDistribution.NONE;
+
+        /* fixed delay, or the lower bound of uniform */
+        private Duration min = Duration.ZERO;
+
+        /* upper bound of uniform, and a cap for log-normal */
+        private Duration max = Duration.ofSeconds(30);
+
+        private Duration median = Duration.ofMillis(50);
+
+        private Duration p99 = Duration.ofMillis(500);
+    }
+
+    @Data
+    public static class Trickle {
+
+        /* Share of responses whose body is written slowly. */
+        private double rate;
+
+        private int chunkBytes = 256;
+
+        private Duration chunkDelay = Duration.ofMillis(100);
+    }
+}
@@ -0,0 +1,11 @@
+package com.reliaquest.server.fault;
+
+/**
+ * Faults decided for one request.
+ *
+ * @param latencyNanos delay before the request is handled
+ * @param errorStatus status to answer with instead of handling the request, 0 for none
+ * @param reset whether the response is cut short and the connection closed
+ * @param trickle whether the response body is written slowly
+ */
+public record FaultPlan(long latencyNanos, int errorStatus, boolean reset, boolean trickle) {}
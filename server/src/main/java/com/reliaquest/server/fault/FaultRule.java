@@ -0,0 +1,51 @@
+package com.reliaquest.server.fault;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.util.AntPathMatcher;
+
+/**
+ * A configured rule, ready to match requests and draw their faults.
+ *
+ * <p>Every matching request takes the next sequence number of the rule and draws from a generator seeded with the
+ * configured seed, the rule index and that number. The faults of the n-th matching request therefore do not depend
+ * on how concurrent requests interleave, which makes a load test reproducible.
+ */
+class FaultRule {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final FaultInjectionProperties.Rule rule;
+    private final LatencyDistribution latency;
+    private final long seed;
+    private final AtomicLong sequence = new AtomicLong();
+
+    FaultRule(FaultInjectionProperties.Rule rule, long seed, int index) {
+        this.rule = rule;
+        this.latency = LatencyDistribution.of(rule.getLatency());
+        this.seed = seed ^ ((long) index << 48);
+    }
+
+    boolean matches(HttpServletRequest request) {
+        return (rule.getMethod() == null || rule.getMethod().equalsIgnoreCase(request.getMethod()))
+                && PATH_MATCHER.match(rule.getPath(), request.getRequestURI());
+    }
+
+    FaultPlan plan() {
+        final var random = new SplittableRandom(seed + sequence.getAndIncrement());
+        final long latencyNanos = latency.sampleNanos(random);
+        final boolean reset = random.nextDouble() < rule.getResetRate();
+        final boolean error = random.nextDouble() < rule.getErrorRate();
+        final boolean trickle = random.nextDouble() < rule.getTrickle().getRate();
+        return new FaultPlan(latencyNanos, error ? rule.getErrorStatus() : 0, reset, trickle);
+    }
+
+    int chunkBytes() {
+        return rule.getTrickle().getChunkBytes();
+    }
+
+    long chunkDelayNanos() {
+        return rule.getTrickle().getChunkDelay().toNanos();
+    }
+}
@@ -0,0 +1,49 @@
+package com.reliaquest.server.fault;
+
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Samples the extra latency of a request.
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    String NONE = "none";
+    String FIXED = "fixed";
+    String UNIFORM = "uniform";
+    String LOG_NORMAL = "log-normal";
+
+    /* z-score of the 99th percentile of the standard normal distribution */
+    double Z_99 = 2.3263;
+
+    long sampleNanos(SplittableRandom random);
+
+    /**
+     * Builds the distribution described by the properties. Log-normal is parameterized by its median and 99th
+     * percentile, which is how service latency is usually reported, and is capped at {@code max}.
+     */
+    static LatencyDistribution of(FaultInjectionProperties.Latency latency) {
+        final long min = latency.getMin().toNanos();
+        final long max = latency.getMax().toNanos();
+        return switch (latency.getDistribution().toLowerCase(Locale.ROOT)) {
+            case NONE -> random -> 0;
+            case FIXED -> random -> min;
+            case UNIFORM -> random -> max > min ? random.nextLong(min, max) : min;
+            case LOG_NORMAL -> {
+                final double mu = Math.log(latency.getMedian().toNanos());
+                final double sigma = Math.max(0, (Math.log(latency.getP99().toNanos()) - mu) / Z_99);
+                yield random -> Math.min(max, (long) Math.exp(mu + sigma * gaussian(random)));
+            }
+            default -> throw new IllegalArgumentException(
+                    "Unknown latency distribution: " + latency.getDistribution());
+        };
+    }
+
+    private static double gaussian(SplittableRandom random) {
+        /* Box-Muller, SplittableRandom has no nextGaussian on Java 17 */
+        final double u1 = 1 - random.nextDouble();
+        final double u2 = random.nextDouble();
+        return Math.sqrt(-2 * Math.log(u1)) * Math.cos(2 * Math.PI * u2);
+    }
+}
@@ -0,0 +1,98 @@
+package com.reliaquest.server.fault;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response that can be switched to write its body in small chunks with a pause after each, like a server whose
+ * responses stall half way. Until switched, it passes everything through unchanged.
+ */
+public class TricklingResponseWrapper extends HttpServletResponseWrapper {
+
+    private int chunkBytes;
+    private long chunkDelayNanos;
+    private ServletOutputStream outputStream;
+
+    public TricklingResponseWrapper(HttpServletResponse response) {
+        super(response);
+    }
+
+    void trickle(int chunkBytes, long chunkDelayNanos) {
+        this.chunkBytes = Math.max(1, chunkBytes);
+        this.chunkDelayNanos = chunkDelayNanos;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (chunkBytes == 0) {
+            return super.getOutputStream();
+        }
+        if (outputStream == null) {
+            outputStream = new TricklingOutputStream(super.getOutputStream());
+        }
+        return outputStream;
+    }
+
+    private class TricklingOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+        private int chunkWritten;
+
+        private TricklingOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            if (++chunkWritten == chunkBytes) {
+                pause();
+            }
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            while (length > 0) {
+                final int chunk = Math.min(length, chunkBytes - chunkWritten);
+                delegate.write(bytes, offset, chunk);
+                offset += chunk;
+                length -= chunk;
+                chunkWritten += chunk;
+                if (chunkWritten == chunkBytes) {
+                    pause();
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+
+        private void pause() throws IOException {
+            chunkWritten = 0;
+            delegate.flush();
+            try {
+                TimeUnit.NANOSECONDS.sleep(chunkDelayNanos);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while trickling response");
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.Data;
+
+@Data
+public class CreateMockEmployeesInput {
+
+    @NotEmpty
+    @Size(max = 1000)
+    private List<@Valid CreateMockEmployeeInput> employees;
+
+    /*
+     * Optional key per employee, in the order of the employees. A key seen before returns the employee it created,
+     * so a batch sent again after a timeout does not create its employees twice.
+     */
+    private List<@NotBlank @Size(max = 255) String> keys;
+
+    @JsonIgnore
+    @AssertTrue(message = "keys must have one key per employee")
+    public boolean isKeyedPerEmployee() {
+        return keys == null || employees == null || keys.size() == employees.size();
+    }
+}
@@ -0,0 +1,82 @@
+package com.reliaquest.server.ratelimit;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongFunction;
+
+/**
+ * State of a rate limiter per client key, holding at most {@code maxKeys} clients plus those added concurrently.
+ *
+ * <p>A known key is a plain concurrent map read. Adding a key to a full map sweeps the next {@value #SWEEP_ENTRIES}
+ * entries, carrying on where the previous sweep stopped, and drops those the limiter reports idle. When none of them
+ * is idle the first swept entry is dropped anyway, so a flood of distinct keys costs a bounded amount of work per
+ * request and never grows the map; that client simply starts over with a fresh state on its next request.
+ */
+final class BoundedKeyMap<V> {
+
+    static final int SWEEP_ENTRIES = 16;
+
+    @FunctionalInterface
+    interface IdleTest<V> {
+        boolean isIdle(V state, long nowNanos);
+    }
+
+    private final ConcurrentMap<String, V> states = new ConcurrentHashMap<>();
+    private final int maxKeys;
+    private final LongFunction<V> factory;
+    private final IdleTest<V> idleTest;
+
+    /* Guarded by this, only used while adding a key to a full map. */
+    private Iterator<Map.Entry<String, V>> sweep;
+
+    BoundedKeyMap(int maxKeys, LongFunction<V> factory, IdleTest<V> idleTest) {
+        if (maxKeys < 1) {
+            throw new IllegalArgumentException("Rate limit needs room for at least one key");
+        }
+        this.maxKeys = maxKeys;
+        this.factory = factory;
+        this.idleTest = idleTest;
+    }
+
+    V get(String key, long nowNanos) {
+        final var state = states.get(key);
+        if (state != null) {
+            return state;
+        }
+        if (states.size() >= maxKeys) {
+            evict(nowNanos);
+        }
+        return states.computeIfAbsent(key, ignored -> factory.apply(nowNanos));
+    }
+
+    int size() {
+        return states.size();
+    }
+
+    private synchronized void evict(long nowNanos) {
+        if (states.size() < maxKeys) {
+            return;
+        }
+        Map.Entry<String, V> first = null;
+        var removed = false;
+        for (int i = 0; i < SWEEP_ENTRIES; i++) {
+            if (sweep == null || !sweep.hasNext()) {
+                sweep = states.entrySet().iterator();
+                if (!sweep.hasNext()) {
+                    return;
+                }
+            }
+            final var entry = sweep.next();
+            if (idleTest.isIdle(entry.getValue(), nowNanos)) {
+                removed |= states.remove(entry.getKey(), entry.getValue());
+            } else if (first == null) {
+                first = entry;
+            }
+        }
+        if (!removed && first != null) {
+            states.remove(first.getKey(), first.getValue());
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.reliaquest.server.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Ways of telling clients apart for rate limiting.
+ */
+public final class ClientKeys {
+
+    public static final String IP = "ip";
+    public static final String HEADER = "header";
+    public static final String GLOBAL = "global";
+
+    private static final String GLOBAL_KEY = "*";
+
+    private ClientKeys() {}
+
+    /**
+     * Returns the key resolver for a strategy: {@code ip} keys by remote address, {@code header} by the value of the
+     * given header falling back to the remote address, and {@code global} shares one limit among all clients.
+     */
+    public static Function<HttpServletRequest, String> of(String strategy, String headerName) {
+        return switch (strategy.toLowerCase(Locale.ROOT)) {
+            case IP -> HttpServletRequest::getRemoteAddr;
+            case HEADER -> request -> {
+                final var key = request.getHeader(headerName);
+                return key == null || key.isBlank() ? request.getRemoteAddr() : key;
+            };
+            case GLOBAL -> request -> GLOBAL_KEY;
+            default -> throw new IllegalArgumentException("Unknown rate limit key strategy: " + strategy);
+        };
+    }
+}
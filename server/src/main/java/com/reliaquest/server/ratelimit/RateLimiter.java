@@ -0,0 +1,31 @@
+package com.reliaquest.server.ratelimit;
+
+/**
+ * Decides whether a client may make another request.
+ *
+ * <p>Implementations keep independent state per client key and are safe for concurrent use. Time is passed in as
+ * {@link System#nanoTime()} readings, so a request reads the clock once and tests can drive time explicitly.
+ */
+public interface RateLimiter {
+
+    /**
+     * Takes one permit for the client, if one is available.
+     */
+    Decision tryAcquire(String key, long nowNanos);
+
+    /**
+     * Outcome of {@link #tryAcquire}; when denied, {@code retryAfterNanos} is the wait until a permit is available.
+     */
+    record Decision(boolean allowed, long retryAfterNanos) {
+
+        private static final Decision ALLOWED = new Decision(true, 0);
+
+        public static Decision allow() {
+            return ALLOWED;
+        }
+
+        public static Decision deny(long retryAfterNanos) {
+            return new Decision(false, Math.max(1, retryAfterNanos));
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.reliaquest.server.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * Allows {@code limit} requests per {@code period}, counted over a window that slides with every request.
+ *
+ * <p>Each key keeps the counts of the current and the previous fixed window, and the previous count is weighted by
+ * how much of it still overlaps the sliding window. That approximates a sliding log in constant memory per key.
+ * Keys are independent, so contention is limited to requests of the same client.
+ */
+public class SlidingWindowRateLimiter implements RateLimiter {
+
+    private final int limit;
+    private final long windowNanos;
+    private final BoundedKeyMap<Window> windows;
+
+    public SlidingWindowRateLimiter(int limit, Duration period, int maxKeys) {
+        if (limit < 1 || period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("Rate limit needs a positive limit and period");
+        }
+        this.limit = limit;
+        this.windowNanos = period.toNanos();
+        this.windows = new BoundedKeyMap<>(maxKeys, Window::new, Window::isIdle);
+    }
+
+    @Override
+    public Decision tryAcquire(String key, long nowNanos) {
+        return windows.get(key, nowNanos).tryAcquire(nowNanos);
+    }
+
+    private final class Window {
+        private long start;
+        private int previous;
+        private int current;
+
+        private Window(long nowNanos) {
+            this.start = nowNanos;
+        }
+
+        synchronized Decision tryAcquire(long nowNanos) {
+            advance(nowNanos);
+            final double elapsed = (double) (nowNanos - start) / windowNanos;
+            if (previous * (1 - elapsed) + current + 1 <= limit) {
+                current++;
+                return Decision.allow();
+            }
+            return Decision.deny(retryAfterNanos(elapsed));
+        }
+
+        synchronized boolean isIdle(long nowNanos) {
+            return nowNanos - start >= 2 * windowNanos;
+        }
+
+        private void advance(long nowNanos) {
+            final long windows = (nowNanos - start) / windowNanos;
+            if (windows == 1) {
+                previous = current;
+            } else if (windows > 1) {
+                previous = 0;
+            }
+            if (windows > 0) {
+                current = 0;
+                start += windows * windowNanos;
+            }
+        }
+
+        /*
+         * Time until previous * (1 - elapsed) + current drops to limit - 1. When the current window alone is full,
+         * that point lies in the next window, where the current count takes the place of the previous one.
+         */
+        private long retryAfterNanos(double elapsed) {
+            if (current <= limit - 1 && previous > 0) {
+                final double at = 1 - (double) (limit - 1 - current) / previous;
+                return (long) Math.ceil((at - elapsed) * windowNanos);
+            }
+            final double nextAt = 1 - (double) (limit - 1) / current;
+            return (long) Math.ceil((1 - elapsed + nextAt) * windowNanos);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.reliaquest.server.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket holding {@code limit} permits that refill evenly over {@code period}.
+ *
+ * <p>Implemented as the generic cell rate algorithm: instead of a token count and a refill timestamp, each key keeps
+ * the single instant at which its bucket will be full again. A request advances that instant by one emission
+ * interval and is allowed as long as it stays within {@code limit} intervals of now. One {@link AtomicLong} per key
+ * updated by compare-and-set makes the limiter lock free, and the denied answer doubles as the exact retry delay.
+ */
+public class TokenBucketRateLimiter implements RateLimiter {
+
+    private final long emissionIntervalNanos;
+    private final long capacityNanos;
+    /* Full buckets carry no state worth keeping, so they are the ones dropped to make room for new keys. */
+    private final BoundedKeyMap<AtomicLong> fullAt;
+
+    public TokenBucketRateLimiter(int limit, Duration period, int maxKeys) {
+        if (limit < 1 || period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("Rate limit needs a positive limit and period");
+        }
+        this.emissionIntervalNanos = Math.max(1, period.toNanos() / limit);
+        this.capacityNanos = emissionIntervalNanos * limit;
+        this.fullAt = new BoundedKeyMap<>(maxKeys, AtomicLong::new, (bucket, nowNanos) -> bucket.get() <= nowNanos);
+    }
+
+    @Override
+    public Decision tryAcquire(String key, long nowNanos) {
+        final var bucket = fullAt.get(key, nowNanos);
+        while (true) {
+            final long current = bucket.get();
+            final long next = Math.max(current, nowNanos) + emissionIntervalNanos;
+            final long overflow = next - nowNanos - capacityNanos;
+            if (overflow > 0) {
+                return Decision.deny(overflow);
+            }
+            if (bucket.compareAndSet(current, next)) {
+                return Decision.allow();
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import lombok.NonNull;
+
+/**
+ * Employees created by keyed batch creates, so that a batch retried by the client after a timeout or a server error
+ * gets the employees of the first attempt back instead of creating them again.
+ *
+ * <p>Each key is created at most once, concurrent requests with the same key wait for the first. A key whose create
+ * failed is forgotten, so a waiting or later request creates it instead. The oldest keys are forgotten beyond
+ * {@code maxKeys}. A key keeps answering with its employee after that employee was deleted.
+ *
+ * <p>Creates write to the store, possibly through its write-ahead log, so they run outside the map: a placeholder
+ * future claims the key and is completed once the create returns.
+ */
+public class CreateKeys {
+
+    private final int maxKeys;
+    private final ConcurrentMap<String, CompletableFuture<MockEmployee>> created = new ConcurrentHashMap<>();
+    private final Queue<String> order = new ConcurrentLinkedQueue<>();
+
+    public CreateKeys(int maxKeys) {
+        this.maxKeys = Math.max(1, maxKeys);
+    }
+
+    public MockEmployee createIfAbsent(@NonNull String key, @NonNull Supplier<MockEmployee> create) {
+        final var placeholder = new CompletableFuture<MockEmployee>();
+        CompletableFuture<MockEmployee> existing;
+        while ((existing = created.putIfAbsent(key, placeholder)) != null) {
+            try {
+                return existing.join();
+            } catch (CompletionException ex) {
+                /* The first create failed and dropped the key, try again. */
+            }
+        }
+
+        final MockEmployee employee;
+        try {
+            employee = create.get();
+        } catch (RuntimeException | Error ex) {
+            created.remove(key, placeholder);
+            placeholder.completeExceptionally(ex);
+            throw ex;
+        }
+        placeholder.complete(employee);
+
+        order.add(key);
+        while (created.size() > maxKeys) {
+            final var eldest = order.poll();
+            if (eldest == null) {
+                break;
+            }
+            created.remove(eldest);
+        }
+        return employee;
+    }
+
+    public int size() {
+        return created.size();
+    }
+}
@@ -0,0 +1,90 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.config.ServerConfiguration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+import lombok.NonNull;
+import net.datafaker.Faker;
+
+/**
+ * Hands out unique employee emails without calling Faker per employee.
+ *
+ * <p>Usernames are generated once into an immutable pool, with their emails built up front, which any number of
+ * threads read without coordination. An email is picked from a random pool entry and claimed in a concurrent set, so
+ * two employees never share one. A claimed email is retried with another entry a few times, then suffixed with a
+ * random number, widening the range on every further collision, so allocation keeps terminating once the roster
+ * outgrows the pool.
+ */
+public class EmailAllocator {
+
+    private static final String DOMAIN = ServerConfiguration.EMAIL_TEMPLATE.formatted("");
+    private static final long FIRST_SUFFIX_BOUND = 1_000;
+
+    private final String[] usernames;
+    private final String[] emails;
+    private final int attempts;
+    private final Set<String> allocated = ConcurrentHashMap.newKeySet();
+
+    EmailAllocator(String[] usernames, int attempts) {
+        if (usernames.length == 0) {
+            throw new IllegalArgumentException("Username pool must not be empty");
+        }
+        this.usernames = usernames;
+        this.emails = Stream.of(usernames).map(username -> username + DOMAIN).toArray(String[]::new);
+        this.attempts = Math.max(1, attempts);
+    }
+
+    /**
+     * Generates a pool of up to {@code poolSize} distinct usernames with the given Faker, which is not used afterwards.
+     */
+    public static EmailAllocator generate(@NonNull Faker faker, int poolSize, int attempts) {
+        final var usernames = Stream.generate(() -> faker.twitter().userName().toLowerCase())
+                .limit(Math.max(1, poolSize))
+                .distinct()
+                .toArray(String[]::new);
+        return new EmailAllocator(usernames, attempts);
+    }
+
+    /**
+     * A new email, unique among every email allocated or reserved and not released since.
+     */
+    public String allocate() {
+        final var random = ThreadLocalRandom.current();
+        for (var attempt = 0; attempt < attempts; attempt++) {
+            final var email = emails[random.nextInt(emails.length)];
+            if (allocated.add(email)) {
+                return email;
+            }
+        }
+        for (var bound = FIRST_SUFFIX_BOUND; ; bound = bound < Long.MAX_VALUE / 10 ? bound * 10 : bound) {
+            final var email = usernames[random.nextInt(usernames.length)] + random.nextLong(bound) + DOMAIN;
+            if (allocated.add(email)) {
+                return email;
+            }
+        }
+    }
+
+    /**
+     * Marks an email that was not allocated here, such as one restored from disk, as taken.
+     *
+     * @return false when the email was already taken
+     */
+    public boolean reserve(@NonNull String email) {
+        return allocated.add(email);
+    }
+
+    /**
+     * Makes the email of a deleted employee available again.
+     */
+    public void release(String email) {
+        if (email != null) {
+            allocated.remove(email);
+        }
+    }
+
+    public int size() {
+        return allocated.size();
+    }
+}
@@ -1,18 +1,17 @@
 package com.reliaquest.server.service;
 
-import com.reliaquest.server.config.ServerConfiguration;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.CreateMockEmployeesInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.EmployeeStore;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import lombok.Getter;
+import java.util.stream.IntStream;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.datafaker.Faker;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -20,36 +19,62 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class MockEmployeeService {
 
-    private final Faker faker;
+    private final EmailAllocator emailAllocator;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    private final ShardIds shardIds;
+
+    private final CreateKeys createKeys;
+
+    private final EmployeeStore employeeStore;
+
+    public List<MockEmployee> getMockEmployees() {
+        return employeeStore.findAll();
+    }
+
+    public long getRosterVersion() {
+        return employeeStore.version();
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return employeeStore.findById(uuid);
+    }
+
+    public List<MockEmployee> findBySalaryBetween(int min, int max) {
+        return employeeStore.findBySalaryBetween(min, max);
+    }
+
+    public List<MockEmployee> findByTitle(@NonNull String title) {
+        return employeeStore.findByTitle(title);
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
-        final var mockEmployee = MockEmployee.from(
-                ServerConfiguration.EMAIL_TEMPLATE.formatted(
-                        faker.twitter().userName().toLowerCase()),
-                input);
-        mockEmployees.add(mockEmployee);
+        final var mockEmployee = MockEmployee.from(shardIds.next(), emailAllocator.allocate(), input);
+        employeeStore.add(mockEmployee);
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
+    /*
+     * One request creating many employees, so bulk onboarding costs one request against the rate limit per batch.
+     * Keyed employees are created once per key, see CreateKeys.
+     */
+    public List<MockEmployee> createAll(@NonNull CreateMockEmployeesInput input) {
+        final var employees = input.getEmployees();
+        final var keys = input.getKeys();
+        final var created = IntStream.range(0, employees.size())
+                .mapToObj(i -> keys == null
+                        ? create(employees.get(i))
+                        : createKeys.createIfAbsent(keys.get(i), () -> create(employees.get(i))))
+                .toList();
+        log.debug("Added {} employees in one batch", created.size());
+        return created;
+    }
+
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
+        final var mockEmployee = employeeStore.removeFirstByName(input.getName());
         if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
             log.debug("Removed employee: {}", mockEmployee.get());
+            emailAllocator.release(mockEmployee.get().getEmail());
             return true;
         }
 
@@ -0,0 +1,43 @@
+package com.reliaquest.server.service;
+
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Generates the ids of the employees of one shard, when a roster is partitioned across several servers.
+ *
+ * <p>An employee belongs to shard {@code floorMod(id.hashCode(), count)}, the same function the API routes lookups by
+ * id with when it is given several mock.server.url. Random ids are drawn until one falls into this shard, about
+ * {@code count} draws per id. A single server is shard 0 of 1 and keeps every id it draws.
+ */
+@Getter
+public class ShardIds {
+
+    private final int index;
+    private final int count;
+
+    public ShardIds(int index, int count) {
+        if (count < 1 || index < 0 || index >= count) {
+            throw new IllegalArgumentException(
+                    "Shard index must be between 0 and %d, was %d".formatted(Math.max(0, count - 1), index));
+        }
+        this.index = index;
+        this.count = count;
+    }
+
+    public static int shardOf(@NonNull UUID id, int count) {
+        return Math.floorMod(id.hashCode(), count);
+    }
+
+    /**
+     * A new random id owned by this shard.
+     */
+    public UUID next() {
+        var id = UUID.randomUUID();
+        while (shardOf(id, count) != index) {
+            id = UUID.randomUUID();
+        }
+        return id;
+    }
+}
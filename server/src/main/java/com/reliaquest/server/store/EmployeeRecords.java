@@ -0,0 +1,67 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Binary encoding of a single employee, shared by the snapshot file and the write-ahead log.
+ * Big endian, as written by {@link java.io.DataOutputStream}: id high and low bits, salary, age,
+ * then name, title and email as length prefixed UTF-8.
+ */
+final class EmployeeRecords {
+
+    private static final int NULL_INT = Integer.MIN_VALUE;
+    private static final int NULL_STRING = -1;
+
+    private EmployeeRecords() {}
+
+    static void write(DataOutput out, MockEmployee employee) throws IOException {
+        final var id = employee.getId();
+        out.writeLong(id == null ? 0L : id.getMostSignificantBits());
+        out.writeLong(id == null ? 0L : id.getLeastSignificantBits());
+        out.writeInt(employee.getSalary() == null ? NULL_INT : employee.getSalary());
+        out.writeInt(employee.getAge() == null ? NULL_INT : employee.getAge());
+        writeString(out, employee.getName());
+        writeString(out, employee.getTitle());
+        writeString(out, employee.getEmail());
+    }
+
+    static MockEmployee read(ByteBuffer buffer) {
+        final var high = buffer.getLong();
+        final var low = buffer.getLong();
+        final var salary = buffer.getInt();
+        final var age = buffer.getInt();
+        return MockEmployee.builder()
+                .id(high == 0L && low == 0L ? null : new UUID(high, low))
+                .salary(salary == NULL_INT ? null : salary)
+                .age(age == NULL_INT ? null : age)
+                .name(readString(buffer))
+                .title(readString(buffer))
+                .email(readString(buffer))
+                .build();
+    }
+
+    static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_STRING);
+            return;
+        }
+        final var bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(ByteBuffer buffer) {
+        final var length = buffer.getInt();
+        if (length == NULL_STRING) {
+            return null;
+        }
+        final var bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
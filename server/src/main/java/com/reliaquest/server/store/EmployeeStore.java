@@ -0,0 +1,73 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Storage backing {@link com.reliaquest.server.service.MockEmployeeService}.
+ */
+public interface EmployeeStore {
+
+    /*
+     * Every live employee, in insertion order.
+     */
+    List<MockEmployee> findAll();
+
+    void forEach(Consumer<MockEmployee> action);
+
+    Optional<MockEmployee> findById(UUID id);
+
+    void add(MockEmployee employee);
+
+    /*
+     * Removes the first employee whose name matches ignoring case.
+     */
+    Optional<MockEmployee> removeFirstByName(String name);
+
+    int size();
+
+    /**
+     * Increases with every add and every remove that found an employee, so anything derived from the roster can be
+     * kept for as long as the version stays the same.
+     */
+    long version();
+
+    /**
+     * Employees earning between {@code min} and {@code max} inclusive, by ascending salary. Scans the whole roster
+     * unless the store keeps a salary index, see {@link IndexedEmployeeStore}.
+     */
+    default List<MockEmployee> findBySalaryBetween(int min, int max) {
+        final var employees = new ArrayList<MockEmployee>();
+        forEach(employee -> {
+            if (employee.getSalary() != null && employee.getSalary() >= min && employee.getSalary() <= max) {
+                employees.add(employee);
+            }
+        });
+        employees.sort(Comparator.comparing(MockEmployee::getSalary));
+        return employees;
+    }
+
+    /**
+     * Employees whose title matches ignoring case, by ascending salary. Scans the whole roster unless the store
+     * keeps a title index, see {@link IndexedEmployeeStore}.
+     */
+    default List<MockEmployee> findByTitle(String title) {
+        final var employees = new ArrayList<MockEmployee>();
+        forEach(employee -> {
+            if (Objects.nonNull(employee.getTitle())
+                    && title != null
+                    && employee.getTitle().trim().equalsIgnoreCase(title.trim())) {
+                employees.add(employee);
+            }
+        });
+        employees.sort(Comparator.comparing(
+                MockEmployee::getSalary, Comparator.nullsFirst(Comparator.<Integer>naturalOrder())));
+        return employees;
+    }
+}
@@ -0,0 +1,231 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fills another store with a generated roster in the background, so the server serves requests right away.
+ *
+ * <p>Employees are generated in chunks on a daemon thread and each chunk is added to the delegate under a write
+ * lock. Until the roster is complete, reads take the read lock and see the prefix generated so far; {@link #findAll()}
+ * returns a copy, since the list is serialized after the lock is released. Creates and deletes are accepted while
+ * generating as well. Once complete, every call goes straight to the delegate.
+ */
+@Slf4j
+public class GeneratingEmployeeStore implements EmployeeStore, Closeable {
+
+    public enum Status {
+        GENERATING,
+        COMPLETE,
+        FAILED
+    }
+
+    private final EmployeeStore delegate;
+    private final int target;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Thread generator;
+
+    private volatile Status status = Status.GENERATING;
+    private volatile int generated;
+    private volatile boolean closed;
+
+    private GeneratingEmployeeStore(
+            EmployeeStore delegate, Supplier<Stream<MockEmployee>> employees, int target, int chunkSize) {
+        this.delegate = delegate;
+        this.target = target;
+        this.generator = new Thread(() -> generate(employees, chunkSize), "roster-generator");
+        this.generator.setDaemon(true);
+    }
+
+    /**
+     * Starts generating {@code target} employees into the delegate, {@code chunkSize} at a time.
+     */
+    public static GeneratingEmployeeStore start(
+            EmployeeStore delegate, Supplier<Stream<MockEmployee>> employees, int target, int chunkSize) {
+        final var store = new GeneratingEmployeeStore(delegate, employees, target, Math.max(1, chunkSize));
+        store.generator.start();
+        return store;
+    }
+
+    public Status status() {
+        return status;
+    }
+
+    public int generated() {
+        return generated;
+    }
+
+    public int target() {
+        return target;
+    }
+
+    private void generate(Supplier<Stream<MockEmployee>> employees, int chunkSize) {
+        final var started = System.nanoTime();
+        try (final var stream = employees.get()) {
+            final var iterator = stream.iterator();
+            final var chunk = new ArrayList<MockEmployee>(chunkSize);
+            while (iterator.hasNext() && !closed) {
+                /* Generating is the slow part, only adding the chunk holds the lock */
+                chunk.add(iterator.next());
+                if (chunk.size() == chunkSize || !iterator.hasNext()) {
+                    addChunk(chunk);
+                    chunk.clear();
+                }
+            }
+            if (closed) {
+                log.info("Stopped generating mock employees after {} of {}", generated, target);
+                return;
+            }
+            status = Status.COMPLETE;
+            log.info(
+                    "Generated {} mock employees in {} ms", generated, (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException e) {
+            status = Status.FAILED;
+            log.error("Failed to generate mock employees after {} of {}", generated, target, e);
+        }
+    }
+
+    private void addChunk(List<MockEmployee> chunk) {
+        lock.writeLock().lock();
+        try {
+            chunk.forEach(delegate::add);
+            generated += chunk.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean generating() {
+        return status == Status.GENERATING;
+    }
+
+    @Override
+    public List<MockEmployee> findAll() {
+        if (!generating()) {
+            return delegate.findAll();
+        }
+        lock.readLock().lock();
+        try {
+            return List.copyOf(delegate.findAll());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void forEach(Consumer<MockEmployee> action) {
+        if (!generating()) {
+            delegate.forEach(action);
+            return;
+        }
+        lock.readLock().lock();
+        try {
+            delegate.forEach(action);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<MockEmployee> findById(UUID id) {
+        if (!generating()) {
+            return delegate.findById(id);
+        }
+        lock.readLock().lock();
+        try {
+            return delegate.findById(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<MockEmployee> findBySalaryBetween(int min, int max) {
+        if (!generating()) {
+            return delegate.findBySalaryBetween(min, max);
+        }
+        lock.readLock().lock();
+        try {
+            return delegate.findBySalaryBetween(min, max);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<MockEmployee> findByTitle(String title) {
+        if (!generating()) {
+            return delegate.findByTitle(title);
+        }
+        lock.readLock().lock();
+        try {
+            return delegate.findByTitle(title);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void add(MockEmployee employee) {
+        if (!generating()) {
+            delegate.add(employee);
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            delegate.add(employee);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<MockEmployee> removeFirstByName(String name) {
+        if (!generating()) {
+            return delegate.removeFirstByName(name);
+        }
+        lock.writeLock().lock();
+        try {
+            return delegate.removeFirstByName(name);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public long version() {
+        return delegate.version();
+    }
+
+    /*
+     * Stops an unfinished generation before closing the delegate, like IndexedEmployeeStore does.
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        try {
+            generator.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (delegate instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Default store, a plain modifiable list of employees.
+ */
+@RequiredArgsConstructor
+public class HeapEmployeeStore implements EmployeeStore {
+
+    private final List<MockEmployee> mockEmployees;
+    private final AtomicLong version = new AtomicLong();
+
+    @Override
+    public List<MockEmployee> findAll() {
+        return mockEmployees;
+    }
+
+    @Override
+    public void forEach(Consumer<MockEmployee> action) {
+        mockEmployees.forEach(action);
+    }
+
+    @Override
+    public Optional<MockEmployee> findById(UUID id) {
+        return mockEmployees.stream()
+                .filter(mockEmployee ->
+                        Objects.nonNull(mockEmployee.getId()) && mockEmployee.getId().equals(id))
+                .findFirst();
+    }
+
+    @Override
+    public void add(MockEmployee employee) {
+        mockEmployees.add(employee);
+        version.incrementAndGet();
+    }
+
+    @Override
+    public Optional<MockEmployee> removeFirstByName(String name) {
+        final var mockEmployee = mockEmployees.stream()
+                .filter(employee -> Objects.nonNull(employee.getName())
+                        && employee.getName().equalsIgnoreCase(name))
+                .findFirst();
+        mockEmployee.ifPresent(employee -> {
+            mockEmployees.remove(employee);
+            version.incrementAndGet();
+        });
+        return mockEmployee;
+    }
+
+    @Override
+    public int size() {
+        return mockEmployees.size();
+    }
+
+    @Override
+    public long version() {
+        return version.get();
+    }
+}
@@ -0,0 +1,142 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Consumer;
+
+/**
+ * Adds secondary indexes on salary and title to another store.
+ *
+ * <p>Employees are kept in a skip list ordered by salary, and in one skip list per title, so a salary range or a
+ * title is answered in {@code O(log n + k)} instead of scanning the roster. Both indexes order by salary and then
+ * id, which makes every employee a distinct entry and lets a delete find its entry from the removed employee alone.
+ *
+ * <p>Writes update the delegate and the indexes under one lock. Queries do not lock, and the indexes are updated one
+ * after the other, so while a write is in progress a query may briefly see the employee in one index but not yet,
+ * or no longer, in the other.
+ */
+public class IndexedEmployeeStore implements EmployeeStore, Closeable {
+
+    private static final Comparator<MockEmployee> BY_SALARY = Comparator.comparing(
+                    MockEmployee::getSalary, Comparator.nullsFirst(Comparator.<Integer>naturalOrder()))
+            .thenComparing(MockEmployee::getId, Comparator.nullsFirst(Comparator.<UUID>naturalOrder()));
+
+    private final EmployeeStore delegate;
+    private final NavigableSet<MockEmployee> bySalary = new ConcurrentSkipListSet<>(BY_SALARY);
+    private final ConcurrentMap<String, NavigableSet<MockEmployee>> byTitle = new ConcurrentHashMap<>();
+
+    public IndexedEmployeeStore(EmployeeStore delegate) {
+        this.delegate = delegate;
+        delegate.forEach(this::index);
+    }
+
+    @Override
+    public List<MockEmployee> findBySalaryBetween(int min, int max) {
+        if (min > max) {
+            return List.of();
+        }
+        final var from = salaryBound(min);
+        final var range = max == Integer.MAX_VALUE
+                ? bySalary.tailSet(from, true)
+                : bySalary.subSet(from, true, salaryBound(max + 1), false);
+        return List.copyOf(range);
+    }
+
+    @Override
+    public List<MockEmployee> findByTitle(String title) {
+        if (title == null) {
+            return List.of();
+        }
+        final var employees = byTitle.get(titleKey(title));
+        return employees == null ? List.of() : List.copyOf(employees);
+    }
+
+    @Override
+    public List<MockEmployee> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public void forEach(Consumer<MockEmployee> action) {
+        delegate.forEach(action);
+    }
+
+    @Override
+    public Optional<MockEmployee> findById(UUID id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public synchronized void add(MockEmployee employee) {
+        delegate.add(employee);
+        index(employee);
+    }
+
+    @Override
+    public synchronized Optional<MockEmployee> removeFirstByName(String name) {
+        final var removed = delegate.removeFirstByName(name);
+        removed.ifPresent(this::unindex);
+        return removed;
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public long version() {
+        return delegate.version();
+    }
+
+    /*
+     * Spring infers close as the destroy method, so a persistent delegate still writes its final snapshot.
+     */
+    @Override
+    public void close() throws IOException {
+        if (delegate instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+
+    private void index(MockEmployee employee) {
+        if (employee.getSalary() != null) {
+            bySalary.add(employee);
+        }
+        if (employee.getTitle() != null) {
+            byTitle.computeIfAbsent(titleKey(employee.getTitle()), ignored -> new ConcurrentSkipListSet<>(BY_SALARY))
+                    .add(employee);
+        }
+    }
+
+    private void unindex(MockEmployee employee) {
+        bySalary.remove(employee);
+        if (employee.getTitle() != null) {
+            byTitle.computeIfPresent(titleKey(employee.getTitle()), (title, employees) -> {
+                employees.remove(employee);
+                return employees.isEmpty() ? null : employees;
+            });
+        }
+    }
+
+    /*
+     * Sorts before every employee with this salary, as null ids come first.
+     */
+    private static MockEmployee salaryBound(int salary) {
+        return MockEmployee.builder().salary(salary).build();
+    }
+
+    private static String titleKey(String title) {
+        return title.trim().toLowerCase(Locale.ROOT);
+    }
+}
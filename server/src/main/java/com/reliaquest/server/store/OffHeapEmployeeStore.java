@@ -0,0 +1,424 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Store keeping every employee outside the Java heap, for multi-million row mock environments.
+ *
+ * <p>Each employee is a fixed width record in a direct buffer. Strings are UTF-8 encoded into a separate
+ * append-only arena and referenced from the record by offset and length. Deletes flip the record to a tombstone;
+ * the space is reclaimed by compaction once tombstones make up half of the records. The id index is a single
+ * open addressing {@code int[]}, so no heap object exists per row: {@link MockEmployee} instances are only
+ * created for rows handed back to callers.
+ */
+public class OffHeapEmployeeStore implements EmployeeStore {
+
+    private static final int ID_HIGH = 0;
+    private static final int ID_LOW = 8;
+    private static final int SALARY = 16;
+    private static final int AGE = 20;
+    private static final int NAME = 24;
+    private static final int TITLE = 32;
+    private static final int EMAIL = 40;
+    private static final int FLAGS = 48;
+    private static final int RECORD_BYTES = 56;
+    private static final int[] STRING_FIELDS = {NAME, TITLE, EMAIL};
+
+    private static final int LIVE = 1;
+    private static final int ASCII_NAME = 2;
+    private static final int NULL_INT = Integer.MIN_VALUE;
+    private static final int NULL_STRING = -1;
+
+    private static final int MIN_ROWS = 16;
+    private static final int MAX_ROWS = Integer.MAX_VALUE / RECORD_BYTES;
+    private static final int AVERAGE_STRING_BYTES = 64;
+    private static final int MIN_COMPACTION_ROWS = 1024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private ByteBuffer records;
+    private ByteBuffer arena;
+    private int arenaSize;
+    /*
+     * Linear probing table holding row + 1, 0 marks an empty slot. Only live rows are indexed.
+     */
+    private int[] idSlots;
+    private int rowCount;
+    private int liveCount;
+    /*
+     * Only written under the write lock, volatile so version() does not need the read lock.
+     */
+    private volatile long version;
+
+    public OffHeapEmployeeStore(int initialCapacity) {
+        final var rows = Math.max(MIN_ROWS, Math.min(initialCapacity, MAX_ROWS));
+        records = allocate(rows * RECORD_BYTES);
+        arena = allocate((int) Math.min(Integer.MAX_VALUE, (long) rows * AVERAGE_STRING_BYTES));
+        idSlots = new int[tableSizeFor(rows)];
+    }
+
+    @Override
+    public List<MockEmployee> findAll() {
+        lock.readLock().lock();
+        try {
+            final var employees = new ArrayList<MockEmployee>(liveCount);
+            for (int row = 0; row < rowCount; row++) {
+                if (isLive(row)) {
+                    employees.add(read(row));
+                }
+            }
+            return employees;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /*
+     * The action runs under the read lock and must not write to this store.
+     */
+    @Override
+    public void forEach(Consumer<MockEmployee> action) {
+        lock.readLock().lock();
+        try {
+            for (int row = 0; row < rowCount; row++) {
+                if (isLive(row)) {
+                    action.accept(read(row));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<MockEmployee> findById(UUID id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            final var slot = findSlot(id.getMostSignificantBits(), id.getLeastSignificantBits());
+            return slot < 0 ? Optional.empty() : Optional.of(read(idSlots[slot] - 1));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void add(MockEmployee employee) {
+        lock.writeLock().lock();
+        try {
+            ensureRecordCapacity();
+            final var row = rowCount;
+            final var base = row * RECORD_BYTES;
+            final var id = employee.getId();
+            records.putLong(base + ID_HIGH, id == null ? 0L : id.getMostSignificantBits());
+            records.putLong(base + ID_LOW, id == null ? 0L : id.getLeastSignificantBits());
+            records.putInt(base + SALARY, employee.getSalary() == null ? NULL_INT : employee.getSalary());
+            records.putInt(base + AGE, employee.getAge() == null ? NULL_INT : employee.getAge());
+            writeString(base + NAME, employee.getName());
+            writeString(base + TITLE, employee.getTitle());
+            writeString(base + EMAIL, employee.getEmail());
+            records.putInt(base + FLAGS, isAscii(employee.getName()) ? LIVE | ASCII_NAME : LIVE);
+            rowCount++;
+            liveCount++;
+            version++;
+
+            if ((liveCount + 1) * 2L > idSlots.length) {
+                rebuildIndex(idSlots.length * 2);
+            } else {
+                index(row);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<MockEmployee> removeFirstByName(String name) {
+        final var asciiName = isAscii(name) ? name.getBytes(StandardCharsets.US_ASCII) : null;
+        lock.writeLock().lock();
+        try {
+            for (int row = 0; row < rowCount; row++) {
+                if (isLive(row) && nameEqualsIgnoreCase(row, name, asciiName)) {
+                    final var employee = read(row);
+                    tombstone(row);
+                    version++;
+                    return Optional.of(employee);
+                }
+            }
+            return Optional.empty();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long version() {
+        return version;
+    }
+
+    private void tombstone(int row) {
+        final var base = row * RECORD_BYTES;
+        final var slot = findSlot(records.getLong(base + ID_HIGH), records.getLong(base + ID_LOW));
+        if (slot >= 0 && idSlots[slot] == row + 1) {
+            removeSlot(slot);
+        }
+        records.putInt(base + FLAGS, records.getInt(base + FLAGS) & ~LIVE);
+        liveCount--;
+
+        final var tombstones = rowCount - liveCount;
+        if (rowCount >= MIN_COMPACTION_ROWS && tombstones * 2 >= rowCount) {
+            compact();
+        }
+    }
+
+    /*
+     * Copies live records and their strings into fresh buffers, dropping tombstones and orphaned arena bytes.
+     */
+    private void compact() {
+        var liveBytes = 0L;
+        for (int row = 0; row < rowCount; row++) {
+            if (isLive(row)) {
+                for (int field : STRING_FIELDS) {
+                    liveBytes += Math.max(0, records.getInt(row * RECORD_BYTES + field + 4));
+                }
+            }
+        }
+
+        final var newRecords = allocate(Math.max(MIN_ROWS, Math.min(liveCount * 2, MAX_ROWS)) * RECORD_BYTES);
+        final var newArena = allocate((int) Math.min(Integer.MAX_VALUE, Math.max(1024L, liveBytes * 2)));
+        var newArenaSize = 0;
+        var newRow = 0;
+        for (int row = 0; row < rowCount; row++) {
+            if (!isLive(row)) {
+                continue;
+            }
+            final var source = row * RECORD_BYTES;
+            final var target = newRow * RECORD_BYTES;
+            newRecords.put(target, records, source, RECORD_BYTES);
+            for (int field : STRING_FIELDS) {
+                final var offset = records.getInt(source + field);
+                if (offset != NULL_STRING) {
+                    final var length = records.getInt(source + field + 4);
+                    newArena.put(newArenaSize, arena, offset, length);
+                    newRecords.putInt(target + field, newArenaSize);
+                    newArenaSize += length;
+                }
+            }
+            newRow++;
+        }
+
+        records = newRecords;
+        arena = newArena;
+        arenaSize = newArenaSize;
+        rowCount = newRow;
+        rebuildIndex(tableSizeFor(Math.max(MIN_ROWS, liveCount)));
+    }
+
+    private MockEmployee read(int row) {
+        final var base = row * RECORD_BYTES;
+        final var high = records.getLong(base + ID_HIGH);
+        final var low = records.getLong(base + ID_LOW);
+        final var salary = records.getInt(base + SALARY);
+        final var age = records.getInt(base + AGE);
+        return MockEmployee.builder()
+                .id(high == 0L && low == 0L ? null : new UUID(high, low))
+                .name(readString(base + NAME))
+                .salary(salary == NULL_INT ? null : salary)
+                .age(age == NULL_INT ? null : age)
+                .title(readString(base + TITLE))
+                .email(readString(base + EMAIL))
+                .build();
+    }
+
+    private boolean isLive(int row) {
+        return (records.getInt(row * RECORD_BYTES + FLAGS) & LIVE) != 0;
+    }
+
+    private void writeString(int position, String value) {
+        if (value == null) {
+            records.putInt(position, NULL_STRING);
+            records.putInt(position + 4, 0);
+            return;
+        }
+        final var bytes = value.getBytes(StandardCharsets.UTF_8);
+        ensureArenaCapacity(bytes.length);
+        arena.put(arenaSize, bytes);
+        records.putInt(position, arenaSize);
+        records.putInt(position + 4, bytes.length);
+        arenaSize += bytes.length;
+    }
+
+    /*
+     * Compares ASCII names byte by byte in the arena, so a delete scan does not decode every stored name.
+     * Anything involving non-ASCII characters falls back to String.equalsIgnoreCase, whose case folding
+     * can match characters of different encoded lengths.
+     */
+    private boolean nameEqualsIgnoreCase(int row, String name, byte[] asciiName) {
+        final var base = row * RECORD_BYTES;
+        final var offset = records.getInt(base + NAME);
+        if (offset == NULL_STRING || name == null) {
+            return false;
+        }
+        if (asciiName == null || (records.getInt(base + FLAGS) & ASCII_NAME) == 0) {
+            return readString(base + NAME).equalsIgnoreCase(name);
+        }
+        final var length = records.getInt(base + NAME + 4);
+        if (length != asciiName.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (toLowerAscii(arena.get(offset + i)) != toLowerAscii(asciiName[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAscii(String value) {
+        if (value == null) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int toLowerAscii(byte value) {
+        return value >= 'A' && value <= 'Z' ? value + ('a' - 'A') : value;
+    }
+
+    private String readString(int position) {
+        final var offset = records.getInt(position);
+        if (offset == NULL_STRING) {
+            return null;
+        }
+        final var bytes = new byte[records.getInt(position + 4)];
+        arena.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void ensureRecordCapacity() {
+        if ((rowCount + 1L) * RECORD_BYTES <= records.capacity()) {
+            return;
+        }
+        if (rowCount >= MAX_ROWS) {
+            throw new IllegalStateException("Off-heap employee store is full at " + rowCount + " records");
+        }
+        final var grown = allocate(Math.min(rowCount * 2L, MAX_ROWS) * RECORD_BYTES);
+        grown.put(0, records, 0, rowCount * RECORD_BYTES);
+        records = grown;
+    }
+
+    private void ensureArenaCapacity(int extra) {
+        final var required = (long) arenaSize + extra;
+        if (required <= arena.capacity()) {
+            return;
+        }
+        if (required > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Off-heap employee string arena is full at " + arenaSize + " bytes");
+        }
+        final var grown = allocate(Math.max(required, Math.min(arena.capacity() * 2L, Integer.MAX_VALUE)));
+        grown.put(0, arena, 0, arenaSize);
+        arena = grown;
+    }
+
+    private void index(int row) {
+        final var base = row * RECORD_BYTES;
+        final var high = records.getLong(base + ID_HIGH);
+        final var low = records.getLong(base + ID_LOW);
+        if (high == 0L && low == 0L) {
+            return;
+        }
+        final var mask = idSlots.length - 1;
+        var slot = hash(high, low) & mask;
+        while (idSlots[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        idSlots[slot] = row + 1;
+    }
+
+    private int findSlot(long high, long low) {
+        final var mask = idSlots.length - 1;
+        var slot = hash(high, low) & mask;
+        while (idSlots[slot] != 0) {
+            final var base = (idSlots[slot] - 1) * RECORD_BYTES;
+            if (records.getLong(base + ID_HIGH) == high && records.getLong(base + ID_LOW) == low) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /*
+     * Backward shift deletion, which keeps probe sequences intact without leaving deleted markers in the table.
+     */
+    private void removeSlot(int slot) {
+        final var mask = idSlots.length - 1;
+        var hole = slot;
+        var next = (hole + 1) & mask;
+        while (idSlots[next] != 0) {
+            final var base = (idSlots[next] - 1) * RECORD_BYTES;
+            final var home = hash(records.getLong(base + ID_HIGH), records.getLong(base + ID_LOW)) & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                idSlots[hole] = idSlots[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        idSlots[hole] = 0;
+    }
+
+    private void rebuildIndex(int tableSize) {
+        idSlots = new int[tableSize];
+        for (int row = 0; row < rowCount; row++) {
+            if (isLive(row)) {
+                index(row);
+            }
+        }
+    }
+
+    private static int hash(long high, long low) {
+        var hash = high * 31 + low;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return (int) hash;
+    }
+
+    /*
+     * Power of two table keeping the load factor at or below one half.
+     */
+    private static int tableSizeFor(int rows) {
+        final var target = Math.max(2L * rows, 32L);
+        return (int) Math.min(1L << 30, Long.highestOneBit(target - 1) << 1);
+    }
+
+    private static ByteBuffer allocate(long capacity) {
+        return ByteBuffer.allocateDirect((int) capacity).order(ByteOrder.nativeOrder());
+    }
+}
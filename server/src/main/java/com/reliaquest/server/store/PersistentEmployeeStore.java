@@ -0,0 +1,206 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Makes another store durable across restarts.
+ *
+ * <p>Creates and deletes are appended to a {@link WriteAheadLog} and applied to the delegate under one lock, so
+ * the log order always matches the store order. A compact {@link RosterSnapshotFile} is written periodically and
+ * on shutdown; startup memory-maps the snapshot and replays the log tail on top of it.
+ *
+ * <p>Snapshot and log are paired by generation: the snapshot of generation {@code g} is followed by
+ * {@code roster-g.wal}. Compaction writes snapshot {@code g + 1} before starting the new log, so a crash at any
+ * point leaves either the old pair or the new pair intact.
+ */
+@Slf4j
+public class PersistentEmployeeStore implements EmployeeStore, Closeable {
+
+    private static final String SNAPSHOT_FILE = "roster.snapshot";
+    private static final String WAL_PREFIX = "roster-";
+    private static final String WAL_SUFFIX = ".wal";
+
+    private final EmployeeStore delegate;
+    private final Path directory;
+    private final boolean fsync;
+    private final ScheduledExecutorService snapshotScheduler;
+
+    private long generation;
+    private WriteAheadLog writeAheadLog;
+
+    private PersistentEmployeeStore(EmployeeStore delegate, Path directory, boolean fsync) {
+        this.delegate = delegate;
+        this.directory = directory;
+        this.fsync = fsync;
+        this.snapshotScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "roster-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Restores the delegate from the latest snapshot and log in the directory, or fills it from the seed and
+     * writes a first snapshot when the directory holds no roster yet.
+     */
+    public static PersistentEmployeeStore open(
+            EmployeeStore delegate,
+            Path directory,
+            boolean fsync,
+            Duration snapshotInterval,
+            Supplier<Stream<MockEmployee>> seed)
+            throws IOException {
+        Files.createDirectories(directory);
+        final var store = new PersistentEmployeeStore(delegate, directory, fsync);
+        store.restore(seed);
+        final var intervalMillis = snapshotInterval.toMillis();
+        store.snapshotScheduler.scheduleWithFixedDelay(
+                store::snapshotQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        return store;
+    }
+
+    private synchronized void restore(Supplier<Stream<MockEmployee>> seed) throws IOException {
+        final var snapshot = directory.resolve(SNAPSHOT_FILE);
+        final var started = System.nanoTime();
+        if (Files.exists(snapshot)) {
+            generation = RosterSnapshotFile.load(snapshot, delegate::add);
+            writeAheadLog = WriteAheadLog.open(walPath(generation), fsync);
+            final var replayed = writeAheadLog.replay(delegate);
+            log.info(
+                    "Restored {} employees from {} (generation {}, {} log entries) in {} ms",
+                    delegate.size(),
+                    directory,
+                    generation,
+                    replayed,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        } else {
+            seed.get().forEach(delegate::add);
+            generation = 1;
+            RosterSnapshotFile.write(snapshot, generation, delegate);
+            Files.deleteIfExists(walPath(generation));
+            writeAheadLog = WriteAheadLog.open(walPath(generation), fsync);
+            log.info("Seeded {} employees and wrote first snapshot to {}", delegate.size(), directory);
+        }
+        deleteStaleLogs();
+    }
+
+    /**
+     * Writes a new snapshot generation and starts an empty log, when anything was logged since the last one.
+     */
+    public synchronized void snapshot() throws IOException {
+        if (writeAheadLog.getEntries() == 0) {
+            return;
+        }
+        final var started = System.nanoTime();
+        final var nextGeneration = generation + 1;
+        RosterSnapshotFile.write(directory.resolve(SNAPSHOT_FILE), nextGeneration, delegate);
+
+        Files.deleteIfExists(walPath(nextGeneration));
+        final var previousLog = writeAheadLog;
+        writeAheadLog = WriteAheadLog.open(walPath(nextGeneration), fsync);
+        generation = nextGeneration;
+        previousLog.delete();
+        log.debug(
+                "Wrote roster snapshot generation {} with {} employees in {} ms",
+                generation,
+                delegate.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to write roster snapshot to {}", directory, e);
+        }
+    }
+
+    @Override
+    public List<MockEmployee> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public void forEach(Consumer<MockEmployee> action) {
+        delegate.forEach(action);
+    }
+
+    @Override
+    public Optional<MockEmployee> findById(UUID id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public synchronized void add(MockEmployee employee) {
+        try {
+            writeAheadLog.appendCreate(employee);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to log created employee", e);
+        }
+        delegate.add(employee);
+    }
+
+    /*
+     * Logged before it is applied like creates. A delete that matches nobody replays as a no-op too,
+     * because replay reaches it with the same roster.
+     */
+    @Override
+    public synchronized Optional<MockEmployee> removeFirstByName(String name) {
+        try {
+            writeAheadLog.appendDelete(name);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to log deleted employee", e);
+        }
+        return delegate.removeFirstByName(name);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public long version() {
+        return delegate.version();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        snapshotScheduler.shutdownNow();
+        snapshot();
+        writeAheadLog.close();
+    }
+
+    private Path walPath(long walGeneration) {
+        return directory.resolve(WAL_PREFIX + walGeneration + WAL_SUFFIX);
+    }
+
+    private void deleteStaleLogs() throws IOException {
+        final var current = walPath(generation).getFileName().toString();
+        try (var files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                final var name = file.getFileName().toString();
+                if (name.startsWith(WAL_PREFIX) && name.endsWith(WAL_SUFFIX) && !name.equals(current)) {
+                    log.info("Deleting stale write-ahead log {}", file);
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+}
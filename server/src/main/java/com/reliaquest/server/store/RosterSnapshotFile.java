@@ -0,0 +1,102 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Compact, checksummed snapshot of the whole roster.
+ *
+ * <p>Layout: magic, format version and generation, then one {@link EmployeeRecords} entry per employee,
+ * then a trailer holding the record count and a CRC32 of everything before it. Snapshots are written to a
+ * temporary file and atomically moved into place, and loaded through a read-only memory mapping.
+ */
+final class RosterSnapshotFile {
+
+    private static final int MAGIC = 0x52515350;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+    private static final int TRAILER_BYTES = 12;
+    private static final int BUFFER_BYTES = 1 << 16;
+
+    private RosterSnapshotFile() {}
+
+    static void write(Path target, long generation, EmployeeStore store) throws IOException {
+        final var temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        try (var channel = FileChannel.open(
+                temporary, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            final var crc = new CRC32();
+            final var out = new DataOutputStream(new CheckedOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_BYTES), crc));
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(generation);
+
+            final var count = new int[1];
+            store.forEach(employee -> {
+                try {
+                    EmployeeRecords.write(out, employee);
+                    count[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            out.flush();
+
+            // The trailer is written past the checked stream so the checksum only covers header and records
+            final var trailer = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+            trailer.writeInt(count[0]);
+            trailer.writeLong(crc.getValue());
+            trailer.flush();
+            channel.force(true);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /*
+     * Feeds every employee of the snapshot to the sink, in the order they were written, and returns the generation.
+     */
+    static long load(Path source, Consumer<MockEmployee> sink) throws IOException {
+        try (var channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            final var size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot " + source + " is larger than 2 GB");
+            }
+            if (size < HEADER_BYTES + TRAILER_BYTES) {
+                throw new IOException("Snapshot " + source + " is truncated");
+            }
+
+            final var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            final var bodyEnd = (int) size - TRAILER_BYTES;
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION) {
+                throw new IOException("Snapshot " + source + " has an unknown format");
+            }
+            final var crc = new CRC32();
+            crc.update(buffer.slice(0, bodyEnd));
+            if (crc.getValue() != buffer.getLong(bodyEnd + 4)) {
+                throw new IOException("Snapshot " + source + " failed its checksum");
+            }
+
+            final var generation = buffer.getLong(8);
+            final var count = buffer.getInt(bodyEnd);
+            buffer.position(HEADER_BYTES);
+            for (int i = 0; i < count; i++) {
+                sink.accept(EmployeeRecords.read(buffer));
+            }
+            return generation;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only log of the creates and deletes applied since the last snapshot.
+ *
+ * <p>Every entry is framed as payload length, CRC32 of the payload, then the payload: a type byte followed by
+ * the created employee or the deleted name. Replay stops at the first torn or corrupt entry, which can only be
+ * the tail written during a crash, and truncates the file there.
+ */
+@Slf4j
+final class WriteAheadLog implements Closeable {
+
+    private static final byte CREATE = 1;
+    private static final byte DELETE = 2;
+    private static final int FRAME_BYTES = 8;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final boolean fsync;
+
+    @Getter
+    private long entries;
+
+    private WriteAheadLog(Path path, FileChannel channel, boolean fsync) {
+        this.path = path;
+        this.channel = channel;
+        this.fsync = fsync;
+    }
+
+    static WriteAheadLog open(Path path, boolean fsync) throws IOException {
+        final var channel = FileChannel.open(
+                path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new WriteAheadLog(path, channel, fsync);
+    }
+
+    /*
+     * Applies every intact entry to the store, in log order, and leaves the log positioned for appends.
+     */
+    long replay(EmployeeStore store) throws IOException {
+        final var size = channel.size();
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Write-ahead log " + path + " is larger than 2 GB");
+        }
+
+        final var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        final var crc = new CRC32();
+        var applied = 0L;
+        while (buffer.remaining() >= FRAME_BYTES) {
+            final var start = buffer.position();
+            final var length = buffer.getInt();
+            final var checksum = buffer.getInt();
+            if (length <= 0 || length > buffer.remaining()) {
+                buffer.position(start);
+                break;
+            }
+
+            final var payload = buffer.slice(buffer.position(), length);
+            crc.reset();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                buffer.position(start);
+                break;
+            }
+
+            final var type = payload.get();
+            if (type == CREATE) {
+                store.add(EmployeeRecords.read(payload));
+            } else if (type == DELETE) {
+                store.removeFirstByName(EmployeeRecords.readString(payload));
+            } else {
+                buffer.position(start);
+                break;
+            }
+            buffer.position(start + FRAME_BYTES + length);
+            applied++;
+        }
+
+        final var end = buffer.position();
+        if (end < size) {
+            log.warn("Truncating write-ahead log {} from {} to {} bytes after a torn entry", path, size, end);
+            channel.truncate(end);
+        }
+        channel.position(end);
+        entries = applied;
+        return applied;
+    }
+
+    void appendCreate(MockEmployee employee) throws IOException {
+        final var bytes = new ByteArrayOutputStream(128);
+        final var out = new DataOutputStream(bytes);
+        out.writeByte(CREATE);
+        EmployeeRecords.write(out, employee);
+        append(bytes.toByteArray());
+    }
+
+    void appendDelete(String name) throws IOException {
+        final var bytes = new ByteArrayOutputStream(64);
+        final var out = new DataOutputStream(bytes);
+        out.writeByte(DELETE);
+        EmployeeRecords.writeString(out, name);
+        append(bytes.toByteArray());
+    }
+
+    private void append(byte[] payload) throws IOException {
+        final var crc = new CRC32();
+        crc.update(payload);
+        final var frame = ByteBuffer.allocate(FRAME_BYTES + payload.length);
+        frame.putInt(payload.length).putInt((int) crc.getValue()).put(payload).flip();
+        while (frame.hasRemaining()) {
+            channel.write(frame);
+        }
+        if (fsync) {
+            channel.force(false);
+        }
+        entries++;
+    }
+
+    void delete() throws IOException {
+        close();
+        Files.deleteIfExists(path);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel.isOpen()) {
+            channel.force(false);
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the serialized employee list response, and optionally a gzipped copy, for the current roster version.
+ *
+ * <p>While the roster does not change every list request writes the same bytes instead of running Jackson over
+ * every employee again. A response is only kept when the version is the same after serializing as before, so a
+ * write racing with serialization never leaves bytes cached under a version they do not match.
+ *
+ * <p>The gzipped copy is off by default: the API module, the only client in this repository, does not send
+ * Accept-Encoding, and compressing every new roster version would be wasted on it.
+ */
+@Component
+public class EmployeeListResponseCache {
+
+    private final ObjectMapper objectMapper;
+    private final boolean gzip;
+    private volatile Payload current;
+
+    public EmployeeListResponseCache(
+            ObjectMapper objectMapper, @Value("${mock.employees.list-cache.gzip:false}") boolean gzip) {
+        this.objectMapper = objectMapper;
+        this.gzip = gzip;
+    }
+
+    /**
+     * The list response for the roster, compressed when the client accepts gzip and compression is enabled.
+     */
+    public ResponseEntity<byte[]> response(
+            LongSupplier version, Supplier<List<MockEmployee>> employees, String acceptEncoding) {
+        final var payload = payload(version, employees);
+        final var response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (payload.gzipped() != null && acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(payload.gzipped());
+        }
+        return response.body(payload.json());
+    }
+
+    private Payload payload(LongSupplier version, Supplier<List<MockEmployee>> employees) {
+        final var before = version.getAsLong();
+        final var cached = current;
+        if (cached != null && cached.version() == before) {
+            return cached;
+        }
+        final var json = serialize(employees.get());
+        final var payload = new Payload(before, json, gzip ? gzip(json) : null);
+        if (version.getAsLong() == before) {
+            current = payload;
+        }
+        return payload;
+    }
+
+    private byte[] serialize(List<MockEmployee> employees) {
+        try {
+            return objectMapper.writeValueAsBytes(Response.handledWith(employees));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("Failed to serialize employees", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        final var bytes = new ByteArrayOutputStream(json.length / 4);
+        try (final var out = new GZIPOutputStream(bytes)) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compress employees", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /*
+     * Accepted when gzip, or else the * wildcard, is listed with a q-value above 0. No header means identity only.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        var wildcard = false;
+        for (final var coding : acceptEncoding.split(",")) {
+            final var parameters = coding.split(";");
+            final var name = parameters[0].trim().toLowerCase(Locale.ROOT);
+            if (name.equals("gzip") || name.equals("x-gzip")) {
+                return qValue(parameters) > 0;
+            }
+            if (name.equals("*")) {
+                wildcard = qValue(parameters) > 0;
+            }
+        }
+        return wildcard;
+    }
+
+    private static double qValue(String[] parameters) {
+        for (var i = 1; i < parameters.length; i++) {
+            final var parameter = parameters[i].split("=", 2);
+            if (parameter.length == 2 && parameter[0].trim().equalsIgnoreCase("q")) {
+                try {
+                    return Double.parseDouble(parameter[1].trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private record Payload(long version, byte[] json, byte[] gzipped) {}
+}
@@ -0,0 +1,49 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.ratelimit.RateLimiter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Rejects requests over the client's limit with 429 and a {@code Retry-After} header telling when to come back.
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final RateLimiter rateLimiter;
+    private final Function<HttpServletRequest, String> clientKey;
+    private final LongSupplier clock;
+
+    public RateLimitInterceptor(RateLimiter rateLimiter, Function<HttpServletRequest, String> clientKey) {
+        this(rateLimiter, clientKey, System::nanoTime);
+    }
+
+    /*
+     * The clock returns System.nanoTime() readings, tests pass their own to drive time explicitly.
+     */
+    RateLimitInterceptor(RateLimiter rateLimiter, Function<HttpServletRequest, String> clientKey, LongSupplier clock) {
+        this.rateLimiter = rateLimiter;
+        this.clientKey = clientKey;
+        this.clock = clock;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        final var decision = rateLimiter.tryAcquire(clientKey.apply(request), clock.getAsLong());
+        if (decision.allowed()) {
+            return true;
+        }
+
+        /* Retry-After is in whole seconds, rounding up keeps clients from retrying too early. */
+        final long retryAfterSeconds = Math.max(1, (decision.retryAfterNanos() + TimeUnit.SECONDS.toNanos(1) - 1)
+                / TimeUnit.SECONDS.toNanos(1));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        return false;
+    }
+}
@@ -0,0 +1,41 @@
+package com.reliaquest.server.config;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.fault.FaultInjectionProperties;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterRegistration;
+import jakarta.servlet.ServletContext;
+import org.junit.jupiter.api.Test;
+
+class FaultInjectionConfigurationTest {
+
+    private final ServletContext servletContext = mock(ServletContext.class);
+
+    private void startServletContext(boolean enabled) throws Exception {
+        final var properties = new FaultInjectionProperties();
+        properties.setEnabled(enabled);
+        new FaultInjectionConfiguration(properties, new ObjectMapper()).faultResponseFilter().onStartup(servletContext);
+    }
+
+    @Test
+    void testFilterNotRegisteredWhenDisabled() throws Exception {
+        startServletContext(false);
+
+        verifyNoInteractions(servletContext);
+    }
+
+    @Test
+    void testFilterRegisteredWhenEnabled() throws Exception {
+        final var registration = mock(FilterRegistration.Dynamic.class);
+        when(servletContext.addFilter(anyString(), any(Filter.class))).thenReturn(registration);
+
+        startServletContext(true);
+
+        verify(servletContext).addFilter(eq("faultResponseFilter"), any(Filter.class));
+        verify(registration).addMappingForUrlPatterns(null, false, "/*");
+    }
+}
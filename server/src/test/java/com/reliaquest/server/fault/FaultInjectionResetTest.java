@@ -0,0 +1,58 @@
+package com.reliaquest.server.fault;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+/**
+ * Resets seen by the two transports of the API, HTTP/1.1 connections and HTTP/2 streams upgraded from cleartext.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+            "mock.rate-limit.algorithm=none",
+            "mock.faults.enabled=true",
+            "mock.faults.rules[0].method=GET",
+            "mock.faults.rules[0].path=/api/v1/employee",
+            "mock.faults.rules[0].reset-rate=1"
+        })
+class FaultInjectionResetTest {
+
+    @LocalServerPort
+    int port;
+
+    private HttpResponse<String> get(HttpClient client, String path) throws IOException, InterruptedException {
+        final var request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    void testResetClosesHttp1Connection() throws Exception {
+        final var client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        assertThrows(IOException.class, () -> get(client, "/api/v1/employee"));
+
+        final var next = get(client, "/actuator/health/liveness");
+        assertEquals(200, next.statusCode());
+    }
+
+    @Test
+    void testResetOnlyResetsHttp2Stream() throws Exception {
+        final var client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).build();
+        // Upgrades the connection to h2c, so the faulted request below is a stream of it
+        assertEquals(HttpClient.Version.HTTP_2, get(client, "/actuator/health/liveness").version());
+
+        assertThrows(IOException.class, () -> get(client, "/api/v1/employee"));
+
+        final var next = get(client, "/actuator/health/liveness");
+        assertEquals(200, next.statusCode());
+        assertEquals(HttpClient.Version.HTTP_2, next.version());
+    }
+}
@@ -0,0 +1,67 @@
+package com.reliaquest.server.fault;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class FaultRuleTest {
+
+    private static FaultInjectionProperties.Rule rule() {
+        final var rule = new FaultInjectionProperties.Rule();
+        rule.setMethod("GET");
+        rule.setPath("/api/v1/employee/**");
+        rule.getLatency().setDistribution(LatencyDistribution.LOG_NORMAL);
+        rule.setErrorRate(0.2);
+        rule.setResetRate(0.1);
+        rule.getTrickle().setRate(0.3);
+        return rule;
+    }
+
+    private static List<FaultPlan> plans(FaultRule rule, int count) {
+        return IntStream.range(0, count).mapToObj(i -> rule.plan()).toList();
+    }
+
+    @Test
+    void testSameSeedDrawsSameFaults() {
+        final var plans = plans(new FaultRule(rule(), 42, 0), 1000);
+
+        assertEquals(plans, plans(new FaultRule(rule(), 42, 0), 1000));
+        assertNotEquals(plans, plans(new FaultRule(rule(), 43, 0), 1000));
+        assertNotEquals(plans, plans(new FaultRule(rule(), 42, 1), 1000));
+    }
+
+    @Test
+    void testRatesApplyToShareOfRequests() {
+        final var plans = plans(new FaultRule(rule(), 42, 0), 10_000);
+
+        assertEquals(0.2, plans.stream().filter(plan -> plan.errorStatus() == 503).count() / 10_000.0, 0.02);
+        assertEquals(0.1, plans.stream().filter(FaultPlan::reset).count() / 10_000.0, 0.02);
+        assertEquals(0.3, plans.stream().filter(FaultPlan::trickle).count() / 10_000.0, 0.02);
+        assertTrue(plans.stream().allMatch(plan -> plan.errorStatus() == 0 || plan.errorStatus() == 503));
+    }
+
+    @Test
+    void testZeroRatesInjectNothing() {
+        final var rule = new FaultInjectionProperties.Rule();
+        rule.getLatency().setDistribution(LatencyDistribution.FIXED);
+        rule.getLatency().setMin(Duration.ofMillis(5));
+
+        for (final var plan : plans(new FaultRule(rule, 42, 0), 1000)) {
+            assertEquals(new FaultPlan(Duration.ofMillis(5).toNanos(), 0, false, false), plan);
+        }
+    }
+
+    @Test
+    void testMatchesMethodAndPath() {
+        final var rule = new FaultRule(rule(), 42, 0);
+
+        assertTrue(rule.matches(new MockHttpServletRequest("GET", "/api/v1/employee")));
+        assertTrue(rule.matches(new MockHttpServletRequest("get", "/api/v1/employee/42")));
+        assertFalse(rule.matches(new MockHttpServletRequest("POST", "/api/v1/employee")));
+        assertFalse(rule.matches(new MockHttpServletRequest("GET", "/actuator/health")));
+    }
+}
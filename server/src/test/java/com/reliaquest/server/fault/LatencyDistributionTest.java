@@ -0,0 +1,109 @@
+package com.reliaquest.server.fault;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class LatencyDistributionTest {
+
+    private static final int SAMPLES = 100_000;
+
+    private static long[] sample(FaultInjectionProperties.Latency latency) {
+        final var distribution = LatencyDistribution.of(latency);
+        final var random = new SplittableRandom(42);
+        final var samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            samples[i] = distribution.sampleNanos(random);
+        }
+        Arrays.sort(samples);
+        return samples;
+    }
+
+    private static FaultInjectionProperties.Latency latency(String distribution) {
+        final var latency = new FaultInjectionProperties.Latency();
+        latency.setDistribution(distribution);
+        return latency;
+    }
+
+    @Test
+    void testNoneAndFixed() {
+        final var fixed = latency(LatencyDistribution.FIXED);
+        fixed.setMin(Duration.ofMillis(20));
+
+        assertEquals(0, sample(latency(LatencyDistribution.NONE))[SAMPLES - 1]);
+        final var samples = sample(fixed);
+        assertEquals(Duration.ofMillis(20).toNanos(), samples[0]);
+        assertEquals(Duration.ofMillis(20).toNanos(), samples[SAMPLES - 1]);
+    }
+
+    @Test
+    void testUniformStaysWithinMinAndMax() {
+        final var uniform = latency(LatencyDistribution.UNIFORM);
+        uniform.setMin(Duration.ofMillis(10));
+        uniform.setMax(Duration.ofMillis(20));
+
+        final var samples = sample(uniform);
+
+        assertTrue(samples[0] >= Duration.ofMillis(10).toNanos());
+        assertTrue(samples[SAMPLES - 1] < Duration.ofMillis(20).toNanos());
+        assertEquals(Duration.ofMillis(15).toNanos(), samples[SAMPLES / 2], Duration.ofMillis(1).toNanos());
+    }
+
+    @Test
+    void testUniformWithEmptyRangeIsMin() {
+        final var uniform = latency(LatencyDistribution.UNIFORM);
+        uniform.setMin(Duration.ofMillis(10));
+        uniform.setMax(Duration.ofMillis(5));
+
+        final var samples = sample(uniform);
+
+        assertEquals(Duration.ofMillis(10).toNanos(), samples[0]);
+        assertEquals(Duration.ofMillis(10).toNanos(), samples[SAMPLES - 1]);
+    }
+
+    @Test
+    void testLogNormalMatchesMedianAndP99() {
+        final var logNormal = latency(LatencyDistribution.LOG_NORMAL);
+        logNormal.setMedian(Duration.ofMillis(100));
+        logNormal.setP99(Duration.ofSeconds(1));
+
+        final var samples = sample(logNormal);
+
+        assertTrue(samples[0] > 0);
+        assertEquals(Duration.ofMillis(100).toNanos(), samples[SAMPLES / 2], Duration.ofMillis(5).toNanos());
+        assertEquals(Duration.ofSeconds(1).toNanos(), samples[SAMPLES * 99 / 100], Duration.ofMillis(100).toNanos());
+    }
+
+    @Test
+    void testLogNormalIsCappedAtMax() {
+        final var logNormal = latency(LatencyDistribution.LOG_NORMAL);
+        logNormal.setMedian(Duration.ofMillis(100));
+        logNormal.setP99(Duration.ofSeconds(10));
+        logNormal.setMax(Duration.ofSeconds(1));
+
+        final var samples = sample(logNormal);
+
+        assertEquals(Duration.ofSeconds(1).toNanos(), samples[SAMPLES - 1]);
+        assertTrue(samples[SAMPLES * 8 / 10] < Duration.ofSeconds(1).toNanos());
+    }
+
+    @Test
+    void testLogNormalWithP99BelowMedianIsMedian() {
+        final var logNormal = latency(LatencyDistribution.LOG_NORMAL);
+        logNormal.setMedian(Duration.ofMillis(100));
+        logNormal.setP99(Duration.ofMillis(50));
+
+        final var samples = sample(logNormal);
+
+        assertEquals(Duration.ofMillis(100).toNanos(), samples[0], 1);
+        assertEquals(Duration.ofMillis(100).toNanos(), samples[SAMPLES - 1], 1);
+    }
+
+    @Test
+    void testUnknownDistribution() {
+        assertThrows(IllegalArgumentException.class, () -> LatencyDistribution.of(latency("pareto")));
+    }
+}
@@ -0,0 +1,56 @@
+package com.reliaquest.server.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class BoundedKeyMapTest {
+
+    /* A state is idle once the clock has passed the instant it holds, like a full token bucket. */
+    private final AtomicInteger idleTests = new AtomicInteger();
+    private final BoundedKeyMap<AtomicLong> states = new BoundedKeyMap<>(100, AtomicLong::new, (state, nowNanos) -> {
+        idleTests.incrementAndGet();
+        return state.get() <= nowNanos;
+    });
+
+    @Test
+    void testKnownKeyKeepsItsState() {
+        final var state = states.get("client", 0);
+        state.set(50);
+
+        assertSame(state, states.get("client", 10));
+        assertEquals(1, states.size());
+        assertEquals(0, idleTests.get());
+    }
+
+    @Test
+    void testFullMapDropsIdleStates() {
+        for (int i = 0; i < 100; i++) {
+            states.get("client " + i, 0);
+        }
+
+        states.get("new client", 10);
+
+        assertEquals(100 - BoundedKeyMap.SWEEP_ENTRIES + 1, states.size());
+        assertEquals(BoundedKeyMap.SWEEP_ENTRIES, idleTests.get());
+    }
+
+    @Test
+    void testFullMapOfBusyStatesStaysBounded() {
+        for (int i = 0; i < 10_000; i++) {
+            states.get("client " + i, 0).set(Long.MAX_VALUE);
+            assertTrue(states.size() <= 100);
+        }
+
+        // No key was idle, so every add past the limit swept a bounded number of entries and dropped one
+        assertEquals(100, states.size());
+        assertEquals((10_000 - 100) * BoundedKeyMap.SWEEP_ENTRIES, idleTests.get());
+    }
+
+    @Test
+    void testInvalidMaxKeys() {
+        assertThrows(IllegalArgumentException.class, () -> new BoundedKeyMap<AtomicLong>(0, AtomicLong::new, null));
+    }
+}
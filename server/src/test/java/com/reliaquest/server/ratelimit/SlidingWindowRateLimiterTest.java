@@ -0,0 +1,64 @@
+package com.reliaquest.server.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class SlidingWindowRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    /* Two requests per 10 s window. Time starts at an arbitrary nanoTime reading. */
+    private final long start = 123_456_789L;
+    private final RateLimiter rateLimiter = new SlidingWindowRateLimiter(2, Duration.ofSeconds(10), 100);
+
+    @Test
+    void testLimitPerWindowThenExactRetryAfter() {
+        assertTrue(rateLimiter.tryAcquire("client", start).allowed());
+        assertTrue(rateLimiter.tryAcquire("client", start).allowed());
+
+        // Both requests of the first window still weigh 2 * (1 - 0.5) = 1 half way through the next one
+        final var denied = rateLimiter.tryAcquire("client", start);
+        assertFalse(denied.allowed());
+        assertEquals(15 * SECOND, denied.retryAfterNanos());
+
+        assertFalse(rateLimiter.tryAcquire("client", start + 15 * SECOND - 1).allowed());
+        assertTrue(rateLimiter.tryAcquire("client", start + 15 * SECOND).allowed());
+        assertFalse(rateLimiter.tryAcquire("client", start + 15 * SECOND).allowed());
+    }
+
+    @Test
+    void testPreviousWindowWeighsLessAsItSlidesOut() {
+        assertTrue(rateLimiter.tryAcquire("client", start).allowed());
+        assertTrue(rateLimiter.tryAcquire("client", start).allowed());
+
+        // A quarter into the next window the previous one still weighs 1.5, leaving no room for a second request
+        final var denied = rateLimiter.tryAcquire("client", start + 12 * SECOND + SECOND / 2);
+        assertFalse(denied.allowed());
+        assertEquals(2 * SECOND + SECOND / 2, denied.retryAfterNanos());
+
+        assertTrue(rateLimiter.tryAcquire("client", start + 15 * SECOND).allowed());
+    }
+
+    @Test
+    void testIdleClientStartsOver() {
+        assertTrue(rateLimiter.tryAcquire("client", start).allowed());
+        assertTrue(rateLimiter.tryAcquire("client", start).allowed());
+
+        final var later = start + 20 * SECOND;
+        assertTrue(rateLimiter.tryAcquire("client", later).allowed());
+        assertTrue(rateLimiter.tryAcquire("client", later).allowed());
+        assertFalse(rateLimiter.tryAcquire("client", later).allowed());
+    }
+
+    @Test
+    void testKeysAreIndependent() {
+        assertTrue(rateLimiter.tryAcquire("first", start).allowed());
+        assertTrue(rateLimiter.tryAcquire("first", start).allowed());
+        assertFalse(rateLimiter.tryAcquire("first", start).allowed());
+
+        assertTrue(rateLimiter.tryAcquire("second", start).allowed());
+    }
+}
@@ -0,0 +1,57 @@
+package com.reliaquest.server.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    /* Two permits per 10 s, one refilled every 5 s. Time starts at an arbitrary nanoTime reading. */
+    private final long start = 123_456_789L;
+    private final RateLimiter rateLimiter = new TokenBucketRateLimiter(2, Duration.ofSeconds(10), 100);
+
+    @Test
+    void testBurstUpToLimitThenExactRetryAfter() {
+        assertTrue(rateLimiter.tryAcquire("client", start).allowed());
+        assertTrue(rateLimiter.tryAcquire("client", start).allowed());
+
+        final var denied = rateLimiter.tryAcquire("client", start);
+        assertFalse(denied.allowed());
+        assertEquals(5 * SECOND, denied.retryAfterNanos());
+
+        assertEquals(1, rateLimiter.tryAcquire("client", start + 5 * SECOND - 1).retryAfterNanos());
+        assertTrue(rateLimiter.tryAcquire("client", start + 5 * SECOND).allowed());
+        assertFalse(rateLimiter.tryAcquire("client", start + 5 * SECOND).allowed());
+    }
+
+    @Test
+    void testRefillsToFullBurstButNoMore() {
+        assertTrue(rateLimiter.tryAcquire("client", start).allowed());
+        assertTrue(rateLimiter.tryAcquire("client", start).allowed());
+
+        final var later = start + 60 * SECOND;
+        assertTrue(rateLimiter.tryAcquire("client", later).allowed());
+        assertTrue(rateLimiter.tryAcquire("client", later).allowed());
+        assertFalse(rateLimiter.tryAcquire("client", later).allowed());
+    }
+
+    @Test
+    void testKeysAreIndependent() {
+        assertTrue(rateLimiter.tryAcquire("first", start).allowed());
+        assertTrue(rateLimiter.tryAcquire("first", start).allowed());
+        assertFalse(rateLimiter.tryAcquire("first", start).allowed());
+
+        assertTrue(rateLimiter.tryAcquire("second", start).allowed());
+    }
+
+    @Test
+    void testInvalidLimit() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketRateLimiter(0, Duration.ofSeconds(1), 10));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketRateLimiter(1, Duration.ZERO, 10));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketRateLimiter(1, Duration.ofSeconds(1), 0));
+    }
+}
@@ -0,0 +1,85 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class CreateKeysTest {
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(5000)
+                .age(30)
+                .title("Software Engineer")
+                .build();
+    }
+
+    @Test
+    void testConcurrentCreatesWithSameKeyCreateOnce() throws Exception {
+        final var keys = new CreateKeys(100);
+        final var creates = new AtomicInteger();
+        final var release = new CountDownLatch(1);
+        final var executor = Executors.newFixedThreadPool(4);
+        try {
+            final var results = new ArrayList<Future<MockEmployee>>();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> keys.createIfAbsent("key", () -> {
+                    creates.incrementAndGet();
+                    try {
+                        release.await();
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return employee("Jane Doe");
+                })));
+            }
+            // A create for another key is not held up by the one in flight
+            assertEquals("John Doe", keys.createIfAbsent("other", () -> employee("John Doe")).getName());
+
+            release.countDown();
+            final var first = results.get(0).get(10, TimeUnit.SECONDS);
+            for (final var result : results) {
+                assertSame(first, result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, creates.get());
+        assertEquals(2, keys.size());
+    }
+
+    @Test
+    void testFailedCreateIsForgotten() {
+        final var keys = new CreateKeys(100);
+
+        assertThrows(IllegalStateException.class, () -> keys.createIfAbsent("key", () -> {
+            throw new IllegalStateException("Store unavailable");
+        }));
+        assertEquals(0, keys.size());
+
+        final var employee = employee("Jane Doe");
+        assertSame(employee, keys.createIfAbsent("key", () -> employee));
+        assertSame(employee, keys.createIfAbsent("key", () -> employee("John Doe")));
+    }
+
+    @Test
+    void testOldestKeysForgottenBeyondMax() {
+        final var keys = new CreateKeys(2);
+        keys.createIfAbsent("a", () -> employee("A"));
+        keys.createIfAbsent("b", () -> employee("B"));
+        keys.createIfAbsent("c", () -> employee("C"));
+
+        assertEquals(2, keys.size());
+        assertEquals("A2", keys.createIfAbsent("a", () -> employee("A2")).getName());
+    }
+}
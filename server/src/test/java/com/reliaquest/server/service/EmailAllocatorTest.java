@@ -0,0 +1,80 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class EmailAllocatorTest {
+
+    @Test
+    void testPoolEmailsFirstThenSuffixed() {
+        // With this many attempts both pool emails are found before any suffix is needed
+        final var allocator = new EmailAllocator(new String[] {"jdoe", "asmith"}, 200);
+
+        assertEquals(
+                Set.of("jdoe@company.com", "asmith@company.com"), Set.of(allocator.allocate(), allocator.allocate()));
+
+        final var suffixed = allocator.allocate();
+        assertTrue(suffixed.matches("(jdoe|asmith)\\d+@company\\.com"), suffixed);
+        assertEquals(3, allocator.size());
+    }
+
+    @Test
+    void testParallelAllocationsAreUnique() throws Exception {
+        // A small pool, so threads collide on pool entries and then on suffixes
+        final var usernames = new String[16];
+        for (int i = 0; i < usernames.length; i++) {
+            usernames[i] = "user" + (char) ('a' + i);
+        }
+        final var allocator = new EmailAllocator(usernames, 3);
+        final Set<String> emails = ConcurrentHashMap.newKeySet();
+        final var executor = Executors.newFixedThreadPool(8);
+        try {
+            final var allocations = new ArrayList<Callable<Integer>>();
+            for (int thread = 0; thread < 8; thread++) {
+                allocations.add(() -> {
+                    var duplicates = 0;
+                    for (int i = 0; i < 5_000; i++) {
+                        if (!emails.add(allocator.allocate())) {
+                            duplicates++;
+                        }
+                    }
+                    return duplicates;
+                });
+            }
+            for (final var duplicates : executor.invokeAll(allocations, 30, TimeUnit.SECONDS)) {
+                assertEquals(0, duplicates.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(8 * 5_000, emails.size());
+        assertEquals(8 * 5_000, allocator.size());
+    }
+
+    @Test
+    void testReleasedEmailCanBeReservedAgain() {
+        final var allocator = new EmailAllocator(new String[] {"jdoe"}, 1);
+
+        assertTrue(allocator.reserve("jdoe@company.com"));
+        assertFalse(allocator.reserve("jdoe@company.com"));
+        assertNotEquals("jdoe@company.com", allocator.allocate());
+
+        allocator.release("jdoe@company.com");
+        allocator.release(null);
+        assertEquals(1, allocator.size());
+        assertEquals("jdoe@company.com", allocator.allocate());
+    }
+
+    @Test
+    void testEmptyPoolRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new EmailAllocator(new String[0], 3));
+    }
+}
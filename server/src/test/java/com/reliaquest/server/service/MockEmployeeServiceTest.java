@@ -0,0 +1,67 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.HeapEmployeeStore;
+import com.reliaquest.server.store.IndexedEmployeeStore;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeServiceTest {
+
+    private static final int THREADS = 8;
+    private static final int CREATES_PER_THREAD = 1_000;
+
+    private static CreateMockEmployeeInput input(String name) {
+        final var input = new CreateMockEmployeeInput();
+        input.setName(name);
+        input.setSalary(5000);
+        input.setAge(30);
+        input.setTitle("Software Engineer");
+        return input;
+    }
+
+    @Test
+    void testParallelCreatesKeepEveryEmployee() throws Exception {
+        final var store = new IndexedEmployeeStore(new HeapEmployeeStore(new ArrayList<>()));
+        final var service = new MockEmployeeService(
+                new EmailAllocator(new String[] {"jdoe", "asmith", "bbob"}, 3),
+                new ShardIds(0, 1),
+                new CreateKeys(100),
+                store);
+        final var executor = Executors.newFixedThreadPool(THREADS);
+        final var created = new ArrayList<MockEmployee>();
+        try {
+            final var creates = new ArrayList<Callable<List<MockEmployee>>>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                final var prefix = "Employee " + thread + " ";
+                creates.add(() -> {
+                    final var employees = new ArrayList<MockEmployee>();
+                    for (int i = 0; i < CREATES_PER_THREAD; i++) {
+                        employees.add(service.create(input(prefix + i)));
+                    }
+                    return employees;
+                });
+            }
+            for (final var employees : executor.invokeAll(creates, 30, TimeUnit.SECONDS)) {
+                created.addAll(employees.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        final var total = THREADS * CREATES_PER_THREAD;
+        assertEquals(total, store.size());
+        assertEquals(total, store.findBySalaryBetween(5000, 5000).size());
+        assertEquals(total, created.stream().map(MockEmployee::getEmail).distinct().count());
+        for (final var employee : created) {
+            assertEquals(employee, service.findById(employee.getId()).orElseThrow());
+        }
+    }
+}
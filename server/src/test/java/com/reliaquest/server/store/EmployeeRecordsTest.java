@@ -0,0 +1,53 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class EmployeeRecordsTest {
+
+    private static ByteBuffer encode(MockEmployee... employees) throws IOException {
+        final var bytes = new ByteArrayOutputStream();
+        final var out = new DataOutputStream(bytes);
+        for (final var employee : employees) {
+            EmployeeRecords.write(out, employee);
+        }
+        return ByteBuffer.wrap(bytes.toByteArray());
+    }
+
+    @Test
+    void testRoundTrip() throws IOException {
+        final var employee = MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name("Zo\u00eb \u00c5ngstr\u00f6m")
+                .salary(5000)
+                .age(30)
+                .title("Software Engineer")
+                .email("zoe@company.com")
+                .build();
+        final var empty = employee.toBuilder().name("").build();
+
+        final var buffer = encode(employee, empty);
+
+        assertEquals(employee, EmployeeRecords.read(buffer));
+        assertEquals(empty, EmployeeRecords.read(buffer));
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    void testNullFieldsRoundTrip() throws IOException {
+        final var blank = new MockEmployee(null, null, null, null, null, null);
+        final var zero = new MockEmployee(UUID.randomUUID(), "Employee 1", 0, 0, null, null);
+
+        final var buffer = encode(blank, zero);
+
+        assertEquals(blank, EmployeeRecords.read(buffer));
+        assertEquals(zero, EmployeeRecords.read(buffer));
+    }
+}
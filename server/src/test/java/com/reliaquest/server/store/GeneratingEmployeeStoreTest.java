@@ -0,0 +1,160 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.config.ServerConfiguration;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+
+class GeneratingEmployeeStoreTest {
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(5000)
+                .age(30)
+                .title("Software Engineer")
+                .build();
+    }
+
+    private static Stream<MockEmployee> generated(int count) {
+        return IntStream.range(0, count).mapToObj(i -> employee("Generated " + i));
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Timed out waiting for the generator");
+            Thread.sleep(1);
+        }
+    }
+
+    private static EmployeeStore indexed() {
+        return new IndexedEmployeeStore(new HeapEmployeeStore(new ArrayList<>()));
+    }
+
+    @Test
+    void testGeneratesTargetThenReportsReady() throws Exception {
+        // Each permit lets the generator produce one more employee
+        final var permits = new Semaphore(0);
+        final var store = GeneratingEmployeeStore.start(
+                indexed(),
+                () -> generated(100).peek(employee -> permits.acquireUninterruptibly()),
+                100,
+                30);
+        final HealthIndicator readiness = new ServerConfiguration().rosterHealthIndicator(store);
+
+        permits.release(40);
+        await(() -> store.generated() == 30);
+        assertEquals(GeneratingEmployeeStore.Status.GENERATING, store.status());
+        assertEquals(Status.OUT_OF_SERVICE, readiness.health().getStatus());
+        // Reads see the chunks added so far, never a partial chunk
+        assertEquals(30, store.size());
+        assertEquals(30, store.findAll().size());
+
+        permits.release(60);
+        await(() -> store.status() != GeneratingEmployeeStore.Status.GENERATING);
+        assertEquals(GeneratingEmployeeStore.Status.COMPLETE, store.status());
+        assertEquals(100, store.generated());
+        assertEquals(100, store.size());
+        assertEquals(100, store.findBySalaryBetween(5000, 5000).size());
+        final var health = readiness.health();
+        assertEquals(Status.UP, health.getStatus());
+        assertEquals(100, health.getDetails().get("employees"));
+        assertEquals(100, health.getDetails().get("target"));
+        store.close();
+    }
+
+    @Test
+    void testWritesWhileGeneratingAreKept() throws Exception {
+        final var permits = new Semaphore(0);
+        final var store = GeneratingEmployeeStore.start(
+                indexed(),
+                () -> generated(100).peek(employee -> permits.acquireUninterruptibly()),
+                100,
+                10);
+        permits.release(25);
+        await(() -> store.generated() == 20);
+
+        final var created = employee("Created");
+        store.add(created);
+        assertEquals("Generated 3", store.removeFirstByName("Generated 3").orElseThrow().getName());
+
+        permits.release(75);
+        await(() -> store.status() == GeneratingEmployeeStore.Status.COMPLETE);
+        assertEquals(100, store.generated());
+        assertEquals(100, store.size());
+        assertEquals(created, store.findById(created.getId()).orElseThrow());
+        assertTrue(store.findAll().stream().noneMatch(e -> e.getName().equals("Generated 3")));
+        store.close();
+    }
+
+    @Test
+    void testConcurrentCreatesAreKept() throws Exception {
+        final var store = GeneratingEmployeeStore.start(indexed(), () -> generated(20_000), 20_000, 100);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            // Creates race the generator and carry on past the point it completes
+            final var creates = new ArrayList<Future<List<MockEmployee>>>();
+            for (int thread = 0; thread < 4; thread++) {
+                final var prefix = "Created " + thread + " ";
+                creates.add(executor.submit(() -> {
+                    final var employees = new ArrayList<MockEmployee>();
+                    for (int i = 0; i < 2_000; i++) {
+                        final var employee = employee(prefix + i);
+                        store.add(employee);
+                        employees.add(employee);
+                    }
+                    return employees;
+                }));
+            }
+            final var employees = new ArrayList<MockEmployee>();
+            for (final var create : creates) {
+                employees.addAll(create.get(10, TimeUnit.SECONDS));
+            }
+            await(() -> store.status() == GeneratingEmployeeStore.Status.COMPLETE);
+
+            assertEquals(20_000, store.generated());
+            assertEquals(20_000 + 8_000, store.size());
+            assertEquals(20_000 + 8_000, store.findAll().size());
+            for (final var employee : employees) {
+                assertEquals(employee, store.findById(employee.getId()).orElseThrow());
+            }
+        } finally {
+            executor.shutdownNow();
+            store.close();
+        }
+    }
+
+    @Test
+    void testFailedGenerationKeepsWhatWasAdded() throws Exception {
+        final Supplier<MockEmployee> failing = () -> {
+            throw new IllegalStateException("Faker failed");
+        };
+        final var store = GeneratingEmployeeStore.start(
+                indexed(), () -> Stream.concat(generated(20), Stream.generate(failing)), 100, 10);
+        final HealthIndicator readiness = new ServerConfiguration().rosterHealthIndicator(store);
+
+        await(() -> store.status() != GeneratingEmployeeStore.Status.GENERATING);
+        assertEquals(GeneratingEmployeeStore.Status.FAILED, store.status());
+        assertEquals(Status.DOWN, readiness.health().getStatus());
+        assertEquals(20, store.generated());
+        assertEquals(20, store.size());
+        store.close();
+    }
+}
@@ -0,0 +1,125 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class IndexedEmployeeStoreTest {
+
+    private static final List<String> TITLES = List.of("Software Engineer", "Data Analyst", "Product Manager");
+
+    private static final Comparator<MockEmployee> BY_SALARY_THEN_ID =
+            Comparator.comparing(MockEmployee::getSalary).thenComparing(MockEmployee::getId);
+
+    private static MockEmployee employee(String name, Integer salary, String title) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .age(30)
+                .title(title)
+                .build();
+    }
+
+    private static List<MockEmployee> sorted(List<MockEmployee> employees) {
+        final var sorted = new ArrayList<>(employees);
+        sorted.sort(BY_SALARY_THEN_ID);
+        return sorted;
+    }
+
+    @Test
+    void testEqualSalariesAreOrderedById() {
+        final var store = new IndexedEmployeeStore(new HeapEmployeeStore(new ArrayList<>()));
+        final var employees = new ArrayList<MockEmployee>();
+        for (int i = 0; i < 50; i++) {
+            final var employee = employee("Employee " + i, 5000 + (i % 3) * 1000, "Software Engineer");
+            employees.add(employee);
+            store.add(employee);
+        }
+
+        assertEquals(sorted(employees), store.findBySalaryBetween(0, Integer.MAX_VALUE));
+        assertEquals(sorted(employees), store.findByTitle("software engineer"));
+        assertEquals(
+                sorted(employees.stream().filter(e -> e.getSalary() == 6000).toList()),
+                store.findBySalaryBetween(6000, 6000));
+    }
+
+    @Test
+    void testRemoveFirstByNameKeepsIndexesConsistent() {
+        final var store = new IndexedEmployeeStore(new HeapEmployeeStore(new ArrayList<>()));
+        final var random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            // Few distinct names and salaries, so removes hit duplicates and ties
+            final var name = "Employee " + random.nextInt(100);
+            if (random.nextInt(3) == 0) {
+                store.removeFirstByName(name);
+            } else {
+                store.add(employee(name, 1000 * random.nextInt(10), TITLES.get(random.nextInt(TITLES.size()))));
+            }
+        }
+
+        final var live = store.findAll();
+        assertEquals(sorted(live), store.findBySalaryBetween(Integer.MIN_VALUE, Integer.MAX_VALUE));
+        assertEquals(
+                sorted(live.stream()
+                        .filter(e -> e.getSalary() >= 3000 && e.getSalary() <= 5000)
+                        .toList()),
+                store.findBySalaryBetween(3000, 5000));
+        for (final var title : TITLES) {
+            assertEquals(
+                    sorted(live.stream().filter(e -> e.getTitle().equals(title)).toList()),
+                    store.findByTitle(title));
+        }
+    }
+
+    @Test
+    void testRemoveDuplicateNameUnindexesOnlyTheRemovedEmployee() {
+        final var store = new IndexedEmployeeStore(new HeapEmployeeStore(new ArrayList<>()));
+        final var first = employee("Jane Doe", 5000, "Data Analyst");
+        final var second = employee("Jane Doe", 5000, "Data Analyst");
+        store.add(first);
+        store.add(second);
+
+        assertEquals(first, store.removeFirstByName("jane doe").orElseThrow());
+
+        assertEquals(List.of(second), store.findBySalaryBetween(5000, 5000));
+        assertEquals(List.of(second), store.findByTitle("Data Analyst"));
+    }
+
+    @Test
+    void testLastEmployeeOfTitleRemoved() {
+        final var store = new IndexedEmployeeStore(new HeapEmployeeStore(new ArrayList<>()));
+        store.add(employee("Employee 1", 5000, "  Data Analyst "));
+
+        assertEquals(1, store.findByTitle("data analyst").size());
+        store.removeFirstByName("Employee 1");
+
+        assertEquals(List.of(), store.findByTitle("data analyst"));
+        assertEquals(List.of(), store.findBySalaryBetween(0, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void testMissingSalaryOrTitleIsNotIndexed() {
+        final var existing = new ArrayList<MockEmployee>();
+        existing.add(employee("No Salary", null, "Data Analyst"));
+        existing.add(employee("No Title", 5000, null));
+        // Indexes what the delegate already holds
+        final var store = new IndexedEmployeeStore(new HeapEmployeeStore(existing));
+
+        assertEquals(List.of(existing.get(1)), store.findBySalaryBetween(Integer.MIN_VALUE, Integer.MAX_VALUE));
+        assertEquals(List.of(existing.get(0)), store.findByTitle("Data Analyst"));
+        assertEquals(List.of(), store.findByTitle(null));
+        assertEquals(List.of(), store.findBySalaryBetween(6000, 5000));
+
+        store.removeFirstByName("No Salary");
+        store.removeFirstByName("No Title");
+        assertEquals(List.of(), store.findByTitle("Data Analyst"));
+        assertEquals(List.of(), store.findBySalaryBetween(Integer.MIN_VALUE, Integer.MAX_VALUE));
+    }
+}
@@ -0,0 +1,143 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class OffHeapEmployeeStoreTest {
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(5000)
+                .age(30)
+                .title("Software Engineer")
+                .email(name == null ? null : name.toLowerCase().replace(' ', '.') + "@company.com")
+                .build();
+    }
+
+    @Test
+    void testAddAndFindById() {
+        final var store = new OffHeapEmployeeStore(16);
+        final var employee = employee("Employee 1");
+
+        store.add(employee);
+
+        assertEquals(employee, store.findById(employee.getId()).orElseThrow());
+        assertTrue(store.findById(UUID.randomUUID()).isEmpty());
+        assertTrue(store.findById(null).isEmpty());
+        assertEquals(1, store.size());
+        assertEquals(1, store.version());
+    }
+
+    @Test
+    void testNullFieldsRoundTrip() {
+        final var store = new OffHeapEmployeeStore(16);
+        final var blank = new MockEmployee(null, null, null, null, null, null);
+        final var noName = employee(null);
+
+        store.add(blank);
+        store.add(noName);
+
+        assertEquals(List.of(blank, noName), store.findAll());
+        assertEquals(noName, store.findById(noName.getId()).orElseThrow());
+        // A missing name never matches, not even the literal "null"
+        assertTrue(store.removeFirstByName("null").isEmpty());
+        assertEquals(2, store.size());
+    }
+
+    @Test
+    void testGrowthKeepsEveryEmployee() {
+        final var store = new OffHeapEmployeeStore(1);
+        final var employees = new ArrayList<MockEmployee>();
+        for (int i = 0; i < 5000; i++) {
+            // Long titles outgrow the string arena sized for the initial capacity
+            final var employee = employee("Employee " + i).toBuilder()
+                    .title("Title " + "x".repeat(i % 300))
+                    .build();
+            employees.add(employee);
+            store.add(employee);
+        }
+
+        assertEquals(5000, store.size());
+        assertEquals(employees, store.findAll());
+        for (final var employee : employees) {
+            assertEquals(employee, store.findById(employee.getId()).orElseThrow());
+        }
+    }
+
+    @Test
+    void testCompactionKeepsLiveEmployees() {
+        final var store = new OffHeapEmployeeStore(16);
+        final var employees = new ArrayList<MockEmployee>();
+        for (int i = 0; i < 3000; i++) {
+            final var employee = employee("Employee " + i);
+            employees.add(employee);
+            store.add(employee);
+        }
+
+        // Removing every even employee crosses the half tombstones threshold and compacts the records
+        final var removed = new ArrayList<MockEmployee>();
+        for (int i = 0; i < 3000; i += 2) {
+            removed.add(store.removeFirstByName("EMPLOYEE " + i).orElseThrow());
+        }
+        final var added = employee("Employee after compaction");
+        store.add(added);
+
+        final var expected = new ArrayList<MockEmployee>();
+        for (int i = 1; i < 3000; i += 2) {
+            expected.add(employees.get(i));
+        }
+        expected.add(added);
+        assertEquals(expected, store.findAll());
+        assertEquals(expected.size(), store.size());
+        for (final var employee : expected) {
+            assertEquals(employee, store.findById(employee.getId()).orElseThrow());
+        }
+        for (final var employee : removed) {
+            assertTrue(store.findById(employee.getId()).isEmpty());
+        }
+        assertEquals(3000 + 1500 + 1, store.version());
+    }
+
+    @Test
+    void testRemoveFirstByName_DuplicateNamesInInsertionOrder() {
+        final var store = new OffHeapEmployeeStore(16);
+        final var first = employee("Jane Doe");
+        final var other = employee("John Doe");
+        final var second = employee("jane doe");
+        store.add(first);
+        store.add(other);
+        store.add(second);
+
+        assertEquals(first, store.removeFirstByName("JANE DOE").orElseThrow());
+        assertEquals(second, store.removeFirstByName("Jane Doe").orElseThrow());
+        assertTrue(store.removeFirstByName("Jane Doe").isEmpty());
+        assertTrue(store.removeFirstByName("Jane Do").isEmpty());
+        assertTrue(store.findById(first.getId()).isEmpty());
+        assertEquals(List.of(other), store.findAll());
+        assertEquals(5, store.version());
+    }
+
+    @Test
+    void testRemoveFirstByName_NonAsciiNames() {
+        final var store = new OffHeapEmployeeStore(16);
+        final var accented = employee("Zo\u00eb \u00c5ngstr\u00f6m");
+        final var greek = employee("\u03a3\u03c9\u03ba\u03c1\u03ac\u03c4\u03b7\u03c2");
+        final var ascii = employee("Zoe Angstrom");
+        store.add(accented);
+        store.add(greek);
+        store.add(ascii);
+
+        assertEquals(ascii, store.removeFirstByName("zoe angstrom").orElseThrow());
+        assertEquals(greek, store.findById(greek.getId()).orElseThrow());
+        assertEquals(greek, store.removeFirstByName("\u03a3\u03a9\u039a\u03a1\u0386\u03a4\u0397\u03a3").orElseThrow());
+        assertEquals(accented, store.removeFirstByName("ZO\u00cb \u00c5NGSTR\u00d6M").orElseThrow());
+        assertEquals(0, store.size());
+    }
+}
@@ -0,0 +1,185 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * A crash is simulated by abandoning a store without closing it, so nothing is written after the last log append,
+ * and opening the same directory again.
+ */
+class PersistentEmployeeStoreTest {
+
+    private static final Supplier<Stream<MockEmployee>> NO_SEED = () -> {
+        throw new AssertionError("The roster must be restored, not seeded");
+    };
+
+    @TempDir
+    Path directory;
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(5000)
+                .age(30)
+                .title("Software Engineer")
+                .email(name.toLowerCase().replace(' ', '.') + "@company.com")
+                .build();
+    }
+
+    private static List<MockEmployee> seed(int size) {
+        return IntStream.range(0, size).mapToObj(i -> employee("Seeded " + i)).toList();
+    }
+
+    private PersistentEmployeeStore open(Supplier<Stream<MockEmployee>> seed) throws IOException {
+        return PersistentEmployeeStore.open(
+                new HeapEmployeeStore(new ArrayList<>()), directory, false, Duration.ofHours(1), seed);
+    }
+
+    private List<String> files() throws IOException {
+        try (var files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString()).sorted().toList();
+        }
+    }
+
+    @Test
+    void testSeedsOnceThenRestoresAfterRestart() throws IOException {
+        final var seeded = seed(3);
+        final var added = employee("Employee 1");
+        try (var store = open(seeded::stream)) {
+            assertEquals(seeded, store.findAll());
+            assertEquals(List.of("roster-1.wal", "roster.snapshot"), files());
+            store.add(added);
+            store.removeFirstByName("seeded 1");
+        }
+
+        try (var store = open(NO_SEED)) {
+            assertEquals(List.of(seeded.get(0), seeded.get(2), added), store.findAll());
+            assertEquals(added, store.findById(added.getId()).orElseThrow());
+        }
+        // Closing wrote generation 2, whose log starts empty
+        assertEquals(List.of("roster-2.wal", "roster.snapshot"), files());
+    }
+
+    @Test
+    void testCloseWithoutWritesKeepsGeneration() throws IOException {
+        final var seeded = seed(2);
+        open(seeded::stream).close();
+        open(NO_SEED).close();
+
+        assertEquals(List.of("roster-1.wal", "roster.snapshot"), files());
+        try (var store = open(NO_SEED)) {
+            assertEquals(seeded, store.findAll());
+        }
+    }
+
+    @Test
+    void testReplaysLogAfterCrash() throws IOException {
+        final var seeded = seed(3);
+        final var first = employee("Employee 1");
+        final var second = employee("Employee 2");
+        final var crashed = open(seeded::stream);
+        crashed.add(first);
+        crashed.removeFirstByName("Seeded 0");
+        crashed.add(second);
+        crashed.removeFirstByName("Employee 1");
+        crashed.removeFirstByName("Nobody");
+
+        try (var store = open(NO_SEED)) {
+            assertEquals(List.of(seeded.get(1), seeded.get(2), second), store.findAll());
+        }
+    }
+
+    @Test
+    void testTruncatedLastFrameIsDroppedAfterCrash() throws IOException {
+        final var seeded = seed(2);
+        final var first = employee("Employee 1");
+        final var crashed = open(seeded::stream);
+        crashed.add(first);
+        crashed.add(employee("Employee 2"));
+        // The crash tore the second append
+        try (var file = new RandomAccessFile(directory.resolve("roster-1.wal").toFile(), "rw")) {
+            file.setLength(file.length() - 3);
+        }
+
+        final var third = employee("Employee 3");
+        final var restarted = open(NO_SEED);
+        assertEquals(List.of(seeded.get(0), seeded.get(1), first), restarted.findAll());
+        restarted.add(third);
+
+        // Appends after the truncation replay cleanly after the next crash
+        try (var store = open(NO_SEED)) {
+            assertEquals(List.of(seeded.get(0), seeded.get(1), first, third), store.findAll());
+        }
+    }
+
+    @Test
+    void testCrashBetweenSnapshotAndNextLog() throws IOException {
+        final var seeded = seed(2);
+        final var first = employee("Employee 1");
+        final var crashed = open(seeded::stream);
+        crashed.add(first);
+        crashed.removeFirstByName("Seeded 0");
+        // Compaction wrote snapshot generation 2, then crashed before roster-2.wal was created
+        RosterSnapshotFile.write(directory.resolve("roster.snapshot"), 2, crashed);
+        assertEquals(List.of("roster-1.wal", "roster.snapshot"), files());
+
+        final var second = employee("Employee 2");
+        final var restarted = open(NO_SEED);
+        // roster-1.wal is already part of snapshot 2, replaying it again would duplicate Employee 1
+        assertEquals(List.of(seeded.get(1), first), restarted.findAll());
+        assertEquals(List.of("roster-2.wal", "roster.snapshot"), files());
+        restarted.add(second);
+
+        try (var store = open(NO_SEED)) {
+            assertEquals(List.of(seeded.get(1), first, second), store.findAll());
+        }
+    }
+
+    @Test
+    void testStaleLogsAreDeletedOnStartup() throws IOException {
+        final var seeded = seed(2);
+        try (var store = open(seeded::stream)) {
+            store.removeFirstByName("Seeded 0");
+        }
+        // Left behind by a crash after roster-2.wal was started but before roster-1.wal was deleted
+        Files.write(directory.resolve("roster-1.wal"), new byte[] {1, 2, 3});
+        Files.write(directory.resolve("roster-7.wal"), new byte[0]);
+        Files.write(directory.resolve("notes.txt"), new byte[0]);
+
+        try (var store = open(NO_SEED)) {
+            assertEquals(List.of(seeded.get(1)), store.findAll());
+        }
+
+        assertEquals(List.of("notes.txt", "roster-2.wal", "roster.snapshot"), files());
+    }
+
+    @Test
+    void testCorruptSnapshotFailsStartup() throws IOException {
+        open(seed(10)::stream).close();
+        try (var file = new RandomAccessFile(directory.resolve("roster.snapshot").toFile(), "rw")) {
+            file.seek(32);
+            final var value = file.read();
+            file.seek(32);
+            file.write(value ^ 0xFF);
+        }
+
+        // Reseeding would silently replace the persisted roster
+        final var exception = assertThrows(IOException.class, () -> open(NO_SEED));
+        assertTrue(exception.getMessage().contains("checksum"));
+    }
+}
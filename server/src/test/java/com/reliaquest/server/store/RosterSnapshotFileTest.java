@@ -0,0 +1,104 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RosterSnapshotFileTest {
+
+    @TempDir
+    Path directory;
+
+    private static EmployeeStore roster(int size) {
+        final var store = new HeapEmployeeStore(new ArrayList<>());
+        for (int i = 0; i < size; i++) {
+            store.add(MockEmployee.builder()
+                    .id(UUID.randomUUID())
+                    .name("Employee " + i)
+                    .salary(5000 + i)
+                    .age(30)
+                    .title(i % 2 == 0 ? "Software Engineer" : null)
+                    .email("employee" + i + "@company.com")
+                    .build());
+        }
+        return store;
+    }
+
+    @Test
+    void testWriteAndLoad() throws IOException {
+        final var snapshot = directory.resolve("roster.snapshot");
+        final var store = roster(100);
+
+        RosterSnapshotFile.write(snapshot, 7, store);
+        final var loaded = new ArrayList<MockEmployee>();
+        final var generation = RosterSnapshotFile.load(snapshot, loaded::add);
+
+        assertEquals(7, generation);
+        assertEquals(store.findAll(), loaded);
+        assertFalse(Files.exists(directory.resolve("roster.snapshot.tmp")));
+    }
+
+    @Test
+    void testEmptyRoster() throws IOException {
+        final var snapshot = directory.resolve("roster.snapshot");
+
+        RosterSnapshotFile.write(snapshot, 1, roster(0));
+
+        assertEquals(1, RosterSnapshotFile.load(snapshot, employee -> fail("No employee expected")));
+    }
+
+    @Test
+    void testOverwriteReplacesPreviousGeneration() throws IOException {
+        final var snapshot = directory.resolve("roster.snapshot");
+        RosterSnapshotFile.write(snapshot, 1, roster(10));
+        final var store = roster(3);
+
+        RosterSnapshotFile.write(snapshot, 2, store);
+        final var loaded = new ArrayList<MockEmployee>();
+
+        assertEquals(2, RosterSnapshotFile.load(snapshot, loaded::add));
+        assertEquals(store.findAll(), loaded);
+    }
+
+    @Test
+    void testChecksumMismatchIsRejected() throws IOException {
+        final var snapshot = directory.resolve("roster.snapshot");
+        RosterSnapshotFile.write(snapshot, 1, roster(10));
+        try (var file = new RandomAccessFile(snapshot.toFile(), "rw")) {
+            file.seek(40);
+            final var value = file.read();
+            file.seek(40);
+            file.write(value ^ 0xFF);
+        }
+
+        final var exception =
+                assertThrows(IOException.class, () -> RosterSnapshotFile.load(snapshot, employee -> {}));
+        assertTrue(exception.getMessage().contains("checksum"));
+    }
+
+    @Test
+    void testTruncatedOrForeignFileIsRejected() throws IOException {
+        final var truncated = directory.resolve("truncated.snapshot");
+        RosterSnapshotFile.write(truncated, 1, roster(10));
+        try (var file = new RandomAccessFile(truncated.toFile(), "rw")) {
+            file.setLength(file.length() - 4);
+        }
+        final var foreign = directory.resolve("foreign.snapshot");
+        Files.write(foreign, new byte[64]);
+        final var empty = directory.resolve("empty.snapshot");
+        Files.write(empty, new byte[0]);
+
+        for (final var snapshot : List.of(truncated, foreign, empty)) {
+            assertThrows(IOException.class, () -> RosterSnapshotFile.load(snapshot, employee -> {}));
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class WriteAheadLogTest {
+
+    @TempDir
+    Path directory;
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(5000)
+                .age(30)
+                .title("Software Engineer")
+                .email(name.toLowerCase().replace(' ', '.') + "@company.com")
+                .build();
+    }
+
+    private static HeapEmployeeStore replay(Path path) throws IOException {
+        final var store = new HeapEmployeeStore(new ArrayList<>());
+        try (var writeAheadLog = WriteAheadLog.open(path, false)) {
+            writeAheadLog.replay(store);
+        }
+        return store;
+    }
+
+    @Test
+    void testReplayAppliesCreatesAndDeletesInOrder() throws IOException {
+        final var path = directory.resolve("roster-1.wal");
+        final var first = employee("Employee 1");
+        final var second = employee("Employee 2");
+        final var third = employee("Employee 1");
+        try (var writeAheadLog = WriteAheadLog.open(path, true)) {
+            writeAheadLog.appendCreate(first);
+            writeAheadLog.appendCreate(second);
+            writeAheadLog.appendCreate(third);
+            writeAheadLog.appendDelete("employee 1");
+            writeAheadLog.appendDelete("Nobody");
+            assertEquals(5, writeAheadLog.getEntries());
+        }
+
+        final var store = new HeapEmployeeStore(new ArrayList<>());
+        try (var writeAheadLog = WriteAheadLog.open(path, false)) {
+            assertEquals(5, writeAheadLog.replay(store));
+            assertEquals(5, writeAheadLog.getEntries());
+        }
+        assertEquals(List.of(second, third), store.findAll());
+    }
+
+    @Test
+    void testReplayTruncatesTornLastEntry() throws IOException {
+        final var path = directory.resolve("roster-1.wal");
+        final var first = employee("Employee 1");
+        final var second = employee("Employee 2");
+        try (var writeAheadLog = WriteAheadLog.open(path, false)) {
+            writeAheadLog.appendCreate(first);
+            writeAheadLog.appendCreate(second);
+        }
+        final var intact = Files.size(path);
+        try (var writeAheadLog = WriteAheadLog.open(path, false)) {
+            writeAheadLog.replay(new HeapEmployeeStore(new ArrayList<>()));
+            writeAheadLog.appendCreate(employee("Employee 3"));
+        }
+        // A crash in the middle of the third append leaves only part of its frame behind
+        try (var file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.setLength(file.length() - 5);
+        }
+
+        final var fourth = employee("Employee 4");
+        final var store = new HeapEmployeeStore(new ArrayList<>());
+        try (var writeAheadLog = WriteAheadLog.open(path, false)) {
+            assertEquals(2, writeAheadLog.replay(store));
+            assertEquals(intact, Files.size(path));
+            writeAheadLog.appendCreate(fourth);
+        }
+
+        assertEquals(List.of(first, second), store.findAll());
+        assertEquals(List.of(first, second, fourth), replay(path).findAll());
+    }
+
+    @Test
+    void testReplayStopsAtChecksumMismatch() throws IOException {
+        final var path = directory.resolve("roster-1.wal");
+        final var first = employee("Employee 1");
+        try (var writeAheadLog = WriteAheadLog.open(path, false)) {
+            writeAheadLog.appendCreate(first);
+        }
+        final var firstEnd = Files.size(path);
+        try (var writeAheadLog = WriteAheadLog.open(path, false)) {
+            writeAheadLog.replay(new HeapEmployeeStore(new ArrayList<>()));
+            writeAheadLog.appendCreate(employee("Employee 2"));
+            writeAheadLog.appendCreate(employee("Employee 3"));
+        }
+        // Flip a byte inside the payload of the second entry
+        try (var file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.seek(firstEnd + 12);
+            final var value = file.read();
+            file.seek(firstEnd + 12);
+            file.write(value ^ 0xFF);
+        }
+
+        final var store = new HeapEmployeeStore(new ArrayList<>());
+        try (var writeAheadLog = WriteAheadLog.open(path, false)) {
+            assertEquals(1, writeAheadLog.replay(store));
+        }
+
+        assertEquals(List.of(first), store.findAll());
+        assertEquals(firstEnd, Files.size(path));
+    }
+
+    @Test
+    void testDeleteRemovesFile() throws IOException {
+        final var path = directory.resolve("roster-1.wal");
+        final var writeAheadLog = WriteAheadLog.open(path, false);
+        writeAheadLog.appendDelete("Employee 1");
+
+        writeAheadLog.delete();
+
+        assertFalse(Files.exists(path));
+    }
+}
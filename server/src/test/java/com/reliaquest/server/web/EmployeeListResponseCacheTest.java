@@ -0,0 +1,66 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.MockEmployee;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+class EmployeeListResponseCacheTest {
+
+    private final List<MockEmployee> employees = List.of(MockEmployee.builder()
+            .id(UUID.randomUUID())
+            .name("Jane Doe")
+            .salary(5000)
+            .age(30)
+            .title("Data Analyst")
+            .build());
+
+    @Test
+    void testAcceptsGzip() {
+        assertTrue(EmployeeListResponseCache.acceptsGzip("gzip"));
+        assertTrue(EmployeeListResponseCache.acceptsGzip("br, GZIP;q=0.5"));
+        assertTrue(EmployeeListResponseCache.acceptsGzip("x-gzip"));
+        assertTrue(EmployeeListResponseCache.acceptsGzip("deflate, *;q=0.1"));
+        assertTrue(EmployeeListResponseCache.acceptsGzip("*;q=0, gzip"));
+
+        assertFalse(EmployeeListResponseCache.acceptsGzip(null));
+        assertFalse(EmployeeListResponseCache.acceptsGzip(""));
+        assertFalse(EmployeeListResponseCache.acceptsGzip("identity"));
+        assertFalse(EmployeeListResponseCache.acceptsGzip("gzip;q=0"));
+        assertFalse(EmployeeListResponseCache.acceptsGzip("gzip;q=0.0, deflate"));
+        assertFalse(EmployeeListResponseCache.acceptsGzip("gzip;q=invalid"));
+        assertFalse(EmployeeListResponseCache.acceptsGzip("*, gzip;q=0"));
+        assertFalse(EmployeeListResponseCache.acceptsGzip("gzipped"));
+    }
+
+    @Test
+    void testGzippedOnlyWhenAccepted() throws IOException {
+        final var cache = new EmployeeListResponseCache(new ObjectMapper(), true);
+
+        final var plain = cache.response(() -> 1, () -> employees, "gzip;q=0");
+        assertNull(plain.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, plain.getHeaders().getFirst(HttpHeaders.VARY));
+
+        final var gzipped = cache.response(() -> 1, () -> employees, "gzip");
+        assertEquals("gzip", gzipped.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        try (final var in = new GZIPInputStream(new ByteArrayInputStream(gzipped.getBody()))) {
+            assertArrayEquals(plain.getBody(), in.readAllBytes());
+        }
+    }
+
+    @Test
+    void testNoGzippedCopyWhenDisabled() {
+        final var cache = new EmployeeListResponseCache(new ObjectMapper(), false);
+
+        final var response = cache.response(() -> 1, () -> employees, "gzip");
+
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    }
+}
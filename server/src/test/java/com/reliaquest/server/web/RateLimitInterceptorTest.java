@@ -0,0 +1,65 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.ratelimit.ClientKeys;
+import com.reliaquest.server.ratelimit.RateLimiter;
+import com.reliaquest.server.ratelimit.TokenBucketRateLimiter;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RateLimitInterceptorTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong(123_456_789L);
+
+    private MockHttpServletResponse handle(RateLimitInterceptor interceptor, String remoteAddress) {
+        final var request = new MockHttpServletRequest("GET", "/api/v1/employee");
+        request.setRemoteAddr(remoteAddress);
+        final var response = new MockHttpServletResponse();
+        final var allowed = interceptor.preHandle(request, response, new Object());
+        assertEquals(allowed, response.getStatus() == 200);
+        return response;
+    }
+
+    @Test
+    void testRejectsWithRetryAfterUntilRefilled() {
+        final var interceptor = new RateLimitInterceptor(
+                new TokenBucketRateLimiter(2, Duration.ofSeconds(10), 100),
+                ClientKeys.of(ClientKeys.IP, null),
+                clock::get);
+
+        assertEquals(200, handle(interceptor, "10.0.0.1").getStatus());
+        assertEquals(200, handle(interceptor, "10.0.0.1").getStatus());
+        final var rejected = handle(interceptor, "10.0.0.1");
+        assertEquals(429, rejected.getStatus());
+        assertEquals("5", rejected.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(200, handle(interceptor, "10.0.0.2").getStatus());
+
+        clock.addAndGet(3 * SECOND + SECOND / 2);
+        assertEquals("2", handle(interceptor, "10.0.0.1").getHeader(HttpHeaders.RETRY_AFTER));
+
+        clock.addAndGet(SECOND + SECOND / 2);
+        assertEquals(200, handle(interceptor, "10.0.0.1").getStatus());
+    }
+
+    @Test
+    void testRetryAfterRoundsUpToWholeSeconds() {
+        final var retryAfter = new AtomicLong();
+        final RateLimiter rateLimiter = (key, nowNanos) -> RateLimiter.Decision.deny(retryAfter.get());
+        final var interceptor = new RateLimitInterceptor(rateLimiter, request -> "client", clock::get);
+
+        retryAfter.set(1);
+        assertEquals("1", handle(interceptor, "10.0.0.1").getHeader(HttpHeaders.RETRY_AFTER));
+        retryAfter.set(SECOND);
+        assertEquals("1", handle(interceptor, "10.0.0.1").getHeader(HttpHeaders.RETRY_AFTER));
+        retryAfter.set(SECOND + 1);
+        assertEquals("2", handle(interceptor, "10.0.0.1").getHeader(HttpHeaders.RETRY_AFTER));
+    }
+}